@@ -0,0 +1,140 @@
+package cs1332.bench;
+
+import cs1332.hw7.AVL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares merging one AVL into another element by element with the
+ * join-based set operations. The base tree holds the even keys below
+ * {@code 2 * size}; the other tree holds {@code otherSize} random keys from
+ * the same range, so about half of them are already in the base. The set
+ * operations take their inputs apart, so both trees are rebuilt before every
+ * invocation and that time is not measured.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AVLSetOperationBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    @Param({"1000", "100000"})
+    private int otherSize;
+
+    private Integer[] baseKeys;
+    private Integer[] otherKeys;
+    private AVL<Integer> base;
+    private AVL<Integer> other;
+
+    /**
+     * Generates the keys of both trees.
+     */
+    @Setup
+    public void setupKeys() {
+        baseKeys = KeyDistribution.RANDOM.boxedKeys(size);
+        for (int i = 0; i < size; i++) {
+            baseKeys[i] = 2 * baseKeys[i];
+        }
+        Integer[] shuffled = KeyDistribution.RANDOM.boxedKeys(2 * size);
+        otherKeys = new Integer[otherSize];
+        System.arraycopy(shuffled, 0, otherKeys, 0, otherSize);
+    }
+
+    /**
+     * Rebuilds both trees.
+     */
+    @Setup(Level.Invocation)
+    public void setupTrees() {
+        base = new AVL<>();
+        for (Integer key : baseKeys) {
+            base.add(key);
+        }
+        other = new AVL<>();
+        for (Integer key : otherKeys) {
+            other.add(key);
+        }
+    }
+
+    /**
+     * Merges the other tree in with one add per element.
+     *
+     * @return the merged tree
+     */
+    @Benchmark
+    public AVL<Integer> addEach() {
+        for (Integer key : other) {
+            base.add(key);
+        }
+        return base;
+    }
+
+    /**
+     * Merges the other tree in with a union.
+     *
+     * @return the merged tree
+     */
+    @Benchmark
+    public AVL<Integer> union() {
+        base.union(other);
+        return base;
+    }
+
+    /**
+     * Keeps the keys in both trees with a contains per element of the base
+     * and a rebuild.
+     *
+     * @return the intersected tree
+     */
+    @Benchmark
+    public AVL<Integer> retainEach() {
+        AVL<Integer> kept = new AVL<>();
+        for (Integer key : base) {
+            if (other.contains(key)) {
+                kept.add(key);
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Keeps the keys in both trees with an intersection.
+     *
+     * @return the intersected tree
+     */
+    @Benchmark
+    public AVL<Integer> intersection() {
+        base.intersection(other);
+        return base;
+    }
+
+    /**
+     * Removes the other tree's keys with a split and a join per key.
+     *
+     * @return the remaining tree
+     */
+    @Benchmark
+    public AVL<Integer> difference() {
+        base.difference(other);
+        return base;
+    }
+}
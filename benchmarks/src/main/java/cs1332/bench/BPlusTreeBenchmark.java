@@ -0,0 +1,135 @@
+package cs1332.bench;
+
+import cs1332.hw7.AVL;
+import cs1332.hw7.BPlusTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares point and range lookups in BPlusTree and AVL. Both trees hold
+ * the same {@code size} random keys; every operation looks up the next key
+ * in a fixed random order, so once the trees outgrow the CPU caches most
+ * levels of the walk miss. Change the fanout with {@code -p order=...}.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BPlusTreeBenchmark {
+
+    private static final int RANGE_LENGTH = 100;
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    @Param({"64"})
+    private int order;
+
+    private Integer[] keys;
+    private Integer[] lookups;
+    private AVL<Integer> avl;
+    private BPlusTree<Integer> bPlusTree;
+    private int next;
+
+    /**
+     * Fills both trees and shuffles the lookup order independently of the
+     * insertion order.
+     */
+    @Setup
+    public void setup() {
+        keys = KeyDistribution.RANDOM.boxedKeys(size);
+        avl = new AVL<>();
+        bPlusTree = new BPlusTree<>(order);
+        for (Integer key : keys) {
+            avl.add(key);
+            bPlusTree.add(key);
+        }
+        lookups = KeyDistribution.RANDOM.boxedKeys(size,
+            KeyDistribution.LOOKUP_SEED);
+    }
+
+    /**
+     * Returns the next key to look up.
+     *
+     * @return a key in the trees
+     */
+    private Integer nextKey() {
+        Integer key = lookups[next];
+        next = next + 1 == lookups.length ? 0 : next + 1;
+        return key;
+    }
+
+    /**
+     * Looks up one key in the AVL.
+     *
+     * @return whether the key was found
+     */
+    @Benchmark
+    public boolean avlContains() {
+        return avl.contains(nextKey());
+    }
+
+    /**
+     * Looks up one key in the B+-tree.
+     *
+     * @return whether the key was found
+     */
+    @Benchmark
+    public boolean bPlusTreeContains() {
+        return bPlusTree.contains(nextKey());
+    }
+
+    /**
+     * Reads up to RANGE_LENGTH keys from a random starting point in the
+     * AVL.
+     *
+     * @param blackhole consumes the keys
+     */
+    @Benchmark
+    public void avlRange(Blackhole blackhole) {
+        consumeRange(avl.range(nextKey(), Integer.MAX_VALUE), blackhole);
+    }
+
+    /**
+     * Reads up to RANGE_LENGTH keys from a random starting point in the
+     * B+-tree.
+     *
+     * @param blackhole consumes the keys
+     */
+    @Benchmark
+    public void bPlusTreeRange(Blackhole blackhole) {
+        consumeRange(bPlusTree.range(nextKey(), Integer.MAX_VALUE),
+            blackhole);
+    }
+
+    /**
+     * Reads up to RANGE_LENGTH keys from an iterator.
+     *
+     * @param range     the iterator to read
+     * @param blackhole consumes the keys
+     */
+    private static void consumeRange(Iterator<Integer> range,
+                                     Blackhole blackhole) {
+        for (int i = 0; i < RANGE_LENGTH && range.hasNext(); i++) {
+            blackhole.consume(range.next());
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package cs1332.bench;
+
+import cs1332.hw7.AVL;
+import cs1332.hw7.RedBlackTree;
+import cs1332.hw7.Treap;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares AVL, RedBlackTree and Treap holding the same {@code size} keys.
+ * An update removes the next key and adds it back, so the trees stay the
+ * same size; a lookup searches for the next key in a random order drawn
+ * independently of the insertion order.
+ * The {@code rotations} counter reports rotations per second next to the
+ * throughput, so dividing the two gives rotations per update.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BalancedTreeBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"RANDOM", "SEQUENTIAL"})
+    private KeyDistribution distribution;
+
+    private Integer[] keys;
+    private Integer[] lookups;
+    private AVL<Integer> avl;
+    private RedBlackTree<Integer> redBlackTree;
+    private Treap<Integer> treap;
+    private int nextUpdate;
+    private int nextLookup;
+
+    /**
+     * Counts the rotations done by the update benchmarks.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rotations {
+        public long rotations;
+
+        /**
+         * Clears the count before each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            rotations = 0;
+        }
+    }
+
+    /**
+     * Fills the trees in {@code distribution} order.
+     */
+    @Setup
+    public void setup() {
+        keys = distribution.boxedKeys(size);
+        avl = new AVL<>();
+        redBlackTree = new RedBlackTree<>();
+        treap = new Treap<>(1332L);
+        for (Integer key : keys) {
+            avl.add(key);
+            redBlackTree.add(key);
+            treap.add(key);
+        }
+        lookups = KeyDistribution.RANDOM.boxedKeys(size,
+            KeyDistribution.LOOKUP_SEED);
+    }
+
+    /**
+     * Returns the next key to remove and add back.
+     *
+     * @return a key in the trees
+     */
+    private Integer nextUpdateKey() {
+        Integer key = keys[nextUpdate];
+        nextUpdate = nextUpdate + 1 == keys.length ? 0 : nextUpdate + 1;
+        return key;
+    }
+
+    /**
+     * Returns the next key to look up.
+     *
+     * @return a key in the trees
+     */
+    private Integer nextLookupKey() {
+        Integer key = lookups[nextLookup];
+        nextLookup = nextLookup + 1 == lookups.length ? 0 : nextLookup + 1;
+        return key;
+    }
+
+    /**
+     * Removes a key from the AVL and adds it back.
+     *
+     * @param counter counts the rotations
+     */
+    @Benchmark
+    public void avlUpdate(Rotations counter) {
+        long before = avl.getRotationCount();
+        Integer key = nextUpdateKey();
+        avl.remove(key);
+        avl.add(key);
+        counter.rotations += avl.getRotationCount() - before;
+    }
+
+    /**
+     * Removes a key from the red-black tree and adds it back.
+     *
+     * @param counter counts the rotations
+     */
+    @Benchmark
+    public void redBlackTreeUpdate(Rotations counter) {
+        long before = redBlackTree.getRotationCount();
+        Integer key = nextUpdateKey();
+        redBlackTree.remove(key);
+        redBlackTree.add(key);
+        counter.rotations += redBlackTree.getRotationCount() - before;
+    }
+
+    /**
+     * Removes a key from the treap and adds it back.
+     *
+     * @param counter counts the rotations
+     */
+    @Benchmark
+    public void treapUpdate(Rotations counter) {
+        long before = treap.getRotationCount();
+        Integer key = nextUpdateKey();
+        treap.remove(key);
+        treap.add(key);
+        counter.rotations += treap.getRotationCount() - before;
+    }
+
+    /**
+     * Looks up one key in the AVL.
+     *
+     * @return whether the key was found
+     */
+    @Benchmark
+    public boolean avlContains() {
+        return avl.contains(nextLookupKey());
+    }
+
+    /**
+     * Looks up one key in the red-black tree.
+     *
+     * @return whether the key was found
+     */
+    @Benchmark
+    public boolean redBlackTreeContains() {
+        return redBlackTree.contains(nextLookupKey());
+    }
+
+    /**
+     * Looks up one key in the treap.
+     *
+     * @return whether the key was found
+     */
+    @Benchmark
+    public boolean treapContains() {
+        return treap.contains(nextLookupKey());
+    }
+}
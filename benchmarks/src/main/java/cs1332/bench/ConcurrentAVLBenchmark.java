@@ -0,0 +1,130 @@
+package cs1332.bench;
+
+import cs1332.hw7.AVL;
+import cs1332.hw7.ConcurrentAVL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compares ConcurrentAVL with an AVL guarded by a ReentrantReadWriteLock
+ * when three reader threads look up keys while one writer adds and removes
+ * keys. The tree starts with the even keys below {@code size}; the writer
+ * toggles random odd keys, so the tree stays near its starting size.
+ * <p>
+ * Writes to either tree take O(log n) time, so the difference is how
+ * long the locked AVL's readers wait behind the writer and each other.
+ * Each thread needs its own core for the reader scaling to show.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentAVLBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ConcurrentAVL<Integer> concurrentAvl;
+    private AVL<Integer> lockedAvl;
+    private ReentrantReadWriteLock lock;
+
+    /**
+     * Fills both trees with the even keys below {@code size}.
+     */
+    @Setup
+    public void setup() {
+        concurrentAvl = new ConcurrentAVL<>();
+        lockedAvl = new AVL<>();
+        lock = new ReentrantReadWriteLock();
+        for (int i = 0; i < size; i += 2) {
+            concurrentAvl.add(i);
+            lockedAvl.add(i);
+        }
+    }
+
+    /**
+     * Looks up a random key in the ConcurrentAVL.
+     *
+     * @return whether the key was found
+     */
+    @Benchmark
+    @Group("concurrent")
+    @GroupThreads(3)
+    public boolean concurrentRead() {
+        return concurrentAvl.contains(
+            ThreadLocalRandom.current().nextInt(size));
+    }
+
+    /**
+     * Adds or removes a random odd key in the ConcurrentAVL.
+     */
+    @Benchmark
+    @Group("concurrent")
+    @GroupThreads(1)
+    public void concurrentWrite() {
+        Integer key = 2 * ThreadLocalRandom.current().nextInt(size / 2) + 1;
+        if (concurrentAvl.contains(key)) {
+            concurrentAvl.remove(key);
+        } else {
+            concurrentAvl.add(key);
+        }
+    }
+
+    /**
+     * Looks up a random key in the AVL under the read lock.
+     *
+     * @return whether the key was found
+     */
+    @Benchmark
+    @Group("readWriteLock")
+    @GroupThreads(3)
+    public boolean lockedRead() {
+        Integer key = ThreadLocalRandom.current().nextInt(size);
+        lock.readLock().lock();
+        try {
+            return lockedAvl.contains(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or removes a random odd key in the AVL under the write lock.
+     */
+    @Benchmark
+    @Group("readWriteLock")
+    @GroupThreads(1)
+    public void lockedWrite() {
+        Integer key = 2 * ThreadLocalRandom.current().nextInt(size / 2) + 1;
+        lock.writeLock().lock();
+        try {
+            if (lockedAvl.contains(key)) {
+                lockedAvl.remove(key);
+            } else {
+                lockedAvl.add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package cs1332.bench;
+
+import cs1332.hw3.LinkedQueue;
+import cs1332.hw3.LockFreeLinkedQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares LockFreeLinkedQueue with a LinkedQueue guarded by synchronized
+ * blocks when several threads share one queue. Every operation enqueues one
+ * element and then dequeues one, so the queue stays near its starting
+ * {@code size} for the whole run. Change the thread count with {@code -t}.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConcurrentQueueBenchmark {
+
+    private static final Integer ELEMENT = 1332;
+
+    @Param({"0", "1000"})
+    private int size;
+
+    private LockFreeLinkedQueue<Integer> lockFreeQueue;
+    private LinkedQueue<Integer> synchronizedQueue;
+
+    /**
+     * Creates both queues holding {@code size} elements.
+     */
+    @Setup
+    public void setup() {
+        lockFreeQueue = new LockFreeLinkedQueue<>();
+        synchronizedQueue = new LinkedQueue<>();
+        for (int i = 0; i < size; i++) {
+            lockFreeQueue.enqueue(ELEMENT);
+            synchronizedQueue.enqueue(ELEMENT);
+        }
+    }
+
+    /**
+     * Enqueues and then dequeues one element on the lock-free queue.
+     *
+     * @return the dequeued data, or null if another thread emptied the queue
+     */
+    @Benchmark
+    public Integer lockFree() {
+        lockFreeQueue.enqueue(ELEMENT);
+        return lockFreeQueue.poll();
+    }
+
+    /**
+     * Enqueues and then dequeues one element on the synchronized queue.
+     *
+     * @return the dequeued data, or null if another thread emptied the queue
+     */
+    @Benchmark
+    public Integer synchronizedBaseline() {
+        synchronized (synchronizedQueue) {
+            synchronizedQueue.enqueue(ELEMENT);
+        }
+        synchronized (synchronizedQueue) {
+            if (synchronizedQueue.size() == 0) {
+                return null;
+            }
+            return synchronizedQueue.dequeue();
+        }
+    }
+}
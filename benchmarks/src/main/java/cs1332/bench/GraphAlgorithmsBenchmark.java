@@ -0,0 +1,139 @@
+package cs1332.bench;
+
+import cs1332.hw10.Edge;
+import cs1332.hw10.Graph;
+import cs1332.hw10.GraphAlgorithms;
+import cs1332.hw10.Vertex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the hw10 graph algorithms on a random connected, undirected
+ * graph.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss256m")
+public class GraphAlgorithmsBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    /**
+     * The average number of undirected edges per vertex.
+     */
+    @Param({"4"})
+    private int degree;
+
+    /**
+     * The order in which vertices are chained into a spanning path before
+     * random edges are added.
+     */
+    @Param({"SEQUENTIAL", "RANDOM"})
+    private KeyDistribution distribution;
+
+    private Graph<Integer> graph;
+    private Vertex<Integer> start;
+
+    /**
+     * Builds the graph. A path through every vertex keeps it connected, and
+     * the remaining edges join random pairs with random weights.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(KeyDistribution.SEED);
+        List<Vertex<Integer>> vertices = new ArrayList<>(size);
+        for (int key : distribution.keys(size)) {
+            vertices.add(new Vertex<>(key));
+        }
+        Set<Edge<Integer>> edges = new HashSet<>();
+        for (int i = 1; i < size; i++) {
+            addUndirected(edges, vertices.get(i - 1), vertices.get(i),
+                1 + random.nextInt(100));
+        }
+        for (int i = size - 1; i < size * degree; i++) {
+            addUndirected(edges, vertices.get(random.nextInt(size)),
+                vertices.get(random.nextInt(size)), 1 + random.nextInt(100));
+        }
+        graph = new Graph<>(new HashSet<>(vertices), edges);
+        start = vertices.get(0);
+    }
+
+    /**
+     * Adds an edge in both directions.
+     *
+     * @param edges  the edge set
+     * @param u      one endpoint
+     * @param v      the other endpoint
+     * @param weight the weight of the edge
+     */
+    private static void addUndirected(Set<Edge<Integer>> edges,
+                                      Vertex<Integer> u, Vertex<Integer> v,
+                                      int weight) {
+        edges.add(new Edge<>(u, v, weight));
+        edges.add(new Edge<>(v, u, weight));
+    }
+
+    /**
+     * Runs breadth-first search from the start vertex.
+     *
+     * @return the visit order
+     */
+    @Benchmark
+    public List<Vertex<Integer>> bfs() {
+        return GraphAlgorithms.bfs(start, graph);
+    }
+
+    /**
+     * Runs depth-first search from the start vertex.
+     *
+     * @return the visit order
+     */
+    @Benchmark
+    public List<Vertex<Integer>> dfs() {
+        return GraphAlgorithms.dfs(start, graph);
+    }
+
+    /**
+     * Runs Dijkstra's algorithm from the start vertex.
+     *
+     * @return the shortest distances
+     */
+    @Benchmark
+    public Map<Vertex<Integer>, Integer> dijkstras() {
+        return GraphAlgorithms.dijkstras(start, graph);
+    }
+
+    /**
+     * Runs Prim's algorithm from the start vertex.
+     *
+     * @return the minimum spanning tree
+     */
+    @Benchmark
+    public Set<Edge<Integer>> prims() {
+        return GraphAlgorithms.prims(start, graph);
+    }
+}
@@ -0,0 +1,127 @@
+package cs1332.bench;
+
+import cs1332.hw5.MaxHeap;
+import cs1332.hw6.HashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the hw5 MaxHeap and the hw6 HashMap.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeapHashMapBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM"})
+    private KeyDistribution distribution;
+
+    private Integer[] keys;
+    private ArrayList<Integer> keyList;
+    private HashMap<Integer, Integer> filledMap;
+
+    /**
+     * Generates the keys and the map read by the lookup benchmark.
+     */
+    @Setup
+    public void setup() {
+        keys = distribution.boxedKeys(size);
+        keyList = new ArrayList<>(Arrays.asList(keys));
+        filledMap = new HashMap<>();
+        for (Integer key : keys) {
+            filledMap.put(key, key);
+        }
+    }
+
+    /**
+     * Adds every key to an empty MaxHeap and removes them all again.
+     *
+     * @param blackhole consumes the removed elements
+     */
+    @Benchmark
+    public void heapAddRemove(Blackhole blackhole) {
+        MaxHeap<Integer> heap = new MaxHeap<>();
+        for (Integer key : keys) {
+            heap.add(key);
+        }
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(heap.remove());
+        }
+    }
+
+    /**
+     * Builds a MaxHeap from every key at once.
+     *
+     * @return the heap
+     */
+    @Benchmark
+    public MaxHeap<Integer> heapBuild() {
+        return new MaxHeap<>(keyList);
+    }
+
+    /**
+     * Puts every key into an empty HashMap.
+     *
+     * @return the filled map
+     */
+    @Benchmark
+    public HashMap<Integer, Integer> hashMapPut() {
+        HashMap<Integer, Integer> map = new HashMap<>();
+        for (Integer key : keys) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    /**
+     * Looks up every key in a filled HashMap.
+     *
+     * @param blackhole consumes the values found
+     */
+    @Benchmark
+    public void hashMapGet(Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(filledMap.get(key));
+        }
+    }
+
+    /**
+     * Puts every key into an empty HashMap and removes them all again.
+     *
+     * @return the emptied map
+     */
+    @Benchmark
+    public HashMap<Integer, Integer> hashMapPutRemove() {
+        HashMap<Integer, Integer> map = new HashMap<>();
+        for (Integer key : keys) {
+            map.put(key, key);
+        }
+        for (Integer key : keys) {
+            map.remove(key);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,164 @@
+package cs1332.bench;
+
+import cs1332.hw7.AVL;
+import cs1332.hw7.IntAVL;
+import cs1332.hw7.LongAVL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the object-per-node AVL with the array-backed IntAVL and
+ * LongAVL. The build benchmarks add {@code size} random keys to an empty
+ * tree; run them with {@code -prof gc} to see the bytes allocated per
+ * build. The lookup
+ * benchmarks search a full tree for keys in a second random order.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class IntAVLBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private int[] keys;
+    private Integer[] boxedKeys;
+    private int[] lookups;
+    private AVL<Integer> avl;
+    private IntAVL intAvl;
+    private LongAVL longAvl;
+    private int next;
+
+    /**
+     * Generates the keys and fills both trees.
+     */
+    @Setup
+    public void setup() {
+        keys = KeyDistribution.RANDOM.keys(size);
+        boxedKeys = KeyDistribution.RANDOM.boxedKeys(size);
+        avl = new AVL<>();
+        intAvl = new IntAVL();
+        longAvl = new LongAVL();
+        for (int i = 0; i < size; i++) {
+            avl.add(boxedKeys[i]);
+            intAvl.add(keys[i]);
+            longAvl.add(keys[i]);
+        }
+        lookups = KeyDistribution.RANDOM.keys(size);
+        for (int i = 0; i < size; i++) {
+            lookups[i] = keys[lookups[i]];
+        }
+    }
+
+    /**
+     * Returns the next key to look up.
+     *
+     * @return a key in the trees
+     */
+    private int nextKey() {
+        int key = lookups[next];
+        next = next + 1 == lookups.length ? 0 : next + 1;
+        return key;
+    }
+
+    /**
+     * Looks up one key in the AVL.
+     *
+     * @return whether the key was found
+     */
+    @Benchmark
+    public boolean avlContains() {
+        return avl.contains(nextKey());
+    }
+
+    /**
+     * Looks up one key in the IntAVL.
+     *
+     * @return whether the key was found
+     */
+    @Benchmark
+    public boolean intAvlContains() {
+        return intAvl.contains(nextKey());
+    }
+
+    /**
+     * Looks up one key in the LongAVL.
+     *
+     * @return whether the key was found
+     */
+    @Benchmark
+    public boolean longAvlContains() {
+        return longAvl.contains(nextKey());
+    }
+
+    /**
+     * Builds an AVL of all the keys.
+     *
+     * @return the tree
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public AVL<Integer> avlBuild() {
+        AVL<Integer> tree = new AVL<>();
+        for (int key : keys) {
+            tree.add(key);
+        }
+        return tree;
+    }
+
+    /**
+     * Builds an IntAVL of all the keys.
+     *
+     * @return the tree
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public IntAVL intAvlBuild() {
+        IntAVL tree = new IntAVL();
+        for (int key : keys) {
+            tree.add(key);
+        }
+        return tree;
+    }
+
+    /**
+     * Builds a LongAVL of all the keys.
+     *
+     * @return the tree
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public LongAVL longAvlBuild() {
+        LongAVL tree = new LongAVL();
+        for (int key : keys) {
+            tree.add(key);
+        }
+        return tree;
+    }
+}
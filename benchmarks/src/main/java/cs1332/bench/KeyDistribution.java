@@ -0,0 +1,99 @@
+package cs1332.bench;
+
+import java.util.Random;
+
+/**
+ * The order in which benchmark keys are fed to a data structure.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public enum KeyDistribution {
+    /**
+     * Keys 0, 1, ..., n - 1 in ascending order.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Keys n - 1, n - 2, ..., 0 in descending order.
+     */
+    REVERSED,
+
+    /**
+     * A shuffle of 0, 1, ..., n - 1.
+     */
+    RANDOM;
+
+    /**
+     * The seed used for every shuffle so that runs are comparable.
+     */
+    public static final long SEED = 1332L;
+
+    /**
+     * The seed for a second shuffle, independent of the one from SEED, so
+     * that lookups do not replay the order the keys were inserted in.
+     */
+    public static final long LOOKUP_SEED = 2331L;
+
+    /**
+     * Generates n distinct keys in this distribution.
+     *
+     * @param n the number of keys
+     * @return the keys
+     */
+    public int[] keys(int n) {
+        return keys(n, SEED);
+    }
+
+    /**
+     * Generates n distinct keys in this distribution, shuffling with the
+     * given seed if the distribution is RANDOM.
+     *
+     * @param n    the number of keys
+     * @param seed the seed for the shuffle
+     * @return the keys
+     */
+    public int[] keys(int n, long seed) {
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = this == REVERSED ? n - 1 - i : i;
+        }
+        if (this == RANDOM) {
+            Random random = new Random(seed);
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = keys[i];
+                keys[i] = keys[j];
+                keys[j] = swap;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Generates n distinct keys in this distribution, boxed.
+     *
+     * @param n the number of keys
+     * @return the keys
+     */
+    public Integer[] boxedKeys(int n) {
+        return boxedKeys(n, SEED);
+    }
+
+    /**
+     * Generates n distinct keys in this distribution, boxed, shuffling with
+     * the given seed if the distribution is RANDOM.
+     *
+     * @param n    the number of keys
+     * @param seed the seed for the shuffle
+     * @return the keys
+     */
+    public Integer[] boxedKeys(int n, long seed) {
+        int[] keys = keys(n, seed);
+        Integer[] boxed = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            boxed[i] = keys[i];
+        }
+        return boxed;
+    }
+}
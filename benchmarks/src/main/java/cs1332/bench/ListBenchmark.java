@@ -0,0 +1,244 @@
+package cs1332.bench;
+
+import cs1332.hw1.ArrayList;
+import cs1332.hw2.DoublyLinkedList;
+import cs1332.hw2.SinglyLinkedList;
+import cs1332.hw2.UnrolledLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the hw1 ArrayList and the hw2 linked lists. Every operation
+ * builds or reads a whole list of {@code size} elements.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM"})
+    private KeyDistribution distribution;
+
+    private Integer[] keys;
+    private ArrayList<Integer> filledArrayList;
+    private SinglyLinkedList<Integer> filledLinkedList;
+    private UnrolledLinkedList<Integer> filledUnrolledList;
+
+    /**
+     * Generates the keys and the lists read by the lookup benchmarks.
+     */
+    @Setup
+    public void setup() {
+        keys = distribution.boxedKeys(size);
+        filledArrayList = new ArrayList<>();
+        filledLinkedList = new SinglyLinkedList<>();
+        filledUnrolledList = new UnrolledLinkedList<>();
+        for (Integer key : keys) {
+            filledArrayList.addToBack(key);
+            filledLinkedList.addToBack(key);
+            filledUnrolledList.addToBack(key);
+        }
+    }
+
+    /**
+     * Appends every key to an empty ArrayList.
+     *
+     * @return the filled list
+     */
+    @Benchmark
+    public ArrayList<Integer> arrayListAddToBack() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (Integer key : keys) {
+            list.addToBack(key);
+        }
+        return list;
+    }
+
+    /**
+     * Prepends every key to an empty ArrayList.
+     *
+     * @return the filled list
+     */
+    @Benchmark
+    public ArrayList<Integer> arrayListAddToFront() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (Integer key : keys) {
+            list.addToFront(key);
+        }
+        return list;
+    }
+
+    /**
+     * Reads every index of a filled ArrayList.
+     *
+     * @param blackhole consumes the elements read
+     */
+    @Benchmark
+    public void arrayListGet(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(filledArrayList.get(i));
+        }
+    }
+
+    /**
+     * Searches a filled ArrayList for the first key added.
+     *
+     * @return the index found
+     */
+    @Benchmark
+    public int arrayListLastIndexOf() {
+        return filledArrayList.lastIndexOf(keys[0]);
+    }
+
+    /**
+     * Appends every key to an empty SinglyLinkedList.
+     *
+     * @return the filled list
+     */
+    @Benchmark
+    public SinglyLinkedList<Integer> linkedListAddToBack() {
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+        for (Integer key : keys) {
+            list.addToBack(key);
+        }
+        return list;
+    }
+
+    /**
+     * Prepends every key to an empty SinglyLinkedList.
+     *
+     * @return the filled list
+     */
+    @Benchmark
+    public SinglyLinkedList<Integer> linkedListAddToFront() {
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+        for (Integer key : keys) {
+            list.addToFront(key);
+        }
+        return list;
+    }
+
+    /**
+     * Copies a filled SinglyLinkedList into an array.
+     *
+     * @return the array
+     */
+    @Benchmark
+    public Object[] linkedListToArray() {
+        return filledLinkedList.toArray();
+    }
+
+    /**
+     * Removes the last occurrence of the first key added from a
+     * SinglyLinkedList, then puts it back at the front.
+     *
+     * @return the removed data
+     */
+    @Benchmark
+    public Integer linkedListRemoveLastOccurrence() {
+        Integer removed = filledLinkedList.removeLastOccurrence(keys[0]);
+        filledLinkedList.addToFront(removed);
+        return removed;
+    }
+
+    /**
+     * Fills a SinglyLinkedList and drains it from the back.
+     *
+     * @param blackhole consumes the removed elements
+     */
+    @Benchmark
+    public void linkedListDrainFromBack(Blackhole blackhole) {
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+        for (Integer key : keys) {
+            list.addToBack(key);
+        }
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(list.removeFromBack());
+        }
+    }
+
+    /**
+     * Fills a DoublyLinkedList and drains it from the back.
+     *
+     * @param blackhole consumes the removed elements
+     */
+    @Benchmark
+    public void doublyLinkedListDrainFromBack(Blackhole blackhole) {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        for (Integer key : keys) {
+            list.addToBack(key);
+        }
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(list.removeFromBack());
+        }
+    }
+
+    /**
+     * Copies a filled UnrolledLinkedList into an array.
+     *
+     * @return the array
+     */
+    @Benchmark
+    public Object[] unrolledListToArray() {
+        return filledUnrolledList.toArray();
+    }
+
+    /**
+     * Iterates over a filled SinglyLinkedList.
+     *
+     * @param blackhole consumes the elements read
+     */
+    @Benchmark
+    public void linkedListIterate(Blackhole blackhole) {
+        for (Integer data : filledLinkedList) {
+            blackhole.consume(data);
+        }
+    }
+
+    /**
+     * Iterates over a filled UnrolledLinkedList.
+     *
+     * @param blackhole consumes the elements read
+     */
+    @Benchmark
+    public void unrolledListIterate(Blackhole blackhole) {
+        for (Integer data : filledUnrolledList) {
+            blackhole.consume(data);
+        }
+    }
+
+    /**
+     * Inserts every key at the middle of an empty UnrolledLinkedList.
+     *
+     * @return the filled list
+     */
+    @Benchmark
+    public UnrolledLinkedList<Integer> unrolledListAddAtMiddle() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        for (Integer key : keys) {
+            list.addAtIndex(list.size() / 2, key);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,129 @@
+package cs1332.bench;
+
+import cs1332.hw3.LinkedQueue;
+import cs1332.hw3.LinkedStack;
+import cs1332.hw3.NodePool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares LinkedStack and LinkedQueue with and without a NodePool. Each
+ * operation pushes or enqueues a burst of {@code size} elements into a
+ * long-lived structure and then drains it, which is where pooling pays off.
+ * Run with {@code -prof gc} to compare allocation rates and GC counts.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodePoolBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Integer[] keys;
+    private LinkedStack<Integer> stack;
+    private LinkedStack<Integer> pooledStack;
+    private LinkedQueue<Integer> queue;
+    private LinkedQueue<Integer> pooledQueue;
+
+    /**
+     * Generates the keys and creates the structures, with pools large
+     * enough to hold a whole burst.
+     */
+    @Setup
+    public void setup() {
+        keys = KeyDistribution.RANDOM.boxedKeys(size);
+        stack = new LinkedStack<>();
+        pooledStack = new LinkedStack<>(new NodePool<Integer>(size));
+        queue = new LinkedQueue<>();
+        pooledQueue = new LinkedQueue<>(new NodePool<Integer>(size));
+    }
+
+    /**
+     * Fills and drains a LinkedStack that allocates every node.
+     *
+     * @param blackhole consumes the popped elements
+     */
+    @Benchmark
+    public void linkedStack(Blackhole blackhole) {
+        burst(stack, blackhole);
+    }
+
+    /**
+     * Fills and drains a LinkedStack that recycles its nodes.
+     *
+     * @param blackhole consumes the popped elements
+     */
+    @Benchmark
+    public void pooledLinkedStack(Blackhole blackhole) {
+        burst(pooledStack, blackhole);
+    }
+
+    /**
+     * Fills and drains a LinkedQueue that allocates every node.
+     *
+     * @param blackhole consumes the dequeued elements
+     */
+    @Benchmark
+    public void linkedQueue(Blackhole blackhole) {
+        burst(queue, blackhole);
+    }
+
+    /**
+     * Fills and drains a LinkedQueue that recycles its nodes.
+     *
+     * @param blackhole consumes the dequeued elements
+     */
+    @Benchmark
+    public void pooledLinkedQueue(Blackhole blackhole) {
+        burst(pooledQueue, blackhole);
+    }
+
+    /**
+     * Pushes every key onto the stack and pops them all.
+     *
+     * @param target    the stack
+     * @param blackhole consumes the popped elements
+     */
+    private void burst(LinkedStack<Integer> target, Blackhole blackhole) {
+        for (Integer key : keys) {
+            target.push(key);
+        }
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(target.pop());
+        }
+    }
+
+    /**
+     * Enqueues every key and dequeues them all.
+     *
+     * @param target    the queue
+     * @param blackhole consumes the dequeued elements
+     */
+    private void burst(LinkedQueue<Integer> target, Blackhole blackhole) {
+        for (Integer key : keys) {
+            target.enqueue(key);
+        }
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(target.dequeue());
+        }
+    }
+}
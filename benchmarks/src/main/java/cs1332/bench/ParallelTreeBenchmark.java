@@ -0,0 +1,124 @@
+package cs1332.bench;
+
+import cs1332.hw4.BST;
+import cs1332.hw7.AVL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums every key of a tree sequentially and in parallel. The parallel
+ * variants use the common ForkJoinPool, so their speedup is bounded by the
+ * number of cores; on one core they measure the cost of splitting.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelTreeBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private BST<Integer> bst;
+    private AVL<Integer> avl;
+
+    /**
+     * Builds both trees from {@code size} random keys.
+     */
+    @Setup
+    public void setup() {
+        Integer[] keys = KeyDistribution.RANDOM.boxedKeys(size);
+        List<Integer> data = Arrays.asList(keys);
+        bst = BST.balancedOf(data);
+        avl = new AVL<>();
+        for (Integer key : keys) {
+            avl.add(key);
+        }
+    }
+
+    /**
+     * Sums the AVL with a for-each loop.
+     *
+     * @return the sum
+     */
+    @Benchmark
+    public long avlSequential() {
+        long sum = 0;
+        for (Integer key : avl) {
+            sum += key;
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the AVL with a parallel stream.
+     *
+     * @return the sum
+     */
+    @Benchmark
+    public long avlParallelStream() {
+        return avl.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    /**
+     * Sums the AVL with parallelReduce.
+     *
+     * @return the sum
+     */
+    @Benchmark
+    public long avlParallelReduce() {
+        return avl.parallelReduce(0L, Integer::longValue, Long::sum);
+    }
+
+    /**
+     * Sums the BST with a for-each loop.
+     *
+     * @return the sum
+     */
+    @Benchmark
+    public long bstSequential() {
+        long sum = 0;
+        for (Integer key : bst) {
+            sum += key;
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the BST with a parallel stream.
+     *
+     * @return the sum
+     */
+    @Benchmark
+    public long bstParallelStream() {
+        return bst.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    /**
+     * Sums the BST with parallelReduce.
+     *
+     * @return the sum
+     */
+    @Benchmark
+    public long bstParallelReduce() {
+        return bst.parallelReduce(0L, Integer::longValue, Long::sum);
+    }
+}
@@ -0,0 +1,97 @@
+package cs1332.bench;
+
+import cs1332.hw9.CharacterComparator;
+import cs1332.hw9.PatternMatching;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the hw9 pattern matching algorithms on a random text.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatternMatchingBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    /**
+     * The number of distinct letters in the text. A small alphabet gives many
+     * partial matches; a large one gives few.
+     */
+    @Param({"2", "26"})
+    private int alphabet;
+
+    @Param({"8"})
+    private int patternLength;
+
+    private String text;
+    private String pattern;
+
+    /**
+     * Generates the text and takes the pattern from its middle, so there is
+     * always at least one match.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(KeyDistribution.SEED);
+        StringBuilder builder = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            builder.append((char) ('a' + random.nextInt(alphabet)));
+        }
+        text = builder.toString();
+        pattern = text.substring(size / 2, size / 2 + patternLength);
+    }
+
+    /**
+     * Runs Knuth-Morris-Pratt.
+     *
+     * @return the match indices
+     */
+    @Benchmark
+    public List<Integer> kmp() {
+        return PatternMatching.kmp(pattern, text, new CharacterComparator());
+    }
+
+    /**
+     * Runs Boyer-Moore.
+     *
+     * @return the match indices
+     */
+    @Benchmark
+    public List<Integer> boyerMoore() {
+        return PatternMatching.boyerMoore(pattern, text,
+            new CharacterComparator());
+    }
+
+    /**
+     * Runs Rabin-Karp.
+     *
+     * @return the match indices
+     */
+    @Benchmark
+    public List<Integer> rabinKarp() {
+        return PatternMatching.rabinKarp(pattern, text,
+            new CharacterComparator());
+    }
+}
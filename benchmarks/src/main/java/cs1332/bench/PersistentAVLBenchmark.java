@@ -0,0 +1,100 @@
+package cs1332.bench;
+
+import cs1332.hw7.AVL;
+import cs1332.hw7.ConcurrentAVL;
+import cs1332.hw7.PersistentAVL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what a point-in-time snapshot and a single update cost. A
+ * ConcurrentAVL hands out its current PersistentAVL in O(1); the only way
+ * to freeze a mutable AVL is to copy its data. Run with {@code -prof gc} to
+ * see the O(log n) nodes each persistent update allocates.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentAVLBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private Integer[] keys;
+    private AVL<Integer> avl;
+    private ConcurrentAVL<Integer> concurrentAvl;
+    private PersistentAVL<Integer> persistentAvl;
+    private int next;
+
+    /**
+     * Fills the trees with {@code size} random keys.
+     */
+    @Setup
+    public void setup() {
+        keys = KeyDistribution.RANDOM.boxedKeys(size);
+        avl = new AVL<>();
+        concurrentAvl = new ConcurrentAVL<>();
+        persistentAvl = new PersistentAVL<>();
+        for (Integer key : keys) {
+            avl.add(key);
+            concurrentAvl.add(key);
+            persistentAvl = persistentAvl.add(key);
+        }
+    }
+
+    /**
+     * Freezes the contents of an AVL by copying them into a list.
+     *
+     * @return the copy
+     */
+    @Benchmark
+    public List<Integer> avlSnapshotByCopy() {
+        List<Integer> copy = new ArrayList<>(avl.size());
+        for (Integer key : avl) {
+            copy.add(key);
+        }
+        return copy;
+    }
+
+    /**
+     * Takes a snapshot of a ConcurrentAVL.
+     *
+     * @return the snapshot
+     */
+    @Benchmark
+    public PersistentAVL<Integer> concurrentSnapshot() {
+        return concurrentAvl.snapshot();
+    }
+
+    /**
+     * Removes a key from a PersistentAVL and adds it back, producing two new
+     * versions.
+     *
+     * @return the final version
+     */
+    @Benchmark
+    public PersistentAVL<Integer> persistentRemoveAdd() {
+        Integer key = keys[next];
+        next = next + 1 == keys.length ? 0 : next + 1;
+        return persistentAvl.remove(key).add(key);
+    }
+}
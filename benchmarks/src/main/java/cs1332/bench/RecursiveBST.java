@@ -0,0 +1,215 @@
+package cs1332.bench;
+
+import cs1332.hw4.BSTNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The original recursive implementation of the hw4 BST's add, contains,
+ * inorder, postorder and height, kept as the baseline that TreeBenchmark
+ * measures the iterative BST against.
+ *
+ * Every operation recurses once per level of the tree, so a degenerate tree
+ * of around ten thousand nodes overflows the default thread stack.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class RecursiveBST<T extends Comparable<? super T>> {
+    private BSTNode<T> root;
+    private int size;
+
+    /**
+     * Add the data as a leaf in the BST. Should traverse the tree to find the
+     * appropriate location. If the data is already in the tree, then nothing
+     * should be done (the duplicate shouldn't get added, and size should not be
+     * incremented).
+     * <p>
+     * Should have a running time of O(log n) for a balanced tree, and a worst
+     * case of O(n).
+     *
+     * @param data the data to be added
+     * @throws IllegalArgumentException if the data is null
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data you are "
+                + "trying to add is null");
+        } else {
+            root = addNode(data, root);
+
+        }
+    }
+
+    /**
+     * private helper method for add(T data)
+     *
+     * @param data the data to be added
+     * @param node the node data should be added too
+     * @return a node as part of the addNode helperMethod.
+     */
+    private BSTNode<T> addNode(T data, BSTNode<T> node) {
+        if (node == null) {
+            this.size += 1;
+            return new BSTNode<T>(data);
+        } else if (data.compareTo(node.getData()) < 0) {
+            node.setLeft(addNode(data, node.getLeft()));
+        } else if (data.compareTo(node.getData()) > 0) {
+            node.setRight(addNode(data, node.getRight()));
+        }
+        return node;
+    }
+
+    /**
+     * private method for search.
+     *
+     * Returns the data in the tree matching the parameter passed in (think
+     * carefully: should you use value equality or reference equality?).
+     * <p>
+     * Should have a running time of O(log n) for a balanced tree, and a worst
+     * case of O(n).
+     *
+     * @param root the node the search function is currently pointing too
+     * @param data the data currently being searched for.
+     * @return node in search
+     */
+    private BSTNode<T> getSearch(BSTNode<T> root, T data) {
+        if (root == null || root.getData().compareTo(data) == 0) {
+            return root;
+        }
+        if (root.getData().compareTo(data) > 0) {
+            return getSearch(root.getLeft(), data);
+        }
+        return getSearch(root.getRight(), data);
+    }
+
+    /**
+     * Returns whether or not data equivalent to the given parameter is
+     * contained within the tree. The same type of equality should be used as
+     * in the get method.
+     * <p>
+     * Should have a running time of O(log n) for a balanced tree, and a worst
+     * case of O(n).
+     *
+     * @param data the data to search for in the tree.
+     * @return whether or not the parameter is contained within the tree.
+     * @throws IllegalArgumentException if the data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data you are trying to get is "
+                + "null");
+        } else {
+            BSTNode<T> result = getSearch(root, data);
+            return result != null;
+        }
+
+    }
+
+    /**
+     * Should run in O(n).
+     *
+     * @return an inorder traversal of the tree
+     */
+    public List<T> inorder() {
+        List<T> result = new ArrayList<T>();
+        return inOrderList(root, result);
+    }
+
+    /**
+     * Private method for inOrder
+     * Should run in O(n).
+     *
+     * @param root   the current node being pointed too.
+     * @param result the list to be returned to the public method (Being Built)
+     * @return a inOrder traversal of the tree
+     */
+    private List<T> inOrderList(BSTNode<T> root, List<T> result) {
+        if (root == null) {
+            return result;
+        }
+        inOrderList(root.getLeft(), result);
+        result.add(root.getData());
+        inOrderList(root.getRight(), result);
+
+        return result;
+    }
+
+    /**
+     * Should run in O(n).
+     *
+     * @return a postorder traversal of the tree
+     */
+    public List<T> postorder() {
+        List<T> result = new ArrayList<T>();
+        return postOrderList(root, result);
+    }
+
+    /**
+     * Private method for postOrder
+     * Should run in O(n).
+     *
+     * @param root   the current node being pointed too.
+     * @param result the list to be returned to the public method (Being Built)
+     * @return a postorder traversal of the tree
+     */
+    private List<T> postOrderList(BSTNode<T> root, List<T> result) {
+        if (root == null) {
+            return result;
+        }
+        postOrderList(root.getLeft(), result);
+        postOrderList(root.getRight(), result);
+        result.add(root.getData());
+
+        return result;
+    }
+
+    /**
+     * Calculate and return the height of the root of the tree. A node's
+     * height is defined as {@code max(left.height, right.height) + 1}. A leaf
+     * node has a height of 0 and a null child should be -1.
+     * <p>
+     * Should be calculated in O(n).
+     *
+     * @return the height of the root of the tree, -1 if the tree is empty
+     */
+    public int height() {
+        return getHeight(root);
+    }
+
+    /**
+     * private method for height
+     * Calculate and return the height of the root of the tree. A node's
+     * height is defined as {@code max(left.height, right.height) + 1}. A leaf
+     * node has a height of 0 and a null child should be -1.
+     * <p>
+     * Should be calculated in O(n).
+     *
+     * @param node the current node getHeight is pointed to.
+     * @return the height of the root of the tree, -1 if the tree is empty
+     */
+    private int getHeight(BSTNode<T> node) {
+        if (node == null) {
+            return -1;
+        } else {
+            int leftDepth = getHeight(node.getLeft());
+            int rightDepth = getHeight(node.getRight());
+
+            if (leftDepth > rightDepth) {
+                return (leftDepth + 1);
+            } else {
+                return (rightDepth + 1);
+            }
+        }
+    }
+
+    /**
+     * Returns the size of the BST.
+     *
+     * @return the number of elements in the tree
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,158 @@
+package cs1332.bench;
+
+import cs1332.hw3.MpscRingBuffer;
+import cs1332.hw3.SpscRingBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands elements from producer threads to one consumer thread through the
+ * hw3 ring buffers and through java.util.concurrent.ArrayBlockingQueue. No
+ * operation waits: a producer that finds the buffer full and a consumer
+ * that finds it empty just return, so the scores count attempts on each
+ * side. Each pair of threads needs its own core for meaningful numbers.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingBufferBenchmark {
+
+    private static final Integer ELEMENT = 1332;
+
+    @Param({"1024"})
+    private int size;
+
+    private SpscRingBuffer<Integer> spsc;
+    private MpscRingBuffer<Integer> mpsc;
+    private ArrayBlockingQueue<Integer> spscBaseline;
+    private ArrayBlockingQueue<Integer> mpscBaseline;
+
+    /**
+     * Creates empty buffers that each hold {@code size} elements.
+     */
+    @Setup
+    public void setup() {
+        spsc = new SpscRingBuffer<>(size);
+        mpsc = new MpscRingBuffer<>(size);
+        spscBaseline = new ArrayBlockingQueue<>(size);
+        mpscBaseline = new ArrayBlockingQueue<>(size);
+    }
+
+    /**
+     * Offers one element to the SPSC ring buffer.
+     *
+     * @return whether the element was added
+     */
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public boolean spscOffer() {
+        return spsc.offer(ELEMENT);
+    }
+
+    /**
+     * Polls one element from the SPSC ring buffer.
+     *
+     * @return the element, or null if the buffer was empty
+     */
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public Integer spscPoll() {
+        return spsc.poll();
+    }
+
+    /**
+     * Offers one element to an ArrayBlockingQueue with one producer.
+     *
+     * @return whether the element was added
+     */
+    @Benchmark
+    @Group("spscBaseline")
+    @GroupThreads(1)
+    public boolean spscBaselineOffer() {
+        return spscBaseline.offer(ELEMENT);
+    }
+
+    /**
+     * Polls one element from an ArrayBlockingQueue with one producer.
+     *
+     * @return the element, or null if the queue was empty
+     */
+    @Benchmark
+    @Group("spscBaseline")
+    @GroupThreads(1)
+    public Integer spscBaselinePoll() {
+        return spscBaseline.poll();
+    }
+
+    /**
+     * Offers one element to the MPSC ring buffer from one of three
+     * producers.
+     *
+     * @return whether the element was added
+     */
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(3)
+    public boolean mpscOffer() {
+        return mpsc.offer(ELEMENT);
+    }
+
+    /**
+     * Polls one element from the MPSC ring buffer.
+     *
+     * @return the element, or null if the buffer was empty
+     */
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(1)
+    public Integer mpscPoll() {
+        return mpsc.poll();
+    }
+
+    /**
+     * Offers one element to an ArrayBlockingQueue from one of three
+     * producers.
+     *
+     * @return whether the element was added
+     */
+    @Benchmark
+    @Group("mpscBaseline")
+    @GroupThreads(3)
+    public boolean mpscBaselineOffer() {
+        return mpscBaseline.offer(ELEMENT);
+    }
+
+    /**
+     * Polls one element from an ArrayBlockingQueue with three producers.
+     *
+     * @return the element, or null if the queue was empty
+     */
+    @Benchmark
+    @Group("mpscBaseline")
+    @GroupThreads(1)
+    public Integer mpscBaselinePoll() {
+        return mpscBaseline.poll();
+    }
+}
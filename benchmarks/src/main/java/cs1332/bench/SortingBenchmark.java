@@ -0,0 +1,121 @@
+package cs1332.bench;
+
+import cs1332.hw8.Sorting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the hw8 sorts. Each invocation sorts a fresh copy of the
+ * same {@code size} keys.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortingBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "REVERSED", "RANDOM"})
+    private KeyDistribution distribution;
+
+    private final Comparator<Integer> comparator = Integer::compare;
+    private Integer[] keys;
+    private int[] primitiveKeys;
+    private Integer[] boxedWork;
+    private int[] primitiveWork;
+
+    /**
+     * Generates the keys.
+     */
+    @Setup
+    public void setup() {
+        keys = distribution.boxedKeys(size);
+        primitiveKeys = distribution.keys(size);
+    }
+
+    /**
+     * Restores the unsorted keys before every invocation.
+     */
+    @Setup(Level.Invocation)
+    public void copyKeys() {
+        boxedWork = keys.clone();
+        primitiveWork = primitiveKeys.clone();
+    }
+
+    /**
+     * Runs insertion sort.
+     *
+     * @return the sorted keys
+     */
+    @Benchmark
+    public Integer[] insertionSort() {
+        Sorting.insertionSort(boxedWork, comparator);
+        return boxedWork;
+    }
+
+    /**
+     * Runs selection sort.
+     *
+     * @return the sorted keys
+     */
+    @Benchmark
+    public Integer[] selectionSort() {
+        Sorting.selectionSort(boxedWork, comparator);
+        return boxedWork;
+    }
+
+    /**
+     * Runs merge sort.
+     *
+     * @return the sorted keys
+     */
+    @Benchmark
+    public Integer[] mergeSort() {
+        Sorting.mergeSort(boxedWork, comparator);
+        return boxedWork;
+    }
+
+    /**
+     * Runs quick sort with a fixed pivot seed.
+     *
+     * @return the sorted keys
+     */
+    @Benchmark
+    public Integer[] quickSort() {
+        Sorting.quickSort(boxedWork, comparator,
+            new Random(KeyDistribution.SEED));
+        return boxedWork;
+    }
+
+    /**
+     * Runs LSD radix sort.
+     *
+     * @return the sorted keys
+     */
+    @Benchmark
+    public int[] lsdRadixSort() {
+        Sorting.lsdRadixSort(primitiveWork);
+        return primitiveWork;
+    }
+}
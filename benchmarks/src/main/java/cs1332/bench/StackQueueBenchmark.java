@@ -0,0 +1,184 @@
+package cs1332.bench;
+
+import cs1332.hw3.ArrayQueue;
+import cs1332.hw3.ArrayStack;
+import cs1332.hw3.IntArrayQueue;
+import cs1332.hw3.IntArrayStack;
+import cs1332.hw3.LinkedQueue;
+import cs1332.hw3.LinkedStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the hw3 stacks and queues. Every operation pushes or
+ * enqueues {@code size} elements into an empty structure and then drains it.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackQueueBenchmark {
+
+    private static final int BATCH_SIZE = 64;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM"})
+    private KeyDistribution distribution;
+
+    private Integer[] keys;
+    private int[] intKeys;
+    private Integer[] batch;
+
+    /**
+     * Generates the keys and the array that batches are drained into.
+     */
+    @Setup
+    public void setup() {
+        keys = distribution.boxedKeys(size);
+        intKeys = distribution.keys(size);
+        batch = new Integer[BATCH_SIZE];
+    }
+
+    /**
+     * Fills and drains an ArrayStack.
+     *
+     * @param blackhole consumes the popped elements
+     */
+    @Benchmark
+    public void arrayStack(Blackhole blackhole) {
+        ArrayStack<Integer> stack = new ArrayStack<>();
+        for (Integer key : keys) {
+            stack.push(key);
+        }
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(stack.pop());
+        }
+    }
+
+    /**
+     * Fills and drains a LinkedStack.
+     *
+     * @param blackhole consumes the popped elements
+     */
+    @Benchmark
+    public void linkedStack(Blackhole blackhole) {
+        LinkedStack<Integer> stack = new LinkedStack<>();
+        for (Integer key : keys) {
+            stack.push(key);
+        }
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(stack.pop());
+        }
+    }
+
+    /**
+     * Fills and drains an ArrayQueue.
+     *
+     * @param blackhole consumes the dequeued elements
+     */
+    @Benchmark
+    public void arrayQueue(Blackhole blackhole) {
+        ArrayQueue<Integer> queue = new ArrayQueue<>();
+        for (Integer key : keys) {
+            queue.enqueue(key);
+        }
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(queue.dequeue());
+        }
+    }
+
+    /**
+     * Fills and drains a LinkedQueue.
+     *
+     * @param blackhole consumes the dequeued elements
+     */
+    @Benchmark
+    public void linkedQueue(Blackhole blackhole) {
+        LinkedQueue<Integer> queue = new LinkedQueue<>();
+        for (Integer key : keys) {
+            queue.enqueue(key);
+        }
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(queue.dequeue());
+        }
+    }
+
+    /**
+     * Fills an ArrayQueue with one enqueueAll and drains it in batches.
+     *
+     * @param blackhole consumes the drained batches
+     */
+    @Benchmark
+    public void arrayQueueBatched(Blackhole blackhole) {
+        ArrayQueue<Integer> queue = new ArrayQueue<>();
+        queue.enqueueAll(keys);
+        while (queue.size() > 0) {
+            blackhole.consume(queue.drainTo(batch, BATCH_SIZE));
+        }
+    }
+
+    /**
+     * Fills a LinkedQueue with one enqueueAll and drains it in batches.
+     *
+     * @param blackhole consumes the drained batches
+     */
+    @Benchmark
+    public void linkedQueueBatched(Blackhole blackhole) {
+        LinkedQueue<Integer> queue = new LinkedQueue<>();
+        queue.enqueueAll(keys);
+        while (queue.size() > 0) {
+            blackhole.consume(queue.drainTo(batch, BATCH_SIZE));
+        }
+    }
+
+    /**
+     * Fills and drains an IntArrayStack.
+     *
+     * @param blackhole consumes the popped elements
+     */
+    @Benchmark
+    public void intArrayStack(Blackhole blackhole) {
+        IntArrayStack stack = new IntArrayStack();
+        for (int key : intKeys) {
+            stack.push(key);
+        }
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(stack.pop());
+        }
+    }
+
+    /**
+     * Fills and drains an IntArrayQueue.
+     *
+     * @param blackhole consumes the dequeued elements
+     */
+    @Benchmark
+    public void intArrayQueue(Blackhole blackhole) {
+        IntArrayQueue queue = new IntArrayQueue();
+        for (int key : intKeys) {
+            queue.enqueue(key);
+        }
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(queue.dequeue());
+        }
+    }
+}
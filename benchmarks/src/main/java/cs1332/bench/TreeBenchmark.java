@@ -0,0 +1,305 @@
+package cs1332.bench;
+
+import cs1332.hw4.BST;
+import cs1332.hw7.AVL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the hw4 BST and the hw7 AVL. The build benchmarks add
+ * {@code size} keys to an empty tree; the others read a tree built once in
+ * setup.
+ * <p>
+ * Sorted keys degenerate the BST into a list. BST is iterative, but the
+ * RecursiveBST baseline recurses once per level, so the forked JVM gets a
+ * large thread stack.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss256m")
+public class TreeBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM"})
+    private KeyDistribution distribution;
+
+    private Integer[] keys;
+    private BST<Integer> filledBst;
+    private RecursiveBST<Integer> filledRecursiveBst;
+    private AVL<Integer> filledAvl;
+
+    /**
+     * Generates the keys and the trees read by the lookup benchmarks.
+     */
+    @Setup
+    public void setup() {
+        keys = distribution.boxedKeys(size);
+        filledBst = new BST<>();
+        filledRecursiveBst = new RecursiveBST<>();
+        filledAvl = new AVL<>();
+        for (Integer key : keys) {
+            filledBst.add(key);
+            filledRecursiveBst.add(key);
+            filledAvl.add(key);
+        }
+    }
+
+    /**
+     * Adds every key to an empty BST.
+     *
+     * @return the filled tree
+     */
+    @Benchmark
+    public BST<Integer> bstAdd() {
+        BST<Integer> tree = new BST<>();
+        for (Integer key : keys) {
+            tree.add(key);
+        }
+        return tree;
+    }
+
+    /**
+     * Bulk-loads every key into a balanced BST.
+     *
+     * @return the filled tree
+     */
+    @Benchmark
+    public BST<Integer> bstBalancedOf() {
+        return BST.balancedOf(Arrays.asList(keys));
+    }
+
+    /**
+     * Looks up every key in a filled BST.
+     *
+     * @param blackhole consumes the lookup results
+     */
+    @Benchmark
+    public void bstContains(Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(filledBst.contains(key));
+        }
+    }
+
+    /**
+     * Lists a filled BST in order.
+     *
+     * @return the in-order traversal
+     */
+    @Benchmark
+    public List<Integer> bstInorder() {
+        return filledBst.inorder();
+    }
+
+    /**
+     * Lists a filled BST in post-order.
+     *
+     * @return the post-order traversal
+     */
+    @Benchmark
+    public List<Integer> bstPostorder() {
+        return filledBst.postorder();
+    }
+
+    /**
+     * Computes the height of a filled BST.
+     *
+     * @return the height
+     */
+    @Benchmark
+    public int bstHeight() {
+        return filledBst.height();
+    }
+
+    /**
+     * Adds every key to an empty RecursiveBST.
+     *
+     * @return the filled tree
+     */
+    @Benchmark
+    public RecursiveBST<Integer> recursiveBstAdd() {
+        RecursiveBST<Integer> tree = new RecursiveBST<>();
+        for (Integer key : keys) {
+            tree.add(key);
+        }
+        return tree;
+    }
+
+    /**
+     * Looks up every key in a filled RecursiveBST.
+     *
+     * @param blackhole consumes the lookup results
+     */
+    @Benchmark
+    public void recursiveBstContains(Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(filledRecursiveBst.contains(key));
+        }
+    }
+
+    /**
+     * Lists a filled RecursiveBST in order.
+     *
+     * @return the in-order traversal
+     */
+    @Benchmark
+    public List<Integer> recursiveBstInorder() {
+        return filledRecursiveBst.inorder();
+    }
+
+    /**
+     * Lists a filled RecursiveBST in post-order.
+     *
+     * @return the post-order traversal
+     */
+    @Benchmark
+    public List<Integer> recursiveBstPostorder() {
+        return filledRecursiveBst.postorder();
+    }
+
+    /**
+     * Computes the height of a filled RecursiveBST.
+     *
+     * @return the height
+     */
+    @Benchmark
+    public int recursiveBstHeight() {
+        return filledRecursiveBst.height();
+    }
+
+    /**
+     * Adds every key to an empty AVL.
+     *
+     * @return the filled tree
+     */
+    @Benchmark
+    public AVL<Integer> avlAdd() {
+        AVL<Integer> tree = new AVL<>();
+        for (Integer key : keys) {
+            tree.add(key);
+        }
+        return tree;
+    }
+
+    /**
+     * Adds every key to an empty AVL and then removes them all.
+     *
+     * @return the emptied tree
+     */
+    @Benchmark
+    public AVL<Integer> avlAddRemove() {
+        AVL<Integer> tree = new AVL<>();
+        for (Integer key : keys) {
+            tree.add(key);
+        }
+        for (Integer key : keys) {
+            tree.remove(key);
+        }
+        return tree;
+    }
+
+    /**
+     * Looks up every key in a filled AVL.
+     *
+     * @param blackhole consumes the lookup results
+     */
+    @Benchmark
+    public void avlContains(Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(filledAvl.contains(key));
+        }
+    }
+
+    /**
+     * Lists the middle half of the keys of a filled AVL.
+     *
+     * @return the keys in range
+     */
+    @Benchmark
+    public List<Integer> avlSortedInBetween() {
+        return filledAvl.sortedInBetween(size / 4, 3 * size / 4);
+    }
+
+    /**
+     * Counts the middle half of the keys of a filled AVL from the subtree
+     * sizes.
+     *
+     * @return the number of keys in range
+     */
+    @Benchmark
+    public int avlCountBetween() {
+        return filledAvl.countBetween(size / 4, 3 * size / 4);
+    }
+
+    /**
+     * Finds the median key of a filled AVL by position.
+     *
+     * @return the median key
+     */
+    @Benchmark
+    public Integer avlSelect() {
+        return filledAvl.select(filledAvl.size() / 2);
+    }
+
+    /**
+     * Reads one page of keys from the middle of a filled AVL through
+     * sortedInBetween, which lists the whole rest of the range first.
+     *
+     * @param blackhole consumes the page
+     */
+    @Benchmark
+    public void avlPageByList(Blackhole blackhole) {
+        List<Integer> range = filledAvl.sortedInBetween(size / 4, size);
+        for (int i = 0; i < PAGE_SIZE && i < range.size(); i++) {
+            blackhole.consume(range.get(i));
+        }
+    }
+
+    /**
+     * Reads one page of keys from the middle of a filled AVL through the
+     * range cursor.
+     *
+     * @param blackhole consumes the page
+     */
+    @Benchmark
+    public void avlPageByRange(Blackhole blackhole) {
+        Iterator<Integer> page = filledAvl.range(size / 4 + 1, size);
+        for (int i = 0; i < PAGE_SIZE && page.hasNext(); i++) {
+            blackhole.consume(page.next());
+        }
+    }
+
+    /**
+     * Lists the deepest branches of a filled AVL.
+     *
+     * @return the data on the deepest branches
+     */
+    @Benchmark
+    public List<Integer> avlDeepestBranches() {
+        return filledAvl.deepestBranches();
+    }
+}
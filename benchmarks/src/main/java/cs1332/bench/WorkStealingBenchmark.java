@@ -0,0 +1,157 @@
+package cs1332.bench;
+
+import cs1332.hw3.WorkStealingScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the hw3 WorkStealingScheduler with java.util.concurrent's
+ * ForkJoinPool. Each operation runs a binary tree of tasks in which every
+ * inner task submits its two children and every leaf does a little
+ * arithmetic, so roughly {@code 2 * size} Runnables are scheduled, almost
+ * all of them from worker threads.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkStealingBenchmark {
+
+    private static final int LEAF_WORK = 64;
+
+    @Param({"1024", "65536"})
+    private int size;
+
+    @Param({"4"})
+    private int parallelism;
+
+    private WorkStealingScheduler scheduler;
+    private ForkJoinPool forkJoinPool;
+
+    /**
+     * Starts both pools.
+     */
+    @Setup
+    public void setup() {
+        scheduler = new WorkStealingScheduler(parallelism);
+        forkJoinPool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Stops both pools.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        forkJoinPool.shutdown();
+        forkJoinPool.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Runs the task tree on the work-stealing scheduler.
+     *
+     * @return the sum computed by the leaves
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Benchmark
+    public long workStealingScheduler() throws InterruptedException {
+        return runTree(scheduler);
+    }
+
+    /**
+     * Runs the task tree on a ForkJoinPool.
+     *
+     * @return the sum computed by the leaves
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Benchmark
+    public long forkJoinPool() throws InterruptedException {
+        return runTree(forkJoinPool);
+    }
+
+    /**
+     * Submits the root of a task tree with {@code size} leaves and waits for
+     * every leaf to finish.
+     *
+     * @param executor the pool to run the tree on
+     * @return the sum computed by the leaves
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private long runTree(Executor executor) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(size);
+        AtomicLong sum = new AtomicLong();
+        executor.execute(new Node(executor, 0, size, done, sum));
+        done.await();
+        return sum.get();
+    }
+
+    /**
+     * A task covering the leaves from {@code low} up to but not including
+     * {@code high}.
+     */
+    private static final class Node implements Runnable {
+        private final Executor executor;
+        private final int low;
+        private final int high;
+        private final CountDownLatch done;
+        private final AtomicLong sum;
+
+        /**
+         * Creates a task.
+         *
+         * @param executor the pool to submit children to
+         * @param low      the first leaf covered
+         * @param high     one past the last leaf covered
+         * @param done     counted down once per leaf
+         * @param sum      collects the leaves' results
+         */
+        Node(Executor executor, int low, int high, CountDownLatch done,
+             AtomicLong sum) {
+            this.executor = executor;
+            this.low = low;
+            this.high = high;
+            this.done = done;
+            this.sum = sum;
+        }
+
+        @Override
+        public void run() {
+            if (high - low == 1) {
+                long value = low;
+                for (int i = 0; i < LEAF_WORK; i++) {
+                    value = value * 31 + i;
+                }
+                sum.addAndGet(value);
+                done.countDown();
+            } else {
+                int mid = (low + high) >>> 1;
+                executor.execute(new Node(executor, low, mid, done, sum));
+                executor.execute(new Node(executor, mid, high, done, sum));
+            }
+        }
+    }
+}
@@ -8,9 +8,13 @@
  */
 public class ArrayList<T> {
 
-    // Do not add new instance variables.
     private T[] backingArray;
     private int size;
+    private final int initialCapacity;
+    private final GrowthPolicy growthPolicy;
+    private boolean autoShrink;
+    private int resizeCount;
+    private long allocatedSlots;
 
     /**
      * The initial capacity of the array list.
@@ -26,7 +30,42 @@ public class ArrayList<T> {
      * to cast an Object array to T[] to get the generic typing.
      */
     public ArrayList() {
-        this.backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        this(INITIAL_CAPACITY, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructs a new ArrayList with room for {@code initialCapacity}
+     * elements that doubles its capacity when it runs out of room.
+     *
+     * @param initialCapacity the length of the initial backing array
+     * @throws java.lang.IllegalArgumentException if initialCapacity is
+     *         negative
+     */
+    public ArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructs a new ArrayList with room for {@code initialCapacity}
+     * elements that grows according to the given policy.
+     *
+     * @param initialCapacity the length of the initial backing array
+     * @param growthPolicy    the policy used to size a new backing array
+     * @throws java.lang.IllegalArgumentException if initialCapacity is
+     *         negative or growthPolicy is null
+     */
+    public ArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be "
+                + "negative but was " + initialCapacity + ".");
+        }
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException(
+                "Growth policy cannot be null.");
+        }
+        this.initialCapacity = initialCapacity;
+        this.growthPolicy = growthPolicy;
+        this.backingArray = (T[]) new Object[initialCapacity];
         this.size = 0;
     }
 
@@ -54,35 +93,13 @@ public class ArrayList<T> {
                     + " is out of bounds for backing array " + "of size "
                     + this.size() + ".");
             } else {
-                if (this.size() + 1 == this.backingArray.length
-                    && index == this.backingArray.length - 1) {
-                    this.backingArray[this.backingArray.length - 1] = data;
-                } else {
-                    if (this.backingArray.length == this.size()) {
-                        T[] buffer = (T[]) new Object[(this.size()) * 2];
-                        for (int i = 0; i < index; i++) {
-                            buffer[i] = this.get(i);
-                        }
-                        buffer[index] = data;
-                        for (int i = index; i < this.backingArray.length; i++) {
-                            buffer[i + 1] = this.get(i);
-                        }
-                        this.size++;
-                        this.backingArray = buffer;
-                    } else {
-                        T[] buffer = (T[]) new Object[this.backingArray.length];
-                        for (int i = 0; i < index; i++) {
-                            buffer[i] = this.get(i);
-                        }
-                        buffer[index] = data;
-                        for (int i = index; i < this.size(); i++) {
-                            buffer[i + 1] = this.get(i);
-                        }
-                        this.size++;
-                        this.backingArray = buffer;
-                    }
+                if (this.backingArray.length == this.size()) {
+                    this.resize(grownCapacity(this.size + 1));
                 }
-
+                System.arraycopy(this.backingArray, index, this.backingArray,
+                    index + 1, this.size - index);
+                this.backingArray[index] = data;
+                this.size++;
             }
         }
 
@@ -99,30 +116,7 @@ public class ArrayList<T> {
      * @throws java.lang.IllegalArgumentException if data is null
      */
     public void addToFront(T data) {
-        if (data == null) {
-            throw new IllegalArgumentException(
-                "Cannot add null element into data structure.");
-        } else {
-            if (this.backingArray.length == this.size()) {
-                T[] buffer = (T[]) new Object[(this.size()) * 2];
-                buffer[0] = data;
-                for (int i = 1; i < this.size() + 1; i++) {
-                    buffer[i] = this.get(i - 1);
-                }
-                this.size++;
-                this.backingArray = buffer;
-            } else {
-                T[] buffer = (T[]) new Object[this.backingArray.length];
-                buffer[0] = data;
-                for (int i = 1; i < this.size() + 1; i++) {
-                    buffer[i] = this.get(i - 1);
-                }
-                this.size++;
-                this.backingArray = buffer;
-            }
-
-        }
-
+        this.addAtIndex(0, data);
     }
 
     /**
@@ -134,34 +128,7 @@ public class ArrayList<T> {
      * @throws java.lang.IllegalArgumentException if data is null
      */
     public void addToBack(T data) {
-        if (data == null) {
-            throw new IllegalArgumentException(
-                "Cannot add null element into data structure.");
-        } else {
-            if (this.size() + 1 == this.backingArray.length) {
-                this.backingArray[this.backingArray.length - 1] = data;
-                this.size++;
-            } else {
-                if (this.backingArray.length == this.size()) {
-                    T[] buffer = (T[]) new Object[(this.size()) * 2];
-                    for (int i = 0; i < this.backingArray.length; i++) {
-                        buffer[i] = this.get(i);
-                    }
-                    buffer[this.backingArray.length] = data;
-                    this.size++;
-                    this.backingArray = buffer;
-                } else {
-                    T[] buffer = (T[]) new Object[this.backingArray.length];
-                    for (int i = 0; i < this.size(); i++) {
-                        buffer[i] = this.get(i);
-                    }
-                    buffer[this.size()] = data;
-                    this.size++;
-                    this.backingArray = buffer;
-                }
-
-            }
-        }
+        this.addAtIndex(this.size, data);
     }
 
     /**
@@ -182,24 +149,15 @@ public class ArrayList<T> {
                 + " is out of bounds for backing array " + "of size "
                 + this.size() + ".");
         } else {
-            if (index == this.size() - 1) {
-                T reBuffer = this.backingArray[index];
-                this.backingArray[index] = null;
-                this.size--;
-                return reBuffer;
-            } else {
-                T[] buffer = (T[]) new Object[this.backingArray.length];
-                for (int i = 0; i < index; i++) {
-                    buffer[i] = this.backingArray[i];
-                }
-                T reBuffer = this.backingArray[index];
-                for (int i = index; i < this.size() - 1; i++) {
-                    buffer[i] = this.backingArray[i + 1];
-                }
-                this.size--;
-                this.backingArray = buffer;
-                return reBuffer;
+            T reBuffer = this.backingArray[index];
+            System.arraycopy(this.backingArray, index + 1, this.backingArray,
+                index, this.size - index - 1);
+            this.size--;
+            this.backingArray[this.size] = null;
+            if (this.autoShrink) {
+                this.shrinkIfSparse();
             }
+            return reBuffer;
         }
     }
 
@@ -216,14 +174,7 @@ public class ArrayList<T> {
         if (this.isEmpty()) {
             return null;
         } else {
-            T reBuffer = this.backingArray[0];
-            T[] buffer = (T[]) new Object[this.backingArray.length];
-            for (int i = 1; i < this.size(); i++) {
-                buffer[i - 1] = this.backingArray[i];
-            }
-            this.size--;
-            this.backingArray = buffer;
-            return reBuffer;
+            return this.removeAtIndex(0);
         }
 
     }
@@ -239,12 +190,93 @@ public class ArrayList<T> {
         if (this.isEmpty()) {
             return null;
         } else {
-            T reBuffer = this.backingArray[this.size - 1];
-            this.backingArray[this.size - 1] = null;
-            this.size--;
-            return reBuffer;
+            return this.removeAtIndex(this.size - 1);
+        }
+
+    }
+
+    /**
+     * Makes sure the backing array can hold at least {@code minCapacity}
+     * elements without resizing. If it must grow, it grows to whichever is
+     * larger of {@code minCapacity} and what the growth policy suggests.
+     *
+     * Must be O(n).
+     *
+     * @param minCapacity the number of elements the list should be able to
+     *                    hold
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.backingArray.length) {
+            this.resize(grownCapacity(minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the backing array so its length equals the size of the list.
+     *
+     * Must be O(n).
+     */
+    public void trimToSize() {
+        if (this.backingArray.length > this.size) {
+            this.resize(this.size);
+        }
+    }
+
+    /**
+     * Turns automatic shrinking on or off. When on, a remove that leaves the
+     * list less than a quarter full halves the backing array, but never below
+     * the initial capacity. The gap between the quarter mark and the half-full
+     * array left behind keeps a list hovering near one size from resizing
+     * back and forth.
+     *
+     * @param autoShrink whether removes may shrink the backing array
+     */
+    public void setAutoShrink(boolean autoShrink) {
+        this.autoShrink = autoShrink;
+        if (autoShrink) {
+            this.shrinkIfSparse();
+        }
+    }
+
+    /**
+     * Returns the capacity to grow to when at least {@code minCapacity}
+     * elements must fit.
+     *
+     * @param minCapacity the smallest acceptable capacity
+     * @return the new capacity of the backing array
+     */
+    private int grownCapacity(int minCapacity) {
+        int capacity = this.growthPolicy.nextCapacity(
+            this.backingArray.length);
+        if (capacity < minCapacity) {
+            capacity = minCapacity;
+        }
+        return capacity;
+    }
+
+    /**
+     * Halves the backing array if the list is less than a quarter full and
+     * the result would not drop below the initial capacity.
+     */
+    private void shrinkIfSparse() {
+        int capacity = this.backingArray.length / 2;
+        if (this.size < this.backingArray.length / 4
+            && capacity >= this.initialCapacity) {
+            this.resize(capacity);
         }
+    }
 
+    /**
+     * Copies the list into a new backing array of the given length.
+     *
+     * @param capacity the length of the new backing array, at least size
+     */
+    private void resize(int capacity) {
+        T[] buffer = (T[]) new Object[capacity];
+        System.arraycopy(this.backingArray, 0, buffer, 0, this.size);
+        this.backingArray = buffer;
+        this.resizeCount++;
+        this.allocatedSlots += capacity;
     }
 
     /**
@@ -307,20 +339,40 @@ public class ArrayList<T> {
      * @return true if empty; false otherwise
      */
     public boolean isEmpty() {
-        return this.backingArray[0] == null;
+        return this.size == 0;
     }
 
     /**
      * Clears the list. Resets the backing array to a new array of the initial
-     * capacity.
+     * capacity the list was constructed with.
      *
      * Must be O(1).
      */
     public void clear() {
-        this.backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        this.backingArray = (T[]) new Object[this.initialCapacity];
         this.size = 0;
     }
 
+    /**
+     * Returns how many times the backing array has been replaced by a grow,
+     * shrink or trim since the list was constructed.
+     *
+     * @return the number of resizes
+     */
+    public int getResizeCount() {
+        return resizeCount;
+    }
+
+    /**
+     * Returns the total length of every backing array allocated by a grow,
+     * shrink or trim since the list was constructed.
+     *
+     * @return the number of array slots allocated by resizes
+     */
+    public long getAllocatedSlots() {
+        return allocatedSlots;
+    }
+
     /**
      * Returns the size of the list as an integer.
      *
@@ -0,0 +1,155 @@
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the capacity management of ArrayList: initial capacity, growth
+ * policies, ensureCapacity, trimToSize and automatic shrinking.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class ArrayListCapacityStudentTests {
+    private ArrayList<Integer> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialCapacityConstructor() {
+        list = new ArrayList<>(100);
+        assertEquals(100, list.getBackingArray().length);
+        for (int i = 0; i < 100; i++) {
+            list.addToBack(i);
+        }
+        assertEquals(0, list.getResizeCount());
+        list.addToBack(100);
+        assertEquals(200, list.getBackingArray().length);
+        assertEquals(1, list.getResizeCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testZeroInitialCapacity() {
+        list = new ArrayList<>(0);
+        assertTrue(list.isEmpty());
+        list.addToFront(1);
+        list.addToFront(0);
+        assertEquals((Integer) 0, list.get(0));
+        assertEquals((Integer) 1, list.get(1));
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNegativeInitialCapacity() {
+        list = new ArrayList<>(-1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOneAndAHalfPolicy() {
+        list = new ArrayList<>(10, GrowthPolicy.ONE_AND_A_HALF);
+        for (int i = 0; i < 11; i++) {
+            list.addToBack(i);
+        }
+        assertEquals(15, list.getBackingArray().length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowthPoliciesClampNearMaxCapacity() {
+        int large = Integer.MAX_VALUE / 3 * 2 + 2;
+        assertEquals(Integer.MAX_VALUE,
+            GrowthPolicy.ONE_AND_A_HALF.nextCapacity(large));
+        assertEquals(Integer.MAX_VALUE,
+            GrowthPolicy.ONE_AND_A_HALF.nextCapacity(Integer.MAX_VALUE));
+        assertEquals(Integer.MAX_VALUE,
+            GrowthPolicy.DOUBLING.nextCapacity(large));
+        assertEquals(Integer.MAX_VALUE, GrowthPolicy.fixedIncrement(3)
+            .nextCapacity(Integer.MAX_VALUE - 1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testFixedIncrementPolicy() {
+        list = new ArrayList<>(4, GrowthPolicy.fixedIncrement(3));
+        for (int i = 0; i < 8; i++) {
+            list.addAtIndex(i / 2, i);
+        }
+        assertEquals(10, list.getBackingArray().length);
+        assertEquals(2, list.getResizeCount());
+        assertEquals(17, list.getAllocatedSlots());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testFixedIncrementRejectsZero() {
+        GrowthPolicy.fixedIncrement(0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEnsureCapacity() {
+        list = new ArrayList<>();
+        list.ensureCapacity(5);
+        assertEquals(ArrayList.INITIAL_CAPACITY,
+            list.getBackingArray().length);
+        list.ensureCapacity(12);
+        assertEquals(ArrayList.INITIAL_CAPACITY * 2,
+            list.getBackingArray().length);
+        list.ensureCapacity(1000);
+        assertEquals(1000, list.getBackingArray().length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTrimToSize() {
+        list = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            list.addToBack(i);
+        }
+        list.trimToSize();
+        assertEquals(12, list.getBackingArray().length);
+        assertEquals((Integer) 11, list.get(11));
+        list.addToBack(12);
+        assertEquals(24, list.getBackingArray().length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAutoShrinkHysteresis() {
+        list = new ArrayList<>(4);
+        list.setAutoShrink(true);
+        for (int i = 0; i < 64; i++) {
+            list.addToBack(i);
+        }
+        assertEquals(64, list.getBackingArray().length);
+
+        // Dropping to 16 elements is exactly a quarter, so nothing shrinks.
+        while (list.size() > 16) {
+            list.removeFromBack();
+        }
+        assertEquals(64, list.getBackingArray().length);
+
+        list.removeFromFront();
+        assertEquals(32, list.getBackingArray().length);
+        assertEquals((Integer) 1, list.get(0));
+
+        while (!list.isEmpty()) {
+            list.removeFromBack();
+        }
+        assertEquals(4, list.getBackingArray().length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNoShrinkByDefault() {
+        list = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.addToBack(i);
+        }
+        int capacity = list.getBackingArray().length;
+        while (!list.isEmpty()) {
+            list.removeFromFront();
+        }
+        assertEquals(capacity, list.getBackingArray().length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClearUsesConstructedCapacity() {
+        list = new ArrayList<>(50);
+        list.addToBack(1);
+        list.clear();
+        assertEquals(50, list.getBackingArray().length);
+    }
+}
@@ -0,0 +1,310 @@
+/**
+ * An ArrayList that treats its backing array as circular.
+ *
+ * The list keeps the index of its first element in {@code front}, so adding
+ * or removing at either end only moves {@code front} or the back of the list
+ * instead of shifting every element. Adds and removes in the middle shift
+ * whichever side of the index holds fewer elements.
+ *
+ * Otherwise follows the contract of {@link ArrayList}.
+ *
+ * @author Andrew Hennessy
+ * @userid ahennessy6
+ * @GTID 903309743
+ * @version 1.0
+ */
+public class CircularArrayList<T> {
+
+    private T[] backingArray;
+    private int front;
+    private int size;
+
+    /**
+     * The initial capacity of the array list.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    /**
+     * Constructs a new CircularArrayList.
+     */
+    public CircularArrayList() {
+        this.backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        this.front = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Adds the element to the index specified.
+     *
+     * Only the elements on the shorter side of index are shifted, so adding
+     * to index 0 or {@code size} is amortized O(1) and all other adds are
+     * O(min(index, size - index)).
+     *
+     * @param index the index where you want the new element
+     * @param data  the data to add to the list
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or index
+     *         > size
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot add null element into data structure.");
+        }
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                + " is out of bounds for backing array " + "of size "
+                + this.size + ".");
+        }
+        if (this.size == this.backingArray.length) {
+            T[] buffer = (T[]) new Object[this.backingArray.length * 2];
+            for (int i = 0; i < index; i++) {
+                buffer[i] = this.backingArray[physical(i)];
+            }
+            buffer[index] = data;
+            for (int i = index; i < this.size; i++) {
+                buffer[i + 1] = this.backingArray[physical(i)];
+            }
+            this.backingArray = buffer;
+            this.front = 0;
+        } else if (index < this.size - index) {
+            this.front = this.front == 0
+                ? this.backingArray.length - 1 : this.front - 1;
+            for (int i = 0; i < index; i++) {
+                this.backingArray[physical(i)] =
+                    this.backingArray[physical(i + 1)];
+            }
+            this.backingArray[physical(index)] = data;
+        } else {
+            for (int i = this.size; i > index; i--) {
+                this.backingArray[physical(i)] =
+                    this.backingArray[physical(i - 1)];
+            }
+            this.backingArray[physical(index)] = data;
+        }
+        this.size++;
+    }
+
+    /**
+     * Adds the given data to the front of your array list.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the given data to the back of your array list.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(this.size, data);
+    }
+
+    /**
+     * Removes and returns the element at {@code index}.
+     *
+     * Only the elements on the shorter side of index are shifted, so removing
+     * index 0 or {@code size - 1} is O(1) and all other removes are
+     * O(min(index, size - index)).
+     *
+     * @param index the index of the element
+     * @return the object that was formerly at that index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                + " is out of bounds for backing array " + "of size "
+                + this.size + ".");
+        }
+        T reBuffer = this.backingArray[physical(index)];
+        if (index < this.size - 1 - index) {
+            for (int i = index; i > 0; i--) {
+                this.backingArray[physical(i)] =
+                    this.backingArray[physical(i - 1)];
+            }
+            this.backingArray[this.front] = null;
+            this.front = this.front + 1 == this.backingArray.length
+                ? 0 : this.front + 1;
+        } else {
+            for (int i = index; i < this.size - 1; i++) {
+                this.backingArray[physical(i)] =
+                    this.backingArray[physical(i + 1)];
+            }
+            this.backingArray[physical(this.size - 1)] = null;
+        }
+        this.size--;
+        if (this.size == 0) {
+            this.front = 0;
+        }
+        return reBuffer;
+    }
+
+    /**
+     * Removes and returns the first element in the list.
+     *
+     * Must be O(1).
+     *
+     * @return the data from the front of the list or null if the list is empty
+     */
+    public T removeFromFront() {
+        if (this.isEmpty()) {
+            return null;
+        }
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element in the list.
+     *
+     * Must be O(1).
+     *
+     * @return the data from the back of the list or null if the list is empty
+     */
+    public T removeFromBack() {
+        if (this.isEmpty()) {
+            return null;
+        }
+        return removeAtIndex(this.size - 1);
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element
+     * @return the data stored at that index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                + " is out of bounds for backing array " + "of size "
+                + this.size + ".");
+        }
+        return this.backingArray[physical(index)];
+    }
+
+    /**
+     * Finds the index at which the given data is located in the list.
+     *
+     * If there are multiple instances of the data in the list, then return
+     * the index of the last instance.
+     *
+     * Must be O(n), starting from the back of the list.
+     *
+     * @param data the data to find the last index of
+     * @return the last index of the data or -1 if the data is not in the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public int lastIndexOf(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot search for null element in data structure.");
+        }
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (this.backingArray[physical(i)].equals(data)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the elements of the list in order, starting at index 0, in an
+     * array of length {@code size}.
+     *
+     * Must be O(n).
+     *
+     * @return an array holding every element of the list
+     */
+    public Object[] toArray() {
+        Object[] output = new Object[this.size];
+        int firstRun = Math.min(this.size,
+            this.backingArray.length - this.front);
+        System.arraycopy(this.backingArray, this.front, output, 0, firstRun);
+        System.arraycopy(this.backingArray, 0, output, firstRun,
+            this.size - firstRun);
+        return output;
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Clears the list. Resets the backing array to a new array of the initial
+     * capacity.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        this.backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        this.front = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Maps a list index to its position in the backing array.
+     *
+     * @param index the list index, between 0 and {@code size} inclusive
+     * @return the position of that index in the backing array
+     */
+    private int physical(int index) {
+        int position = this.front + index;
+        if (position >= this.backingArray.length) {
+            position -= this.backingArray.length;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the size of the list as an integer.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of index 0 in the backing array.
+     *
+     * For debugging purposes only.
+     *
+     * @return the front index of the list
+     */
+    public int getFront() {
+        return front;
+    }
+
+    /**
+     * Returns the backing array for this list. Index 0 of the list is stored
+     * at {@link #getFront()} and later indices wrap around the end of the
+     * array.
+     *
+     * For debugging purposes only.
+     *
+     * @return the backing array for this list
+     */
+    public Object[] getBackingArray() {
+        return backingArray;
+    }
+}
@@ -0,0 +1,120 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for CircularArrayList, including a comparison against
+ * java.util.ArrayList under random operations.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class CircularArrayListStudentTests {
+    private CircularArrayList<Integer> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new CircularArrayList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddToFrontWraps() {
+        list.addToFront(2);
+        list.addToFront(1);
+        list.addToFront(0);
+
+        assertEquals(3, list.size());
+        // The first add lands at index 0, later ones wrap to the end.
+        assertEquals(CircularArrayList.INITIAL_CAPACITY - 2, list.getFront());
+        Object[] expected = new Object[CircularArrayList.INITIAL_CAPACITY];
+        expected[7] = 0;
+        expected[8] = 1;
+        expected[0] = 2;
+        assertArrayEquals(expected, list.getBackingArray());
+        assertArrayEquals(new Object[] {0, 1, 2}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testResizeUnwraps() {
+        for (int i = 0; i < CircularArrayList.INITIAL_CAPACITY; i++) {
+            list.addToFront(i);
+        }
+        list.addToBack(-1);
+
+        assertEquals(0, list.getFront());
+        assertEquals(CircularArrayList.INITIAL_CAPACITY * 2,
+            list.getBackingArray().length);
+        assertEquals((Integer) 8, list.get(0));
+        assertEquals((Integer) (-1), list.get(9));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMiddleShiftsShorterSide() {
+        for (int i = 0; i < 6; i++) {
+            list.addToBack(i);
+        }
+        // Index 1 is closer to the front, so front moves back by one.
+        list.addAtIndex(1, 10);
+        assertEquals(CircularArrayList.INITIAL_CAPACITY - 1, list.getFront());
+        assertArrayEquals(new Object[] {0, 10, 1, 2, 3, 4, 5}, list.toArray());
+
+        assertEquals((Integer) 10, list.removeAtIndex(1));
+        assertEquals(0, list.getFront());
+        assertEquals((Integer) 4, list.removeAtIndex(4));
+        assertArrayEquals(new Object[] {0, 1, 2, 3, 5}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveFromEmpty() {
+        assertNull(list.removeFromFront());
+        assertNull(list.removeFromBack());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        list.addToFront(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testRemoveOutOfBounds() {
+        list.addToFront(1);
+        list.removeAtIndex(1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLastIndexOf() {
+        list.addToBack(1);
+        list.addToFront(2);
+        list.addToFront(1);
+        assertEquals(2, list.lastIndexOf(1));
+        assertEquals(1, list.lastIndexOf(2));
+        assertEquals(-1, list.lastIndexOf(3));
+    }
+
+    @Test(timeout = 1000)
+    public void testRandomOperations() {
+        java.util.ArrayList<Integer> reference = new java.util.ArrayList<>();
+        Random random = new Random(1332);
+        for (int op = 0; op < 5000; op++) {
+            int choice = random.nextInt(3);
+            if (choice < 2 || reference.isEmpty()) {
+                int index = random.nextInt(reference.size() + 1);
+                reference.add(index, op);
+                list.addAtIndex(index, op);
+            } else {
+                int index = random.nextInt(reference.size());
+                assertEquals(reference.remove(index),
+                    list.removeAtIndex(index));
+            }
+            assertEquals(reference.size(), list.size());
+        }
+        assertArrayEquals(reference.toArray(), list.toArray());
+    }
+}
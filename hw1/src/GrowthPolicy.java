@@ -0,0 +1,54 @@
+/**
+ * Decides how large a new backing array should be when an array-backed
+ * structure runs out of room.
+ *
+ * @author Andrew Hennessy
+ * @userid ahennessy6
+ * @GTID 903309743
+ * @version 1.0
+ */
+public interface GrowthPolicy {
+
+    /**
+     * Doubles the capacity on every resize. This is the policy ArrayList has
+     * always used.
+     */
+    GrowthPolicy DOUBLING = currentCapacity ->
+        (int) Math.min(Integer.MAX_VALUE, 2L * currentCapacity);
+
+    /**
+     * Grows the capacity by half on every resize, trading more frequent
+     * copies for less unused space.
+     */
+    GrowthPolicy ONE_AND_A_HALF = currentCapacity ->
+        (int) Math.min(Integer.MAX_VALUE,
+            (long) currentCapacity + (currentCapacity >> 1));
+
+    /**
+     * Returns a policy that adds the same number of slots on every resize.
+     *
+     * Note that appends under this policy are O(n) rather than amortized
+     * O(1), so it only suits lists whose final size is roughly known.
+     *
+     * @param increment the number of slots to add on every resize
+     * @return a fixed increment growth policy
+     * @throws java.lang.IllegalArgumentException if increment is not positive
+     */
+    static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Increment must be positive but"
+                + " was " + increment + ".");
+        }
+        return currentCapacity -> (int) Math.min(Integer.MAX_VALUE,
+            (long) currentCapacity + increment);
+    }
+
+    /**
+     * Returns the capacity to resize to. Callers always resize to at least
+     * the capacity they need, so a policy may return a smaller value.
+     *
+     * @param currentCapacity the length of the full backing array
+     * @return the suggested length of the new backing array
+     */
+    int nextCapacity(int currentCapacity);
+}
@@ -0,0 +1,264 @@
+/**
+ * An ArrayList specialized for primitive longs.
+ *
+ * Mirrors the contract of {@link ArrayList} but stores its elements directly
+ * in a {@code long[]}, so no element is ever boxed and adding or reading an
+ * element never allocates.
+ *
+ * @author Andrew Hennessy
+ * @userid ahennessy6
+ * @GTID 903309743
+ * @version 1.0
+ */
+public class LongArrayList {
+
+    private long[] backingArray;
+    private int size;
+
+    /**
+     * The initial capacity of the array list.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    /**
+     * Constructs a new LongArrayList.
+     */
+    public LongArrayList() {
+        this.backingArray = new long[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Adds the element to the index specified.
+     *
+     * Adding to index {@code size} is amortized O(1), all other adds are
+     * O(n).
+     *
+     * @param index the index where you want the new element
+     * @param data  the data to add to the list
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or index
+     *         > size
+     */
+    public void addAtIndex(int index, long data) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                + " is out of bounds for backing array " + "of size "
+                + this.size + ".");
+        }
+        if (this.size == this.backingArray.length) {
+            long[] buffer = new long[this.backingArray.length * 2];
+            System.arraycopy(this.backingArray, 0, buffer, 0, index);
+            System.arraycopy(this.backingArray, index, buffer, index + 1,
+                this.size - index);
+            this.backingArray = buffer;
+        } else {
+            System.arraycopy(this.backingArray, index, this.backingArray,
+                index + 1, this.size - index);
+        }
+        this.backingArray[index] = data;
+        this.size++;
+    }
+
+    /**
+     * Adds the given data to the front of your array list.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to add to the list
+     */
+    public void addToFront(long data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the given data to the back of your array list.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the list
+     */
+    public void addToBack(long data) {
+        if (this.size == this.backingArray.length) {
+            long[] buffer = new long[this.backingArray.length * 2];
+            System.arraycopy(this.backingArray, 0, buffer, 0, this.size);
+            this.backingArray = buffer;
+        }
+        this.backingArray[this.size] = data;
+        this.size++;
+    }
+
+    /**
+     * Appends every element of the given array to the back of the list in
+     * order. The backing array is grown at most once.
+     *
+     * Must be amortized O(k) where k is the length of data.
+     *
+     * @param data the data to add to the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addAll(long[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot add null array into data structure.");
+        }
+        int required = this.size + data.length;
+        if (required > this.backingArray.length) {
+            int capacity = this.backingArray.length * 2;
+            if (capacity < required) {
+                capacity = required;
+            }
+            long[] buffer = new long[capacity];
+            System.arraycopy(this.backingArray, 0, buffer, 0, this.size);
+            this.backingArray = buffer;
+        }
+        System.arraycopy(data, 0, this.backingArray, this.size, data.length);
+        this.size = required;
+    }
+
+    /**
+     * Removes and returns the element at {@code index}.
+     *
+     * This method is O(1) for index {@code size - 1} and O(n) in all other
+     * cases.
+     *
+     * @param index the index of the element
+     * @return the value that was formerly at that index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public long removeAtIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                + " is out of bounds for backing array " + "of size "
+                + this.size + ".");
+        }
+        long reBuffer = this.backingArray[index];
+        System.arraycopy(this.backingArray, index + 1, this.backingArray,
+            index, this.size - index - 1);
+        this.size--;
+        this.backingArray[this.size] = 0;
+        return reBuffer;
+    }
+
+    /**
+     * Removes and returns the first element in the list.
+     *
+     * Must be O(n).
+     *
+     * @return the data from the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public long removeFromFront() {
+        if (this.size == 0) {
+            throw new java.util.NoSuchElementException(
+                "Cannot remove from an empty list.");
+        }
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element in the list.
+     *
+     * Must be O(1).
+     *
+     * @return the data from the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public long removeFromBack() {
+        if (this.size == 0) {
+            throw new java.util.NoSuchElementException(
+                "Cannot remove from an empty list.");
+        }
+        return removeAtIndex(this.size - 1);
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element
+     * @return the data stored at that index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public long get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                + " is out of bounds for backing array " + "of size "
+                + this.size + ".");
+        }
+        return this.backingArray[index];
+    }
+
+    /**
+     * Finds the index of the last occurrence of the given data in the list.
+     *
+     * Must be O(n), starting from the back of the list.
+     *
+     * @param data the data to find the last index of
+     * @return the last index of the data or -1 if the data is not in the list
+     */
+    public int lastIndexOf(long data) {
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (this.backingArray[i] == data) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a copy of the elements of the list, in order, in an array of
+     * length {@code size}.
+     *
+     * Must be O(n).
+     *
+     * @return an array holding every element of the list
+     */
+    public long[] toArray() {
+        long[] output = new long[this.size];
+        System.arraycopy(this.backingArray, 0, output, 0, this.size);
+        return output;
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Clears the list. Resets the backing array to a new array of the initial
+     * capacity.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        this.backingArray = new long[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the size of the list as an integer.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the backing array for this list.
+     *
+     * For debugging purposes only.
+     *
+     * @return the backing array for this list
+     */
+    public long[] getBackingArray() {
+        return backingArray;
+    }
+}
@@ -0,0 +1,162 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the primitive specializations of ArrayList.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class PrimitiveArrayListStudentTests {
+    private IntArrayList intList;
+    private LongArrayList longList;
+    private DoubleArrayList doubleList;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        intList = new IntArrayList();
+        longList = new LongArrayList();
+        doubleList = new DoubleArrayList();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialState() {
+        assertEquals(0, intList.size());
+        assertTrue(intList.isEmpty());
+        assertEquals(IntArrayList.INITIAL_CAPACITY,
+            intList.getBackingArray().length);
+        assertEquals(LongArrayList.INITIAL_CAPACITY,
+            longList.getBackingArray().length);
+        assertEquals(DoubleArrayList.INITIAL_CAPACITY,
+            doubleList.getBackingArray().length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntAddAtIndexAndFront() {
+        intList.addToBack(1);
+        intList.addToBack(3);
+        intList.addAtIndex(1, 2);
+        intList.addToFront(0);
+        intList.addAtIndex(4, 4);
+
+        assertEquals(5, intList.size());
+        int[] expected = new int[IntArrayList.INITIAL_CAPACITY];
+        for (int i = 0; i < 5; i++) {
+            expected[i] = i;
+        }
+        assertArrayEquals(expected, intList.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntResize() {
+        for (int i = 0; i < IntArrayList.INITIAL_CAPACITY; i++) {
+            intList.addToBack(i);
+        }
+        intList.addAtIndex(3, 100);
+        assertEquals(IntArrayList.INITIAL_CAPACITY + 1, intList.size());
+        assertEquals(IntArrayList.INITIAL_CAPACITY * 2,
+            intList.getBackingArray().length);
+        assertEquals(100, intList.get(3));
+        assertEquals(3, intList.get(4));
+        assertEquals(IntArrayList.INITIAL_CAPACITY - 1,
+            intList.get(IntArrayList.INITIAL_CAPACITY));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntRemove() {
+        intList.addAll(new int[] {5, 6, 7, 8});
+        assertEquals(6, intList.removeAtIndex(1));
+        assertEquals(5, intList.removeFromFront());
+        assertEquals(8, intList.removeFromBack());
+        assertArrayEquals(new int[] {7}, intList.toArray());
+        assertEquals(0, intList.getBackingArray()[1]);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testIntRemoveFromEmpty() {
+        intList.removeFromFront();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testIntAddOutOfBounds() {
+        intList.addAtIndex(1, 1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testIntGetOutOfBounds() {
+        intList.addToBack(1);
+        intList.get(1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntLastIndexOf() {
+        intList.addAll(new int[] {1, 2, 1, 3});
+        assertEquals(2, intList.lastIndexOf(1));
+        assertEquals(3, intList.lastIndexOf(3));
+        assertEquals(-1, intList.lastIndexOf(4));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntAddAllGrowsOnce() {
+        int[] data = new int[50];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i * 2;
+        }
+        intList.addToBack(-1);
+        intList.addAll(data);
+        assertEquals(51, intList.size());
+        assertEquals(51, intList.getBackingArray().length);
+        assertEquals(-1, intList.get(0));
+        assertEquals(98, intList.get(50));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntToArrayIsCopy() {
+        intList.addAll(new int[] {1, 2, 3});
+        int[] copy = intList.toArray();
+        copy[0] = 42;
+        assertEquals(1, intList.get(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntClear() {
+        intList.addAll(new int[20]);
+        intList.clear();
+        assertEquals(0, intList.size());
+        assertEquals(IntArrayList.INITIAL_CAPACITY,
+            intList.getBackingArray().length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLongList() {
+        longList.addToBack(Long.MAX_VALUE);
+        longList.addToFront(Long.MIN_VALUE);
+        longList.addAll(new long[] {1L, 2L});
+        assertArrayEquals(new long[] {Long.MIN_VALUE, Long.MAX_VALUE, 1L, 2L},
+            longList.toArray());
+        assertEquals(1, longList.lastIndexOf(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, longList.removeAtIndex(1));
+        assertEquals(2L, longList.removeFromBack());
+        assertEquals(2, longList.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDoubleList() {
+        doubleList.addAll(new double[] {0.5, Double.NaN, -0.0});
+        doubleList.addAtIndex(1, 1.5);
+        assertEquals(1.5, doubleList.get(1), 0.0);
+        assertEquals(2, doubleList.lastIndexOf(Double.NaN));
+        assertEquals(3, doubleList.lastIndexOf(-0.0));
+        assertEquals(-1, doubleList.lastIndexOf(0.0));
+        assertEquals(0.5, doubleList.removeFromFront(), 0.0);
+        assertEquals(3, doubleList.size());
+    }
+}
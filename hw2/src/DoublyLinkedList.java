@@ -0,0 +1,410 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A doubly linked list with head and tail references.
+ *
+ * Has the same API as SinglyLinkedList, but every node also links to its
+ * predecessor, so both ends of the list can be added to and removed from in
+ * O(1) and removeLastOccurrence searches backwards from the tail.
+ *
+ * To migrate, construct a DoublyLinkedList from an existing SinglyLinkedList
+ * (or any other Iterable). DoublyLinkedListNode has the same accessors as
+ * LinkedListNode, but node walks must be rewritten, because SinglyLinkedList
+ * is circular and this list is not. There, the last node's getNext() is the
+ * head, so a walk stops after size steps or on reaching the head again and
+ * never sees null. Here, the tail's getNext() and the head's getPrevious()
+ * are null, so a walk must stop on null. A loop that waits to come back to
+ * the head would throw a NullPointerException at the tail. Counting size
+ * steps still works, and the iterator works the same on both lists.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class DoublyLinkedList<T> implements Iterable<T> {
+    private DoublyLinkedListNode<T> head;
+    private DoublyLinkedListNode<T> tail;
+    private int size;
+    private int modCount;
+
+    /**
+     * Constructs a new, empty DoublyLinkedList.
+     */
+    public DoublyLinkedList() {
+        // Instance variables are already initialized to an empty list.
+    }
+
+    /**
+     * Constructs a DoublyLinkedList holding the given data in iteration order.
+     *
+     * @param data the data to add to the list, such as a SinglyLinkedList
+     * @throws java.lang.IllegalArgumentException if data or any element in
+     *                                            data is null
+     */
+    public DoublyLinkedList(Iterable<T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot build a list from a null collection.");
+        }
+        for (T item : data) {
+            addToBack(item);
+        }
+    }
+
+    /**
+     * Adds the element to the index specified.
+     * <p>
+     * Adding to indices 0 and {@code size} is O(1), all other cases are O(n),
+     * walking from whichever end of the list is closer.
+     *
+     * @param index the requested index for the new element
+     * @param data  the data for the new element
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or
+     *                                             index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot add null element into data structure.");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                + " is out of bounds for list of size " + size + ".");
+        }
+        if (index == 0) {
+            addToFront(data);
+        } else if (index == size) {
+            addToBack(data);
+        } else {
+            DoublyLinkedListNode<T> after = nodeAt(index);
+            DoublyLinkedListNode<T> newNode = new DoublyLinkedListNode<>(data,
+                after.getPrevious(), after);
+            after.getPrevious().setNext(newNode);
+            after.setPrevious(newNode);
+            size++;
+            modCount++;
+        }
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @param data the data for the new element
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot add null element into data structure.");
+        }
+        DoublyLinkedListNode<T> newNode =
+            new DoublyLinkedListNode<>(data, null, head);
+        if (head == null) {
+            tail = newNode;
+        } else {
+            head.setPrevious(newNode);
+        }
+        head = newNode;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @param data the data for the new element
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot add null element into data structure.");
+        }
+        DoublyLinkedListNode<T> newNode =
+            new DoublyLinkedListNode<>(data, tail, null);
+        if (tail == null) {
+            head = newNode;
+        } else {
+            tail.setNext(newNode);
+        }
+        tail = newNode;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes and returns the element from the index specified.
+     * <p>
+     * Removing from index 0 or {@code size - 1} is O(1), all other cases are
+     * O(n), walking from whichever end of the list is closer.
+     *
+     * @param index the requested index to be removed
+     * @return the data formerly located at index
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or
+     *                                             index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                + " is out of bounds for list of size " + size + ".");
+        }
+        return unlink(nodeAt(index));
+    }
+
+    /**
+     * Removes and returns the element at the front of the list. If the list is
+     * empty, return {@code null}.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @return the data formerly located at the front, null if empty list
+     */
+    public T removeFromFront() {
+        if (head == null) {
+            return null;
+        }
+        return unlink(head);
+    }
+
+    /**
+     * Removes and returns the element at the back of the list. If the list is
+     * empty, return {@code null}.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @return the data formerly located at the back, null if empty list
+     */
+    public T removeFromBack() {
+        if (tail == null) {
+            return null;
+        }
+        return unlink(tail);
+    }
+
+    /**
+     * Removes the last copy of the given data from the list.
+     * <p>
+     * Searches backwards from the tail, so it is O(1) if the last copy is at
+     * the back and O(n) in the worst case.
+     *
+     * @param data the data to be removed from the list
+     * @return the removed data occurrence from the list itself (not the data
+     * passed in), null if no occurrence
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public T removeLastOccurrence(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot remove null element from data structure.");
+        }
+        for (DoublyLinkedListNode<T> current = tail; current != null;
+             current = current.getPrevious()) {
+            if (current.getData().equals(data)) {
+                return unlink(current);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     * <p>
+     * Getting index 0 or {@code size - 1} is O(1), all other cases are O(n).
+     *
+     * @param index the index of the requested element
+     * @return the object stored at index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or
+     *                                             index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                + " is out of bounds for list of size " + size + ".");
+        }
+        return nodeAt(index).getData();
+    }
+
+    /**
+     * Returns an array representation of the linked list.
+     * <p>
+     * Must be O(n) for all cases.
+     *
+     * @return an array of length {@code size} holding all of the objects in
+     * this list in the same order
+     */
+    public Object[] toArray() {
+        Object[] output = new Object[size];
+        DoublyLinkedListNode<T> current = head;
+        for (int i = 0; i < size; i++) {
+            output[i] = current.getData();
+            current = current.getNext();
+        }
+        return output;
+    }
+
+    /**
+     * Returns a boolean value indicating if the list is empty.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list of all data.
+     * <p>
+     * Must be O(1) for all cases.
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list from the front to the back.
+     * Its remove method is O(1).
+     *
+     * @return an iterator over the elements of the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new DoublyLinkedListIterator();
+    }
+
+    /**
+     * Finds the node at the given index, walking from whichever end of the
+     * list is closer.
+     *
+     * @param index the index of the node, between 0 and size - 1
+     * @return the node at index
+     */
+    private DoublyLinkedListNode<T> nodeAt(int index) {
+        DoublyLinkedListNode<T> current;
+        if (index < size / 2) {
+            current = head;
+            for (int i = 0; i < index; i++) {
+                current = current.getNext();
+            }
+        } else {
+            current = tail;
+            for (int i = size - 1; i > index; i--) {
+                current = current.getPrevious();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Removes a node from the list.
+     *
+     * @param node the node to remove, which must be in this list
+     * @return the data in the removed node
+     */
+    private T unlink(DoublyLinkedListNode<T> node) {
+        DoublyLinkedListNode<T> previous = node.getPrevious();
+        DoublyLinkedListNode<T> next = node.getNext();
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        node.setPrevious(null);
+        node.setNext(null);
+        size--;
+        modCount++;
+        return node.getData();
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the head node of the linked list.
+     *
+     * @return node at the head of the linked list
+     */
+    public DoublyLinkedListNode<T> getHead() {
+        return head;
+    }
+
+    /**
+     * Returns the tail node of the linked list.
+     *
+     * @return node at the tail of the linked list
+     */
+    public DoublyLinkedListNode<T> getTail() {
+        return tail;
+    }
+
+    /**
+     * Fail-fast iterator over the list.
+     */
+    private class DoublyLinkedListIterator implements Iterator<T> {
+        private DoublyLinkedListNode<T> nextNode = head;
+        private DoublyLinkedListNode<T> lastReturned;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (nextNode == null) {
+                throw new NoSuchElementException("No elements left in the "
+                    + "list to iterate over.");
+            }
+            lastReturned = nextNode;
+            nextNode = nextNode.getNext();
+            return lastReturned.getData();
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException("next() has not been called "
+                    + "since the last remove.");
+            }
+            checkForComodification();
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Throws if the list was modified behind this iterator's back.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                    "List was modified during iteration.");
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Node class used for implementing the DoublyLinkedList.
+ *
+ * Has the same accessors as LinkedListNode, plus a link to the previous node.
+ * The list is not circular, so the tail's next and the head's previous are
+ * null; see DoublyLinkedList for how to migrate walks over a SinglyLinkedList.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class DoublyLinkedListNode<T> {
+    private T data;
+    private DoublyLinkedListNode<T> previous;
+    private DoublyLinkedListNode<T> next;
+
+    /**
+     * Creates a new DoublyLinkedListNode with the given T object and previous
+     * and next references.
+     *
+     * @param data     the data stored in the new node
+     * @param previous the previous node in the list
+     * @param next     the next node in the list
+     */
+    public DoublyLinkedListNode(T data, DoublyLinkedListNode<T> previous,
+                                DoublyLinkedListNode<T> next) {
+        this.data = data;
+        this.previous = previous;
+        this.next = next;
+    }
+
+    /**
+     * Creates a new DoublyLinkedListNode with only the given T object.
+     *
+     * @param data the data stored in the new node
+     */
+    public DoublyLinkedListNode(T data) {
+        this(data, null, null);
+    }
+
+    /**
+     * Gets the data stored in the node.
+     *
+     * @return the data in this node
+     */
+    public T getData() {
+        return data;
+    }
+
+    /**
+     * Sets the data stored in the node.
+     *
+     * @param data the new data
+     */
+    public void setData(T data) {
+        this.data = data;
+    }
+
+    /**
+     * Gets the previous node.
+     *
+     * @return the previous node
+     */
+    public DoublyLinkedListNode<T> getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Sets the previous node.
+     *
+     * @param previous the new previous node
+     */
+    public void setPrevious(DoublyLinkedListNode<T> previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Gets the next node.
+     *
+     * @return the next node
+     */
+    public DoublyLinkedListNode<T> getNext() {
+        return next;
+    }
+
+    /**
+     * Sets the next node.
+     *
+     * @param next the new next node
+     */
+    public void setNext(DoublyLinkedListNode<T> next) {
+        this.next = next;
+    }
+
+    @Override
+    public String toString() {
+        return "Node containing: " + data;
+    }
+}
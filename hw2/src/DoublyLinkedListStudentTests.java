@@ -0,0 +1,158 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for DoublyLinkedList.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class DoublyLinkedListStudentTests {
+    private DoublyLinkedList<String> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new DoublyLinkedList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddLinksBothWays() {
+        list.addToBack("1a");
+        list.addToFront("0a");
+        list.addToBack("3a");
+        list.addAtIndex(2, "2a");
+
+        assertEquals(4, list.size());
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", "3a"},
+            list.toArray());
+
+        DoublyLinkedListNode<String> current = list.getTail();
+        for (int i = 3; i >= 0; i--) {
+            assertEquals(i + "a", current.getData());
+            current = current.getPrevious();
+        }
+        assertNull(current);
+        assertNull(list.getTail().getNext());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveFromBothEnds() {
+        for (int i = 0; i < 4; i++) {
+            list.addToBack(i + "a");
+        }
+        assertEquals("3a", list.removeFromBack());
+        assertEquals("2a", list.getTail().getData());
+        assertEquals("0a", list.removeFromFront());
+        assertEquals("1a", list.getHead().getData());
+        assertEquals("2a", list.removeFromBack());
+        assertEquals("1a", list.removeFromBack());
+        assertNull(list.getHead());
+        assertNull(list.getTail());
+        assertNull(list.removeFromBack());
+        assertNull(list.removeFromFront());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveLastOccurrence() {
+        list.addToBack("a");
+        list.addToBack("b");
+        list.addToBack("a");
+        list.addToBack("c");
+
+        String copy = new String("a");
+        String removed = list.removeLastOccurrence(copy);
+        assertEquals("a", removed);
+        assertTrue(removed != copy);
+        assertArrayEquals(new Object[] {"a", "b", "c"}, list.toArray());
+        assertNull(list.removeLastOccurrence("d"));
+        assertEquals("c", list.removeLastOccurrence("c"));
+        assertEquals("b", list.getTail().getData());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        list.addToBack(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.addToBack("a");
+        list.get(1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMigrateFromSinglyLinkedList() {
+        SinglyLinkedList<String> singly = new SinglyLinkedList<>();
+        singly.addToBack("x");
+        singly.addToBack("y");
+        singly.addToFront("w");
+
+        list = new DoublyLinkedList<>(singly);
+        assertArrayEquals(singly.toArray(), list.toArray());
+        assertSame(list.getHead().getNext(), list.getTail().getPrevious());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIteratorRemove() {
+        for (int i = 0; i < 5; i++) {
+            list.addToBack(i + "a");
+        }
+        Iterator<String> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            String data = iterator.next();
+            if (!data.equals("2a")) {
+                iterator.remove();
+            }
+        }
+        assertArrayEquals(new Object[] {"2a"}, list.toArray());
+        assertSame(list.getHead(), list.getTail());
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        list.addToBack("a");
+        list.addToBack("b");
+        for (String data : list) {
+            list.removeFromBack();
+        }
+    }
+
+    @Test(timeout = 1000)
+    public void testRandomOperations() {
+        DoublyLinkedList<Integer> ints = new DoublyLinkedList<>();
+        LinkedList<Integer> reference = new LinkedList<>();
+        Random random = new Random(1332);
+        for (int op = 0; op < 3000; op++) {
+            int choice = random.nextInt(4);
+            if (choice < 2 || reference.isEmpty()) {
+                int index = random.nextInt(reference.size() + 1);
+                int value = random.nextInt(50);
+                reference.add(index, value);
+                ints.addAtIndex(index, value);
+            } else if (choice == 2) {
+                int index = random.nextInt(reference.size());
+                assertEquals(reference.remove(index),
+                    ints.removeAtIndex(index));
+            } else {
+                Integer value = random.nextInt(50);
+                boolean found = reference.removeLastOccurrence(value);
+                assertEquals(found ? value : null,
+                    ints.removeLastOccurrence(value));
+            }
+        }
+        assertArrayEquals(reference.toArray(), ints.toArray());
+    }
+}
@@ -0,0 +1,153 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the iterator, spliterator and streams of SinglyLinkedList.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class LinkedListIteratorStudentTests {
+    private SinglyLinkedList<Integer> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new SinglyLinkedList<>();
+        for (int i = 0; i < 5; i++) {
+            list.addToBack(i);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testForEach() {
+        int expected = 0;
+        for (Integer data : list) {
+            assertEquals((Integer) expected, data);
+            expected++;
+        }
+        assertEquals(5, expected);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEmptyIterator() {
+        list.clear();
+        assertFalse(list.iterator().hasNext());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testNextPastEnd() {
+        list.clear();
+        list.iterator().next();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveHead() {
+        Iterator<Integer> iterator = list.iterator();
+        assertEquals((Integer) 0, iterator.next());
+        iterator.remove();
+        assertEquals((Integer) 1, iterator.next());
+        iterator.remove();
+        assertEquals((Integer) 2, iterator.next());
+
+        assertEquals(3, list.size());
+        assertArrayEquals(new Object[] {2, 3, 4}, list.toArray());
+        assertSame(list.getHead(), list.getHead().getNext().getNext()
+            .getNext());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveMiddleAndTail() {
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertArrayEquals(new Object[] {1, 3}, list.toArray());
+        list.addToBack(5);
+        assertArrayEquals(new Object[] {1, 3, 5}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveEverything() {
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        assertEquals(0, list.size());
+        assertNull(list.getHead());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testRemoveTwice() {
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        iterator.remove();
+        iterator.remove();
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testFailFast() {
+        for (Integer data : list) {
+            if (data == 2) {
+                list.addToFront(-1);
+            }
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSpliteratorCharacteristics() {
+        Spliterator<Integer> spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(5, spliterator.getExactSizeIfKnown());
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals(2, prefix.getExactSizeIfKnown());
+        assertEquals(3, spliterator.getExactSizeIfKnown());
+        prefix.tryAdvance(data -> assertEquals((Integer) 0, data));
+        spliterator.tryAdvance(data -> assertEquals((Integer) 2, data));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStream() {
+        List<Integer> doubled = list.stream().map(data -> data * 2)
+            .collect(Collectors.toList());
+        assertArrayEquals(new Object[] {0, 2, 4, 6, 8}, doubled.toArray());
+    }
+
+    @Test(timeout = 1000)
+    public void testParallelStream() {
+        SinglyLinkedList<Integer> big = new SinglyLinkedList<>();
+        for (int i = 0; i < 10000; i++) {
+            big.addToBack(i);
+        }
+        List<Integer> collected = big.parallelStream()
+            .collect(Collectors.toList());
+        assertEquals(10000, collected.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals((Integer) i, collected.get(i));
+        }
+        assertEquals(49995000L,
+            big.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+}
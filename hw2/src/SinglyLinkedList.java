@@ -1,3 +1,11 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Your implementation of a circular singly linked list.
  *
@@ -6,10 +14,10 @@
  * @userid ahennessy6
  * @GTID 903309743
  */
-public class SinglyLinkedList<T> {
-    // Do not add new instance variables or modify existing ones.
+public class SinglyLinkedList<T> implements Iterable<T> {
     private LinkedListNode<T> head;
     private int size;
+    private int modCount;
 
 
     /**
@@ -50,6 +58,7 @@ public class SinglyLinkedList<T> {
                     newNode.setNext(nextBuffer.getNext());
                     current.setNext(newNode);
                     size++;
+                    modCount++;
                 }
 
             }
@@ -76,12 +85,14 @@ public class SinglyLinkedList<T> {
                 head = newNode;
                 head.setNext(head);
                 size++;
+                modCount++;
             } else {
                 newNode.setData(head.getData());
                 newNode.setNext(head.getNext());
                 head.setNext(newNode);
                 head.setData(data);
                 size++;
+                modCount++;
             }
         }
     }
@@ -106,6 +117,7 @@ public class SinglyLinkedList<T> {
                 head = newNode;
                 head.setNext(head);
                 size++;
+                modCount++;
             } else {
                 newNode.setData(head.getData());
                 head.setData(data);
@@ -113,6 +125,7 @@ public class SinglyLinkedList<T> {
                 head.setNext(newNode);
                 head = head.getNext();
                 size++;
+                modCount++;
             }
 
 
@@ -149,6 +162,7 @@ public class SinglyLinkedList<T> {
                 LinkedListNode<T> nextCurr = current.getNext().getNext();
                 current.setNext(nextCurr);
                 size--;
+                modCount++;
                 if (size == 0) {
                     head = null;
                 }
@@ -173,6 +187,7 @@ public class SinglyLinkedList<T> {
             head.setData(head.getNext().getData());
             head.setNext(head.getNext().getNext());
             size--;
+            modCount++;
             if (size == 0) {
                 head = null;
             }
@@ -197,6 +212,7 @@ public class SinglyLinkedList<T> {
             T data = current.getNext().getData();
             current.setNext(head);
             size--;
+            modCount++;
             if (size == 0) {
                 head = null;
             }
@@ -210,6 +226,7 @@ public class SinglyLinkedList<T> {
             //System.out.println(data);
             current.setNext(current.getNext().getNext());
             size--;
+            modCount++;
             if (size == 0) {
                 head = null;
             }
@@ -294,6 +311,57 @@ public class SinglyLinkedList<T> {
         return output;
     }
 
+    /**
+     * Returns an iterator over the list from the front to the back.
+     * <p>
+     * The iterator is fail-fast: if the list is modified other than through
+     * the iterator's own remove method, the next call on the iterator throws
+     * a {@link ConcurrentModificationException}.
+     * <p>
+     * Iterating the whole list is O(n) and remove is O(1).
+     *
+     * @return an iterator over the elements of the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LinkedListIterator();
+    }
+
+    /**
+     * Returns a spliterator over the list from the front to the back that
+     * reports SIZED, SUBSIZED, ORDERED and NONNULL.
+     * <p>
+     * Splitting walks the nodes to the midpoint of the remaining range and
+     * hands the first half to the new spliterator, so no elements are
+     * copied. The spliterator is fail-fast and binds to the list when it is
+     * created.
+     *
+     * @return a spliterator over the elements of the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new LinkedListSpliterator(head, size, modCount);
+    }
+
+    /**
+     * Returns a sequential stream over the list from the front to the back.
+     *
+     * @return a sequential stream of the list's elements
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over the list from the front to the
+     * back.
+     *
+     * @return a parallel stream of the list's elements
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * Returns a boolean value indicating if the list is empty.
      * <p>
@@ -313,6 +381,7 @@ public class SinglyLinkedList<T> {
     public void clear() {
         this.head = null;
         this.size = 0;
+        this.modCount++;
     }
 
     /**
@@ -340,4 +409,165 @@ public class SinglyLinkedList<T> {
         // DO NOT MODIFY!
         return head;
     }
+
+    /**
+     * Fail-fast iterator over the list. Remembers the node before the last
+     * one returned so that remove can unlink it in O(1).
+     */
+    private class LinkedListIterator implements Iterator<T> {
+        private LinkedListNode<T> nextNode = head;
+        private LinkedListNode<T> beforeNext;
+        private LinkedListNode<T> lastReturned;
+        private LinkedListNode<T> beforeLast;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (nextIndex >= size) {
+                throw new NoSuchElementException("No elements left in the "
+                    + "list to iterate over.");
+            }
+            beforeLast = beforeNext;
+            lastReturned = nextNode;
+            beforeNext = nextNode;
+            nextNode = nextNode.getNext();
+            nextIndex++;
+            return lastReturned.getData();
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException("next() has not been called "
+                    + "since the last remove.");
+            }
+            checkForComodification();
+            if (beforeLast == null) {
+                // The head cannot be unlinked without its predecessor, so
+                // pull the second element's data into it the same way
+                // removeFromFront does.
+                if (size == 1) {
+                    head = null;
+                } else {
+                    head.setData(head.getNext().getData());
+                    head.setNext(head.getNext().getNext());
+                }
+                nextNode = head;
+                beforeNext = null;
+            } else {
+                beforeLast.setNext(lastReturned.getNext());
+                beforeNext = beforeLast;
+            }
+            lastReturned = null;
+            nextIndex--;
+            size--;
+            modCount++;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Throws if the list was modified behind this iterator's back.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                    "List was modified during iteration.");
+            }
+        }
+    }
+
+    /**
+     * Fail-fast spliterator over a run of {@code remaining} nodes starting at
+     * {@code current}.
+     */
+    private class LinkedListSpliterator implements Spliterator<T> {
+        private LinkedListNode<T> current;
+        private int remaining;
+        private final int expectedModCount;
+
+        /**
+         * Creates a spliterator over a run of nodes.
+         *
+         * @param current          the first node of the run
+         * @param remaining        the number of nodes in the run
+         * @param expectedModCount the modCount of the list at creation
+         */
+        LinkedListSpliterator(LinkedListNode<T> current, int remaining,
+                              int expectedModCount) {
+            this.current = current;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException("Action cannot be null.");
+            }
+            if (remaining <= 0) {
+                return false;
+            }
+            T data = current.getData();
+            current = current.getNext();
+            remaining--;
+            action.accept(data);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                    "List was modified during traversal.");
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException("Action cannot be null.");
+            }
+            LinkedListNode<T> node = current;
+            int count = remaining;
+            current = null;
+            remaining = 0;
+            for (int i = 0; i < count; i++) {
+                action.accept(node.getData());
+                node = node.getNext();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                    "List was modified during traversal.");
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int half = remaining / 2;
+            if (half == 0) {
+                return null;
+            }
+            LinkedListSpliterator prefix =
+                new LinkedListSpliterator(current, half, expectedModCount);
+            for (int i = 0; i < half; i++) {
+                current = current.getNext();
+            }
+            remaining -= half;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED
+                | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,530 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An unrolled linked list: a doubly linked list of nodes that each hold a
+ * small array of elements.
+ *
+ * Has the same API as SinglyLinkedList. Keeping many elements in each node
+ * means traversal mostly reads consecutive array slots instead of following
+ * one reference per element, and the cost of each node header is shared by
+ * up to {@code nodeCapacity} elements.
+ *
+ * A full node is split in half when an element is inserted into it, except
+ * that adding past either end of the list starts a new node so that lists
+ * built by appending stay densely packed. A node that falls below half full
+ * after a remove is merged into a neighbour if their elements fit in one
+ * node.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class UnrolledLinkedList<T> implements Iterable<T> {
+
+    /**
+     * The number of elements each node holds unless another capacity is
+     * given to the constructor.
+     */
+    public static final int DEFAULT_NODE_CAPACITY = 32;
+
+    private final int nodeCapacity;
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private int nodeCount;
+    private int modCount;
+
+    /**
+     * Constructs a new, empty UnrolledLinkedList whose nodes each hold
+     * {@link #DEFAULT_NODE_CAPACITY} elements.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs a new, empty UnrolledLinkedList whose nodes each hold
+     * {@code nodeCapacity} elements.
+     *
+     * @param nodeCapacity the number of elements per node
+     * @throws java.lang.IllegalArgumentException if nodeCapacity is less
+     *                                            than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Node capacity must be at "
+                + "least 2 but was " + nodeCapacity + ".");
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Adds the element to the index specified.
+     * <p>
+     * Adding to indices 0 and {@code size} is O(1). All other cases are
+     * O(n / nodeCapacity + nodeCapacity), walking from whichever end of the
+     * list is closer.
+     *
+     * @param index the requested index for the new element
+     * @param data  the data for the new element
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or
+     *                                             index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot add null element into data structure.");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                + " is out of bounds for list of size " + size + ".");
+        }
+        if (index == 0) {
+            addToFront(data);
+        } else if (index == size) {
+            addToBack(data);
+        } else {
+            Node<T> node = head;
+            int offset = index;
+            if (index <= size / 2) {
+                while (offset > node.count) {
+                    offset -= node.count;
+                    node = node.next;
+                }
+            } else {
+                node = tail;
+                offset = index - (size - tail.count);
+                while (offset < 0) {
+                    node = node.previous;
+                    offset += node.count;
+                }
+            }
+            insert(node, offset, data);
+        }
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @param data the data for the new element
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot add null element into data structure.");
+        }
+        if (head == null || head.count == nodeCapacity) {
+            linkAfter(null, new Node<T>(nodeCapacity));
+        }
+        insert(head, 0, data);
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @param data the data for the new element
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot add null element into data structure.");
+        }
+        if (tail == null || tail.count == nodeCapacity) {
+            linkAfter(tail, new Node<T>(nodeCapacity));
+        }
+        tail.elements[tail.count] = data;
+        tail.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes and returns the element from the index specified.
+     * <p>
+     * Removing from index 0 or {@code size - 1} is O(nodeCapacity). All other
+     * cases are O(n / nodeCapacity + nodeCapacity).
+     *
+     * @param index the requested index to be removed
+     * @return the data formerly located at index
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or
+     *                                             index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                + " is out of bounds for list of size " + size + ".");
+        }
+        Node<T> node;
+        int offset;
+        if (index < size / 2) {
+            node = head;
+            offset = index;
+            while (offset >= node.count) {
+                offset -= node.count;
+                node = node.next;
+            }
+        } else {
+            node = tail;
+            offset = index - (size - tail.count);
+            while (offset < 0) {
+                node = node.previous;
+                offset += node.count;
+            }
+        }
+        return remove(node, offset);
+    }
+
+    /**
+     * Removes and returns the element at the front of the list. If the list is
+     * empty, return {@code null}.
+     * <p>
+     * Must be O(nodeCapacity) for all cases.
+     *
+     * @return the data formerly located at the front, null if empty list
+     */
+    public T removeFromFront() {
+        if (head == null) {
+            return null;
+        }
+        return remove(head, 0);
+    }
+
+    /**
+     * Removes and returns the element at the back of the list. If the list is
+     * empty, return {@code null}.
+     * <p>
+     * Must be O(nodeCapacity) for all cases.
+     *
+     * @return the data formerly located at the back, null if empty list
+     */
+    public T removeFromBack() {
+        if (tail == null) {
+            return null;
+        }
+        return remove(tail, tail.count - 1);
+    }
+
+    /**
+     * Removes the last copy of the given data from the list.
+     * <p>
+     * Searches backwards from the tail, so it is O(n) in the worst case.
+     *
+     * @param data the data to be removed from the list
+     * @return the removed data occurrence from the list itself (not the data
+     * passed in), null if no occurrence
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public T removeLastOccurrence(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot remove null element from data structure.");
+        }
+        for (Node<T> node = tail; node != null; node = node.previous) {
+            for (int i = node.count - 1; i >= 0; i--) {
+                if (node.elements[i].equals(data)) {
+                    return remove(node, i);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     * <p>
+     * O(n / nodeCapacity), walking from whichever end of the list is closer.
+     *
+     * @param index the index of the requested element
+     * @return the object stored at index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or
+     *                                             index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                + " is out of bounds for list of size " + size + ".");
+        }
+        if (index < size / 2) {
+            Node<T> node = head;
+            int offset = index;
+            while (offset >= node.count) {
+                offset -= node.count;
+                node = node.next;
+            }
+            return (T) node.elements[offset];
+        } else {
+            Node<T> node = tail;
+            int offset = index - (size - tail.count);
+            while (offset < 0) {
+                node = node.previous;
+                offset += node.count;
+            }
+            return (T) node.elements[offset];
+        }
+    }
+
+    /**
+     * Returns an array representation of the linked list.
+     * <p>
+     * Must be O(n) for all cases. Copies one node's elements at a time.
+     *
+     * @return an array of length {@code size} holding all of the objects in
+     * this list in the same order
+     */
+    public Object[] toArray() {
+        Object[] output = new Object[size];
+        int position = 0;
+        for (Node<T> node = head; node != null; node = node.next) {
+            System.arraycopy(node.elements, 0, output, position, node.count);
+            position += node.count;
+        }
+        return output;
+    }
+
+    /**
+     * Returns a boolean value indicating if the list is empty.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list of all data.
+     * <p>
+     * Must be O(1) for all cases.
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        nodeCount = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list from the front to the back.
+     * The iterator does not support remove.
+     *
+     * @return an iterator over the elements of the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new UnrolledIterator();
+    }
+
+    /**
+     * Inserts data into a node, splitting the node first if it is full.
+     *
+     * @param node   the node to insert into
+     * @param offset the position in the node for the new element
+     * @param data   the data to insert
+     */
+    private void insert(Node<T> node, int offset, T data) {
+        if (node.count == nodeCapacity) {
+            Node<T> upper = new Node<>(nodeCapacity);
+            int half = nodeCapacity / 2;
+            int moved = nodeCapacity - half;
+            System.arraycopy(node.elements, half, upper.elements, 0, moved);
+            Arrays.fill(node.elements, half, nodeCapacity, null);
+            node.count = half;
+            upper.count = moved;
+            linkAfter(node, upper);
+            if (offset > half) {
+                node = upper;
+                offset -= half;
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1,
+            node.count - offset);
+        node.elements[offset] = data;
+        node.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes an element from a node, then unlinks the node if it is empty
+     * or merges it with a neighbour if it is less than half full and their
+     * elements fit in one node.
+     *
+     * @param node   the node holding the element
+     * @param offset the position of the element in the node
+     * @return the removed data
+     */
+    private T remove(Node<T> node, int offset) {
+        T data = (T) node.elements[offset];
+        System.arraycopy(node.elements, offset + 1, node.elements, offset,
+            node.count - offset - 1);
+        node.count--;
+        node.elements[node.count] = null;
+        size--;
+        modCount++;
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.count < nodeCapacity / 2) {
+            if (node.next != null
+                && node.count + node.next.count <= nodeCapacity) {
+                mergeIntoPrevious(node.next);
+            } else if (node.previous != null
+                && node.previous.count + node.count <= nodeCapacity) {
+                mergeIntoPrevious(node);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Moves every element of a node onto the end of the node before it and
+     * unlinks the emptied node.
+     *
+     * @param node the node to empty, which must have a previous node
+     */
+    private void mergeIntoPrevious(Node<T> node) {
+        Node<T> previous = node.previous;
+        System.arraycopy(node.elements, 0, previous.elements, previous.count,
+            node.count);
+        previous.count += node.count;
+        unlink(node);
+    }
+
+    /**
+     * Links a new node into the list.
+     *
+     * @param previous the node to link after, or null to link at the head
+     * @param node     the node to link
+     */
+    private void linkAfter(Node<T> previous, Node<T> node) {
+        Node<T> next = previous == null ? head : previous.next;
+        node.previous = previous;
+        node.next = next;
+        if (previous == null) {
+            head = node;
+        } else {
+            previous.next = node;
+        }
+        if (next == null) {
+            tail = node;
+        } else {
+            next.previous = node;
+        }
+        nodeCount++;
+    }
+
+    /**
+     * Unlinks a node from the list.
+     *
+     * @param node the node to unlink
+     */
+    private void unlink(Node<T> node) {
+        if (node.previous == null) {
+            head = node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.previous;
+        } else {
+            node.next.previous = node.previous;
+        }
+        node.previous = null;
+        node.next = null;
+        nodeCount--;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of nodes currently in the list.
+     *
+     * @return the number of nodes
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the number of elements each node can hold.
+     *
+     * @return the node capacity
+     */
+    public int getNodeCapacity() {
+        return nodeCapacity;
+    }
+
+    /**
+     * A node holding up to {@code nodeCapacity} elements in the first
+     * {@code count} slots of its array.
+     *
+     * @param <T> the type of data in the node
+     */
+    private static class Node<T> {
+        private final Object[] elements;
+        private int count;
+        private Node<T> previous;
+        private Node<T> next;
+
+        /**
+         * Creates an empty node.
+         *
+         * @param capacity the number of elements the node can hold
+         */
+        Node(int capacity) {
+            this.elements = new Object[capacity];
+        }
+    }
+
+    /**
+     * Fail-fast iterator over the list.
+     */
+    private class UnrolledIterator implements Iterator<T> {
+        private Node<T> node = head;
+        private int offset;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return node != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                    "List was modified during iteration.");
+            }
+            if (node == null) {
+                throw new NoSuchElementException("No elements left in the "
+                    + "list to iterate over.");
+            }
+            T data = (T) node.elements[offset];
+            offset++;
+            if (offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            return data;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.LinkedList;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for UnrolledLinkedList. Most use a node capacity of 4 so that splits
+ * and merges happen after only a few operations.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class UnrolledLinkedListStudentTests {
+    private UnrolledLinkedList<Integer> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new UnrolledLinkedList<>(4);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAppendPacksNodes() {
+        for (int i = 0; i < 12; i++) {
+            list.addToBack(i);
+        }
+        assertEquals(12, list.size());
+        assertEquals(3, list.getNodeCount());
+        for (int i = 0; i < 12; i++) {
+            assertEquals((Integer) i, list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPrependPacksNodes() {
+        for (int i = 11; i >= 0; i--) {
+            list.addToFront(i);
+        }
+        assertEquals(3, list.getNodeCount());
+        assertArrayEquals(new Object[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11},
+            list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInsertSplitsFullNode() {
+        for (int i = 0; i < 4; i++) {
+            list.addToBack(i * 10);
+        }
+        assertEquals(1, list.getNodeCount());
+        list.addAtIndex(3, 25);
+        assertEquals(2, list.getNodeCount());
+        assertArrayEquals(new Object[] {0, 10, 20, 25, 30}, list.toArray());
+        list.addAtIndex(1, 5);
+        assertArrayEquals(new Object[] {0, 5, 10, 20, 25, 30},
+            list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveMergesNodes() {
+        for (int i = 0; i < 8; i++) {
+            list.addToBack(i);
+        }
+        assertEquals(2, list.getNodeCount());
+        assertEquals((Integer) 7, list.removeFromBack());
+        assertEquals((Integer) 1, list.removeAtIndex(1));
+        assertEquals((Integer) 2, list.removeAtIndex(1));
+        assertEquals(2, list.getNodeCount());
+        // The first node drops below half full and its one remaining element
+        // fits beside the three in the second node.
+        assertEquals((Integer) 0, list.removeAtIndex(0));
+        assertEquals(1, list.getNodeCount());
+        assertArrayEquals(new Object[] {3, 4, 5, 6}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveFromEnds() {
+        assertNull(list.removeFromFront());
+        assertNull(list.removeFromBack());
+        for (int i = 0; i < 6; i++) {
+            list.addToBack(i);
+        }
+        assertEquals((Integer) 0, list.removeFromFront());
+        assertEquals((Integer) 5, list.removeFromBack());
+        assertEquals(4, list.size());
+        while (!list.isEmpty()) {
+            list.removeFromFront();
+        }
+        assertEquals(0, list.getNodeCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveLastOccurrence() {
+        for (int i = 0; i < 10; i++) {
+            list.addToBack(i % 3);
+        }
+        Integer copy = new Integer(1);
+        assertEquals(copy, list.removeLastOccurrence(copy));
+        assertArrayEquals(new Object[] {0, 1, 2, 0, 1, 2, 0, 2, 0},
+            list.toArray());
+        assertNull(list.removeLastOccurrence(3));
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.addToBack(1);
+        list.get(1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testTinyNodeCapacity() {
+        new UnrolledLinkedList<Integer>(1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIterator() {
+        for (int i = 0; i < 10; i++) {
+            list.addToBack(i);
+        }
+        int expected = 0;
+        for (Integer data : list) {
+            assertEquals((Integer) expected, data);
+            expected++;
+        }
+        assertEquals(10, expected);
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        list.addToBack(1);
+        list.addToBack(2);
+        for (Integer data : list) {
+            list.addToFront(0);
+        }
+    }
+
+    @Test(timeout = 1000)
+    public void testRandomOperations() {
+        LinkedList<Integer> reference = new LinkedList<>();
+        Random random = new Random(1332);
+        for (int op = 0; op < 5000; op++) {
+            int choice = random.nextInt(5);
+            if (choice < 2 || reference.isEmpty()) {
+                int index = random.nextInt(reference.size() + 1);
+                int value = random.nextInt(50);
+                reference.add(index, value);
+                list.addAtIndex(index, value);
+            } else if (choice == 2) {
+                int index = random.nextInt(reference.size());
+                assertEquals(reference.remove(index),
+                    list.removeAtIndex(index));
+            } else if (choice == 3) {
+                Integer value = random.nextInt(50);
+                boolean found = reference.removeLastOccurrence(value);
+                assertEquals(found ? value : null,
+                    list.removeLastOccurrence(value));
+            } else {
+                int index = random.nextInt(reference.size());
+                assertEquals(reference.get(index), list.get(index));
+            }
+            assertEquals(reference.size(), list.size());
+            assertTrue(list.getNodeCount() <= reference.size());
+        }
+        assertArrayEquals(reference.toArray(), list.toArray());
+    }
+}
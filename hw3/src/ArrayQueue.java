@@ -1,3 +1,6 @@
+import java.util.Arrays;
+import java.util.Collection;
+
 /**
  * Your implementation of an array-backed queue.
  *
@@ -8,10 +11,10 @@
  */
 public class ArrayQueue<T> {
 
-    // Do not add new instance variables.
     private T[] backingArray;
     private int front;
     private int size;
+    private boolean autoShrink;
 
     /**
      * The initial capacity of a queue with fixed-size backing storage.
@@ -46,38 +49,19 @@ public class ArrayQueue<T> {
                 + "t into data structure.");
         } else {
             if (this.size() == this.backingArray.length) {
-                T[] outputArray = (T[]) new
-                    Object[this.backingArray.length * 2];
-                if (this.front > 0) {
-                    for (int i = 0; i < this.size() - this.front; i++) {
-                        outputArray[i] = this.backingArray[i + this.front];
-                    }
-                    for (int i = 0; i < this.front; i++) {
-                        outputArray[i + this.size() - this.front] =
-                            this.backingArray[i];
-                    }
-                } else {
-                    for (int i = 0; i < this.size(); i++) {
-                        outputArray[i] = this.backingArray[i];
-                    }
-                }
-                outputArray[this.size()] = data;
-                this.backingArray = outputArray;
-                size++;
-                this.front = 0;
-            } else {
-                this.backingArray[(this.size() + front)
-                    % this.backingArray.length] = data;
-                size++;
+                resize(this.backingArray.length * 2);
             }
+            this.backingArray[(this.size() + front)
+                % this.backingArray.length] = data;
+            size++;
         }
     }
 
     /**
      * Removes the data from the front of the queue.
      * <p>
-     * Do not shrink the backing array. If the queue becomes empty as a result
-     * of this call, you should explicitly reset front to 0.
+     * The backing array only shrinks if auto-shrink is on. If the queue
+     * becomes empty as a result of this call, front is reset to 0.
      * <p>
      * You should replace any spots that you dequeue from with null. Failure to
      * do so can result in a loss of points.
@@ -103,9 +87,214 @@ public class ArrayQueue<T> {
         T data = this.backingArray[index];
         this.backingArray[index] = null;
         size--;
+        if (this.size == 0) {
+            this.front = 0;
+        }
+        if (this.autoShrink) {
+            this.shrinkIfSparse();
+        }
         return data;
     }
 
+    /**
+     * Adds all of the given data to the back of the queue, in order.
+     * <p>
+     * Resizes at most once, doubling the capacity until everything fits,
+     * and copies the data in with at most two System.arraycopy calls, one
+     * for each side of the wraparound point. If any element is null the
+     * queue is left unchanged.
+     * <p>
+     * This method should be implemented in amortized O(k) time, where k is
+     * the number of elements added.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data or any element in it is null
+     */
+    public void enqueueAll(T[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot add a null array of "
+                + "elements into data structure.");
+        }
+        for (T item : data) {
+            if (item == null) {
+                throw new IllegalArgumentException("Cannot add null elemen"
+                    + "t into data structure.");
+            }
+        }
+        enqueueChecked(data);
+    }
+
+    /**
+     * Adds all of the given data to the back of the queue in the
+     * collection's iteration order.
+     * <p>
+     * Works like {@link #enqueueAll(Object[])} after copying the collection
+     * into an array.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data or any element in it is null
+     */
+    public void enqueueAll(Collection<? extends T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot add a null collection "
+                + "of elements into data structure.");
+        }
+        Object[] items = data.toArray();
+        for (Object item : items) {
+            if (item == null) {
+                throw new IllegalArgumentException("Cannot add null elemen"
+                    + "t into data structure.");
+            }
+        }
+        enqueueChecked(items);
+    }
+
+    /**
+     * Removes up to max elements from the front of the queue and stores
+     * them at the start of dst, in order.
+     * <p>
+     * Copies with at most two System.arraycopy calls and updates front and
+     * size once. Emptied slots are set to null as in dequeue, and front is
+     * reset to 0 if the queue becomes empty.
+     * <p>
+     * This method should be implemented in O(k) time, where k is the number
+     * of elements removed.
+     *
+     * @param dst the array to store the removed data in
+     * @param max the largest number of elements to remove
+     * @return the number of elements removed, which is the smallest of max,
+     * dst.length and the size of the queue
+     * @throws IllegalArgumentException if dst is null or max is negative
+     */
+    public int drainTo(T[] dst, int max) {
+        if (dst == null) {
+            throw new IllegalArgumentException(
+                "Cannot drain into a null array.");
+        }
+        if (max < 0) {
+            throw new IllegalArgumentException(
+                "Cannot drain a negative number of elements: " + max + ".");
+        }
+        int count = Math.min(size, Math.min(max, dst.length));
+        int firstPart = Math.min(count, backingArray.length - front);
+        System.arraycopy(backingArray, front, dst, 0, firstPart);
+        Arrays.fill(backingArray, front, front + firstPart, null);
+        System.arraycopy(backingArray, 0, dst, firstPart, count - firstPart);
+        Arrays.fill(backingArray, 0, count - firstPart, null);
+        size -= count;
+        if (size == 0) {
+            front = 0;
+        } else {
+            front = (front + count) % backingArray.length;
+        }
+        if (autoShrink) {
+            shrinkIfSparse();
+        }
+        return count;
+    }
+
+    /**
+     * Turns automatic shrinking on or off. When on, a dequeue or drainTo
+     * that leaves the queue less than a quarter full halves the backing
+     * array until it is at least a quarter full again, but never below
+     * INITIAL_CAPACITY. The gap between the quarter
+     * mark and the half-full array left behind keeps a queue hovering near
+     * one size from resizing back and forth.
+     *
+     * @param autoShrink whether removals may shrink the backing array
+     */
+    public void setAutoShrink(boolean autoShrink) {
+        this.autoShrink = autoShrink;
+        if (autoShrink) {
+            shrinkIfSparse();
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the size of the queue, or to
+     * INITIAL_CAPACITY if the queue is smaller than that, and moves front to
+     * index 0.
+     * <p>
+     * This method should be implemented in O(n) time.
+     */
+    public void compact() {
+        int capacity = Math.max(size, INITIAL_CAPACITY);
+        if (capacity < backingArray.length) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * Returns the length of the backing array.
+     *
+     * @return the number of elements the queue can hold without resizing
+     */
+    public int getCapacity() {
+        return backingArray.length;
+    }
+
+    /**
+     * Returns the fraction of the backing array holding elements.
+     *
+     * @return size divided by capacity, between 0 and 1
+     */
+    public double getOccupancy() {
+        return (double) size / backingArray.length;
+    }
+
+    /**
+     * Adds already validated data to the back of the queue.
+     *
+     * @param data the data to add, none of which is null
+     */
+    private void enqueueChecked(Object[] data) {
+        int needed = size + data.length;
+        if (needed > backingArray.length) {
+            int newCapacity = backingArray.length;
+            while (newCapacity < needed) {
+                newCapacity *= 2;
+            }
+            resize(newCapacity);
+        }
+        int back = (front + size) % backingArray.length;
+        int firstPart = Math.min(data.length, backingArray.length - back);
+        System.arraycopy(data, 0, backingArray, back, firstPart);
+        System.arraycopy(data, firstPart, backingArray, 0,
+            data.length - firstPart);
+        size += data.length;
+    }
+
+    /**
+     * Halves the backing array for as long as the queue is less than a
+     * quarter full and the result would not drop below INITIAL_CAPACITY.
+     * Copies the queue at most once, however many halvings that takes.
+     */
+    private void shrinkIfSparse() {
+        int capacity = backingArray.length;
+        while (size < capacity / 4 && capacity / 2 >= INITIAL_CAPACITY) {
+            capacity /= 2;
+        }
+        if (capacity < backingArray.length) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * Copies the queue to the start of a new backing array of the given
+     * length and resets front to 0.
+     *
+     * @param capacity the length of the new backing array, at least size
+     */
+    private void resize(int capacity) {
+        T[] newArray = (T[]) new Object[capacity];
+        int firstPart = Math.min(size, backingArray.length - front);
+        System.arraycopy(backingArray, front, newArray, 0, firstPart);
+        System.arraycopy(backingArray, 0, newArray, firstPart,
+            size - firstPart);
+        backingArray = newArray;
+        front = 0;
+    }
+
     /**
      * Retrieves the next data to be dequeued without removing it.
      * <p>
@@ -0,0 +1,141 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for the optional shrinking and capacity metrics of ArrayQueue.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class ArrayQueueShrinkStudentTests {
+    private ArrayQueue<Integer> queue;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        queue = new ArrayQueue<>();
+    }
+
+    /**
+     * Enqueues the integers from 0 up to but not including count.
+     *
+     * @param count the number of elements to enqueue
+     */
+    private void fill(int count) {
+        for (int i = 0; i < count; i++) {
+            queue.enqueue(i);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDoesNotShrinkByDefault() {
+        fill(72);
+        assertEquals(72, queue.getCapacity());
+        for (int i = 0; i < 71; i++) {
+            queue.dequeue();
+        }
+        assertEquals(72, queue.getCapacity());
+        assertEquals(1.0 / 72, queue.getOccupancy(), 1e-9);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAutoShrinkHalvesBelowQuarter() {
+        queue.setAutoShrink(true);
+        fill(72);
+        // 18 is exactly a quarter of 72, so nothing happens yet.
+        for (int i = 0; i < 54; i++) {
+            queue.dequeue();
+        }
+        assertEquals(72, queue.getCapacity());
+        queue.dequeue();
+        assertEquals(36, queue.getCapacity());
+        assertEquals(17, queue.size());
+        for (int i = 55; i < 72; i++) {
+            assertEquals((Integer) i, queue.dequeue());
+        }
+        assertEquals(ArrayQueue.INITIAL_CAPACITY, queue.getCapacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAutoShrinkHysteresis() {
+        queue.setAutoShrink(true);
+        fill(36);
+        for (int i = 0; i < 28; i++) {
+            queue.dequeue();
+        }
+        assertEquals(18, queue.getCapacity());
+        // Going back and forth across the shrink point does not resize,
+        // since the queue is now almost half full.
+        for (int i = 0; i < 10; i++) {
+            queue.enqueue(i);
+            queue.dequeue();
+        }
+        assertEquals(18, queue.getCapacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDrainToShrinksBurstInOneCall() {
+        queue.setAutoShrink(true);
+        fill(9 * 1024);
+        assertEquals(9 * 1024, queue.getCapacity());
+        Integer[] dst = new Integer[9 * 1024];
+        assertEquals(9 * 1024 - 5, queue.drainTo(dst, 9 * 1024 - 5));
+        // Five elements left: halving stops at 18, the first capacity the
+        // queue fills at least a quarter of.
+        assertEquals(18, queue.getCapacity());
+        queue.drainTo(dst, 5);
+        assertEquals(ArrayQueue.INITIAL_CAPACITY, queue.getCapacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEnablingAutoShrinkShrinksFully() {
+        fill(9 * 64);
+        for (int i = 0; i < 9 * 64 - 3; i++) {
+            queue.dequeue();
+        }
+        queue.setAutoShrink(true);
+        assertEquals(ArrayQueue.INITIAL_CAPACITY, queue.getCapacity());
+        for (int i = 9 * 64 - 3; i < 9 * 64; i++) {
+            assertEquals((Integer) i, queue.dequeue());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testShrinkKeepsOrderAcrossWrap() {
+        fill(36);
+        for (int i = 0; i < 32; i++) {
+            queue.dequeue();
+        }
+        for (int i = 36; i < 40; i++) {
+            queue.enqueue(i);
+        }
+        // The eight elements now wrap around the end of the backing array.
+        queue.setAutoShrink(true);
+        assertEquals(18, queue.getCapacity());
+        for (int i = 32; i < 40; i++) {
+            assertEquals((Integer) i, queue.dequeue());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCompact() {
+        fill(36);
+        for (int i = 0; i < 24; i++) {
+            queue.dequeue();
+        }
+        queue.compact();
+        assertEquals(12, queue.getCapacity());
+        assertEquals(1.0, queue.getOccupancy(), 1e-9);
+        assertEquals((Integer) 24, queue.getBackingArray()[0]);
+
+        queue.enqueue(36);
+        assertEquals(24, queue.getCapacity());
+
+        queue.drainTo(new Integer[13], 13);
+        queue.compact();
+        assertEquals(ArrayQueue.INITIAL_CAPACITY, queue.getCapacity());
+    }
+}
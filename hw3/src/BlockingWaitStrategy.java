@@ -0,0 +1,71 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waits by parking the thread on a lock condition until another thread
+ * signals.
+ *
+ * Uses no CPU while waiting, at the cost of a slower wake-up. signalAll
+ * only takes the lock when some thread is actually waiting, so a buffer
+ * whose consumers keep up pays one uncontended atomic update per
+ * operation.
+ *
+ * The waiter count is read in signalAll with an atomic read-modify-write
+ * rather than a plain volatile read. The buffers publish their sequences
+ * with release-only stores (lazySet), and nothing orders such a store
+ * before a later volatile read. A plain read could therefore see no waiters
+ * while a waiter registers, rechecks the old sequence and parks, and the
+ * wake-up would be lost. Read-modify-writes of waiters are totally ordered.
+ * If the signaller's update comes after the waiter's registration, it sees
+ * the waiter and signals under the lock. If it comes first, it
+ * happens-before the registration, and so does the publishing store before
+ * it, so the waiter's recheck sees the new sequence.
+ *
+ * Use a separate instance for each buffer, since every waiter on an
+ * instance is woken by every signal.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class BlockingWaitStrategy implements WaitStrategy {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    @Override
+    public void await(BooleanSupplier ready) throws InterruptedException {
+        if (ready.getAsBoolean()) {
+            return;
+        }
+        lock.lockInterruptibly();
+        try {
+            // Registering before the check means a signaller either sees
+            // this waiter or made its change before the check below.
+            waiters.incrementAndGet();
+            while (!ready.getAsBoolean()) {
+                changed.await();
+            }
+        } finally {
+            waiters.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        // getAndAdd(0) rather than get(): see the class comment.
+        if (waiters.getAndAdd(0) > 0) {
+            lock.lock();
+            try {
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
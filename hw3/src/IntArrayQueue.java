@@ -0,0 +1,193 @@
+import java.util.NoSuchElementException;
+
+/**
+ * An ArrayQueue specialized for primitive ints.
+ *
+ * Mirrors the contract of {@link ArrayQueue} but stores its elements
+ * directly in an {@code int[]}, so no element is ever boxed and enqueueing
+ * or dequeueing never allocates except when the backing array doubles.
+ *
+ * An int cannot be null, so dequeue and peek throw when the queue is empty,
+ * as ArrayQueue.dequeue does. Hot loops that expect to hit the empty queue
+ * should call pollOrDefault or peekOrDefault instead, which never create an
+ * exception.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class IntArrayQueue {
+
+    private int[] backingArray;
+    private int front;
+    private int size;
+
+    /**
+     * The initial capacity of a queue with fixed-size backing storage.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    /**
+     * Constructs a new IntArrayQueue.
+     */
+    public IntArrayQueue() {
+        this.backingArray = new int[INITIAL_CAPACITY];
+        this.size = 0;
+        this.front = 0;
+    }
+
+    /**
+     * Adds the given data to the queue.
+     * <p>
+     * If sufficient space is not available in the backing array, it is
+     * resized to double the current length, with the elements copied to the
+     * front of the new array and front reset to 0.
+     * <p>
+     * This method should be implemented in amortized O(1) time.
+     *
+     * @param data the data to add
+     */
+    public void enqueue(int data) {
+        int length = this.backingArray.length;
+        if (this.size == length) {
+            int[] buffer = new int[length * 2];
+            System.arraycopy(this.backingArray, this.front, buffer, 0,
+                length - this.front);
+            System.arraycopy(this.backingArray, 0, buffer,
+                length - this.front, this.front);
+            this.backingArray = buffer;
+            this.front = 0;
+            length = buffer.length;
+        }
+        int back = this.front + this.size;
+        if (back >= length) {
+            back -= length;
+        }
+        this.backingArray[back] = data;
+        this.size++;
+    }
+
+    /**
+     * Removes the data from the front of the queue.
+     * <p>
+     * This method should be implemented in O(1) time.
+     *
+     * @return the data from the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public int dequeue() {
+        if (this.size == 0) {
+            throw new NoSuchElementException(
+                "Cannot dequeue from an empty queue.");
+        }
+        return removeFront();
+    }
+
+    /**
+     * Removes the data from the front of the queue, or returns the given
+     * value if the queue is empty.
+     * <p>
+     * This method should be implemented in O(1) time.
+     *
+     * @param emptyValue the value to return if the queue is empty
+     * @return the data from the front of the queue or emptyValue
+     */
+    public int pollOrDefault(int emptyValue) {
+        if (this.size == 0) {
+            return emptyValue;
+        }
+        return removeFront();
+    }
+
+    /**
+     * Retrieves the next data to be dequeued without removing it.
+     * <p>
+     * This method should be implemented in O(1) time.
+     *
+     * @return the data at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public int peek() {
+        if (this.size == 0) {
+            throw new NoSuchElementException(
+                "Cannot peek at an empty queue.");
+        }
+        return this.backingArray[this.front];
+    }
+
+    /**
+     * Retrieves the next data to be dequeued without removing it, or returns
+     * the given value if the queue is empty.
+     * <p>
+     * This method should be implemented in O(1) time.
+     *
+     * @param emptyValue the value to return if the queue is empty
+     * @return the data at the front of the queue or emptyValue
+     */
+    public int peekOrDefault(int emptyValue) {
+        if (this.size == 0) {
+            return emptyValue;
+        }
+        return this.backingArray[this.front];
+    }
+
+    /**
+     * Returns whether the queue is empty.
+     *
+     * @return true if the queue has no elements; false otherwise
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes every element from the queue without shrinking the backing
+     * array.
+     * <p>
+     * This method should be implemented in O(1) time.
+     */
+    public void clear() {
+        this.size = 0;
+        this.front = 0;
+    }
+
+    /**
+     * Removes the front element of a queue known to be non-empty. Resets
+     * front to 0 if the queue becomes empty.
+     *
+     * @return the data formerly at the front of the queue
+     */
+    private int removeFront() {
+        int data = this.backingArray[this.front];
+        this.size--;
+        if (this.size == 0) {
+            this.front = 0;
+        } else {
+            this.front++;
+            if (this.front == this.backingArray.length) {
+                this.front = 0;
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Returns the size of the queue.
+     *
+     * @return number of items in the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the backing array of the queue. Slots outside the elements
+     * hold stale values.
+     *
+     * @return the backing array
+     */
+    public int[] getBackingArray() {
+        return backingArray;
+    }
+}
@@ -0,0 +1,162 @@
+import java.util.NoSuchElementException;
+
+/**
+ * An ArrayStack specialized for primitive ints.
+ *
+ * Mirrors the contract of {@link ArrayStack} but stores its elements
+ * directly in an {@code int[]}, so no element is ever boxed and pushing or
+ * popping never allocates except when the backing array doubles.
+ *
+ * An int cannot be null, so pop and peek throw when the stack is empty, as
+ * ArrayStack.pop does. Hot loops that expect to hit the empty stack should
+ * call popOrDefault or peekOrDefault instead, which never create an
+ * exception.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class IntArrayStack {
+
+    private int[] backingArray;
+    private int size;
+
+    /**
+     * The initial capacity of a stack with fixed-size backing storage.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    /**
+     * Constructs a new IntArrayStack.
+     */
+    public IntArrayStack() {
+        this.backingArray = new int[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Adds the given data onto the stack. The given element becomes the
+     * top-most element of the stack.
+     * <p>
+     * If sufficient space is not available in the backing array, it is
+     * resized to double the current length.
+     * <p>
+     * This method should be implemented in amortized O(1) time.
+     *
+     * @param data the data to add
+     */
+    public void push(int data) {
+        if (this.size == this.backingArray.length) {
+            int[] buffer = new int[this.backingArray.length * 2];
+            System.arraycopy(this.backingArray, 0, buffer, 0, this.size);
+            this.backingArray = buffer;
+        }
+        this.backingArray[this.size] = data;
+        this.size++;
+    }
+
+    /**
+     * Removes and returns the top-most element on the stack.
+     * <p>
+     * This method should be implemented in O(1) time.
+     *
+     * @return the data from the top of the stack
+     * @throws java.util.NoSuchElementException if the stack is empty
+     */
+    public int pop() {
+        if (this.size == 0) {
+            throw new NoSuchElementException(
+                "Cannot pop from an empty stack.");
+        }
+        this.size--;
+        return this.backingArray[this.size];
+    }
+
+    /**
+     * Removes and returns the top-most element on the stack, or returns the
+     * given value if the stack is empty.
+     * <p>
+     * This method should be implemented in O(1) time.
+     *
+     * @param emptyValue the value to return if the stack is empty
+     * @return the data from the top of the stack or emptyValue
+     */
+    public int popOrDefault(int emptyValue) {
+        if (this.size == 0) {
+            return emptyValue;
+        }
+        this.size--;
+        return this.backingArray[this.size];
+    }
+
+    /**
+     * Retrieves the next element to be popped without removing it.
+     * <p>
+     * This method should be implemented in O(1) time.
+     *
+     * @return the data at the top of the stack
+     * @throws java.util.NoSuchElementException if the stack is empty
+     */
+    public int peek() {
+        if (this.size == 0) {
+            throw new NoSuchElementException(
+                "Cannot peek at an empty stack.");
+        }
+        return this.backingArray[this.size - 1];
+    }
+
+    /**
+     * Retrieves the next element to be popped without removing it, or
+     * returns the given value if the stack is empty.
+     * <p>
+     * This method should be implemented in O(1) time.
+     *
+     * @param emptyValue the value to return if the stack is empty
+     * @return the data at the top of the stack or emptyValue
+     */
+    public int peekOrDefault(int emptyValue) {
+        if (this.size == 0) {
+            return emptyValue;
+        }
+        return this.backingArray[this.size - 1];
+    }
+
+    /**
+     * Returns whether the stack is empty.
+     *
+     * @return true if the stack has no elements; false otherwise
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes every element from the stack without shrinking the backing
+     * array.
+     * <p>
+     * This method should be implemented in O(1) time.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Returns the size of the stack.
+     *
+     * @return number of items in the stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the backing array of the stack. Slots at or above size hold
+     * stale values.
+     *
+     * @return the backing array
+     */
+    public int[] getBackingArray() {
+        return backingArray;
+    }
+}
@@ -40,6 +40,15 @@ public class LinkedNode<T> {
         return data;
     }
 
+    /**
+     * Sets the data stored in the node.
+     *
+     * @param data the new data
+     */
+    public void setData(T data) {
+        this.data = data;
+    }
+
     /**
      * Gets the next node.
      *
@@ -1,3 +1,6 @@
+import java.util.Arrays;
+import java.util.Collection;
+
 /**
  * Your implementation of a linked queue. It should NOT be circular.
  *
@@ -8,10 +11,33 @@
  */
 public class LinkedQueue<T> {
 
-    // Do not add new instance variables.
     private LinkedNode<T> head;
     private LinkedNode<T> tail;
     private int size;
+    private final NodePool<T> nodePool;
+
+    /**
+     * Constructs a new LinkedQueue that allocates a new node for every
+     * enqueue.
+     */
+    public LinkedQueue() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new LinkedQueue that takes nodes from the given pool on
+     * enqueue and returns them to it on dequeue.
+     * <p>
+     * A dequeued node is cleared and may be reused by any structure sharing
+     * the pool, so callers must not hold on to nodes from getHead() or
+     * getTail().
+     *
+     * @param nodePool the pool to recycle nodes through, or null to
+     *                 allocate every node
+     */
+    public LinkedQueue(NodePool<T> nodePool) {
+        this.nodePool = nodePool;
+    }
 
     /**
      * Adds the given data to the queue.
@@ -27,7 +53,7 @@ public class LinkedQueue<T> {
                 + "type null therefore can't be enqueue'd");
         } else {
             LinkedNode<T> previousLast = this.tail;
-            this.tail = new LinkedNode<T>((T) data);
+            this.tail = newNode(data);
             if (this.size == 0) {
                 this.head = this.tail;
             } else {
@@ -52,12 +78,144 @@ public class LinkedQueue<T> {
         } else {
             T output = this.head.getData();
             LinkedNode<T> previousNext = this.head.getNext();
+            if (nodePool != null) {
+                nodePool.release(this.head);
+            }
             this.head = previousNext;
             size--;
+            if (size == 0) {
+                this.tail = null;
+            }
             return output;
         }
     }
 
+    /**
+     * Adds all of the given data to the back of the queue, in order.
+     * <p>
+     * The new nodes are chained together first and then linked onto the
+     * tail in one step, so if any element is null the queue is left
+     * unchanged.
+     * <p>
+     * This method should be implemented in O(k) time, where k is the number
+     * of elements added.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data or any element in it is null
+     */
+    public void enqueueAll(T[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot add a null array of "
+                + "elements into data structure.");
+        }
+        enqueueAll(Arrays.asList(data));
+    }
+
+    /**
+     * Adds all of the given data to the back of the queue in the
+     * collection's iteration order.
+     * <p>
+     * The new nodes are chained together first and then linked onto the
+     * tail in one step, so if any element is null the queue is left
+     * unchanged.
+     * <p>
+     * This method should be implemented in O(k) time, where k is the number
+     * of elements added.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data or any element in it is null
+     */
+    public void enqueueAll(Collection<? extends T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot add a null collection "
+                + "of elements into data structure.");
+        }
+        LinkedNode<T> first = null;
+        LinkedNode<T> last = null;
+        int count = 0;
+        for (T item : data) {
+            if (item == null) {
+                throw new IllegalArgumentException("The data you inputed is "
+                    + "of type null therefore can't be enqueue'd");
+            }
+            LinkedNode<T> node = newNode(item);
+            if (first == null) {
+                first = node;
+            } else {
+                last.setNext(node);
+            }
+            last = node;
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
+        if (this.size == 0) {
+            this.head = first;
+        } else {
+            this.tail.setNext(first);
+        }
+        this.tail = last;
+        size += count;
+    }
+
+    /**
+     * Removes up to max elements from the front of the queue and stores
+     * them at the start of dst, in order.
+     * <p>
+     * Walks the removed nodes once and updates head and size once. If the
+     * queue becomes empty, tail is cleared too.
+     * <p>
+     * This method should be implemented in O(k) time, where k is the number
+     * of elements removed.
+     *
+     * @param dst the array to store the removed data in
+     * @param max the largest number of elements to remove
+     * @return the number of elements removed, which is the smallest of max,
+     * dst.length and the size of the queue
+     * @throws IllegalArgumentException if dst is null or max is negative
+     */
+    public int drainTo(T[] dst, int max) {
+        if (dst == null) {
+            throw new IllegalArgumentException(
+                "Cannot drain into a null array.");
+        }
+        if (max < 0) {
+            throw new IllegalArgumentException(
+                "Cannot drain a negative number of elements: " + max + ".");
+        }
+        int count = Math.min(size, Math.min(max, dst.length));
+        LinkedNode<T> current = this.head;
+        for (int i = 0; i < count; i++) {
+            dst[i] = current.getData();
+            LinkedNode<T> next = current.getNext();
+            if (nodePool != null) {
+                nodePool.release(current);
+            }
+            current = next;
+        }
+        this.head = current;
+        size -= count;
+        if (size == 0) {
+            this.tail = null;
+        }
+        return count;
+    }
+
+    /**
+     * Creates a node holding the given data, taking it from the pool if
+     * there is one.
+     *
+     * @param data the data for the node
+     * @return a node holding data with no next node
+     */
+    private LinkedNode<T> newNode(T data) {
+        if (nodePool == null) {
+            return new LinkedNode<T>(data);
+        }
+        return nodePool.obtain(data, null);
+    }
+
     /**
      * Retrieves the next data to be dequeued without removing it.
      * <p>
@@ -111,4 +269,13 @@ public class LinkedQueue<T> {
         // DO NOT MODIFY THIS METHOD!
         return tail;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the pool this queue recycles nodes through.
+     *
+     * @return the node pool, or null if every node is allocated
+     */
+    public NodePool<T> getNodePool() {
+        return nodePool;
+    }
+}
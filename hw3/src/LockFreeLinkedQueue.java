@@ -0,0 +1,200 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A lock-free linked queue that many producer and consumer threads can share
+ * without any external locking.
+ *
+ * Has the same enqueue, dequeue, peek and size contract as LinkedQueue. It
+ * follows the Michael and Scott algorithm: head always points at a dummy node
+ * whose successor holds the front element, and every change to the list is a
+ * single compare-and-set. A thread that finds tail lagging behind the real
+ * last node helps swing it forward before retrying, so no thread ever waits
+ * on another.
+ *
+ * LinkedNode cannot be updated atomically, so this queue uses its own node
+ * class with a volatile next reference.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class LockFreeLinkedQueue<T> {
+
+    private final AtomicReference<Node<T>> head;
+    private final AtomicReference<Node<T>> tail;
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Constructs a new, empty LockFreeLinkedQueue.
+     */
+    public LockFreeLinkedQueue() {
+        Node<T> dummy = new Node<>(null);
+        head = new AtomicReference<>(dummy);
+        tail = new AtomicReference<>(dummy);
+    }
+
+    /**
+     * Adds the given data to the queue.
+     * <p>
+     * This method is O(1) apart from retries caused by other threads.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null
+     */
+    public void enqueue(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot enqueue null data into the queue.");
+        }
+        Node<T> newNode = new Node<>(data);
+        while (true) {
+            Node<T> last = tail.get();
+            Node<T> next = last.next;
+            if (last != tail.get()) {
+                continue;
+            }
+            if (next != null) {
+                // Another enqueue linked its node but has not moved tail yet.
+                tail.compareAndSet(last, next);
+            } else if (last.casNext(null, newNode)) {
+                tail.compareAndSet(last, newNode);
+                size.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the data from the front of the queue.
+     * <p>
+     * This method is O(1) apart from retries caused by other threads.
+     *
+     * @return the data from the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T dequeue() {
+        T data = poll();
+        if (data == null) {
+            throw new NoSuchElementException(
+                "No elements to dequeue because the queue is empty.");
+        }
+        return data;
+    }
+
+    /**
+     * Removes the data from the front of the queue, or returns null if the
+     * queue is empty.
+     * <p>
+     * Checking size() or peek() before calling dequeue() is not safe when
+     * other threads consume from the same queue, since the queue may empty in
+     * between. This method does both in one atomic step.
+     *
+     * @return the data from the front of the queue or null if it is empty
+     */
+    public T poll() {
+        while (true) {
+            Node<T> first = head.get();
+            Node<T> last = tail.get();
+            Node<T> next = first.next;
+            if (first != head.get()) {
+                continue;
+            }
+            if (next == null) {
+                return null;
+            }
+            if (first == last) {
+                // The queue is not empty, but tail still points at the dummy.
+                tail.compareAndSet(last, next);
+            } else {
+                T data = next.data;
+                if (head.compareAndSet(first, next)) {
+                    // next is the new dummy; drop its data so it can be
+                    // garbage collected.
+                    next.data = null;
+                    size.decrementAndGet();
+                    return data;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the next data to be dequeued without removing it.
+     * <p>
+     * This method is O(1) apart from retries caused by other threads.
+     *
+     * @return the next data or null if the queue is empty
+     */
+    public T peek() {
+        while (true) {
+            Node<T> first = head.get();
+            Node<T> next = first.next;
+            if (next == null) {
+                return null;
+            }
+            T data = next.data;
+            if (data != null && first == head.get()) {
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Returns the size of the queue.
+     * <p>
+     * While other threads are changing the queue this is only a snapshot,
+     * and it may briefly lag behind elements that were just added or
+     * removed.
+     *
+     * @return number of items in the queue
+     */
+    public int size() {
+        return Math.max(0, size.get());
+    }
+
+    /**
+     * Returns whether the queue is empty.
+     *
+     * @return true if the queue has no elements; false otherwise
+     */
+    public boolean isEmpty() {
+        return head.get().next == null;
+    }
+
+    /**
+     * A queue node whose next reference can be compared-and-set.
+     */
+    private static final class Node<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class,
+                "next");
+
+        private volatile T data;
+        private volatile Node<T> next;
+
+        /**
+         * Creates a node holding the given data and no next node.
+         *
+         * @param data the data stored in the node, null for the dummy
+         */
+        private Node(T data) {
+            this.data = data;
+        }
+
+        /**
+         * Atomically sets the next node if it is currently the expected one.
+         *
+         * @param expected the expected next node
+         * @param update   the new next node
+         * @return true if the next node was changed
+         */
+        private boolean casNext(Node<T> expected, Node<T> update) {
+            return NEXT.compareAndSet(this, expected, update);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for LockFreeLinkedQueue, including a multi-threaded stress test.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class LockFreeLinkedQueueStudentTests {
+    private LockFreeLinkedQueue<Integer> queue;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        queue = new LockFreeLinkedQueue<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testFifoOrder() {
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue(i);
+        }
+        assertEquals(5, queue.size());
+        assertEquals((Integer) 0, queue.peek());
+        for (int i = 0; i < 5; i++) {
+            assertEquals((Integer) i, queue.dequeue());
+        }
+        assertEquals(0, queue.size());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInterleaved() {
+        queue.enqueue(1);
+        queue.enqueue(2);
+        assertEquals((Integer) 1, queue.dequeue());
+        queue.enqueue(3);
+        assertEquals((Integer) 2, queue.poll());
+        assertEquals((Integer) 3, queue.peek());
+        assertFalse(queue.isEmpty());
+        assertEquals((Integer) 3, queue.dequeue());
+        assertNull(queue.peek());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testDequeueEmpty() {
+        queue.dequeue();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testEnqueueNull() {
+        queue.enqueue(null);
+    }
+
+    @Test(timeout = 10000)
+    public void testConcurrentProducersAndConsumers()
+        throws InterruptedException {
+        final int producers = 4;
+        final int consumers = 4;
+        final int perProducer = 50000;
+        final int total = producers * perProducer;
+        final int[] seen = new int[total];
+        final int[][] lastSeen = new int[consumers][producers];
+        final AtomicInteger consumed = new AtomicInteger();
+        final AtomicInteger orderErrors = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers + consumers];
+
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            threads[p] = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < perProducer; i++) {
+                    queue.enqueue(base + i);
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            final int[] last = lastSeen[c];
+            Arrays.fill(last, -1);
+            threads[producers + c] = new Thread(() -> {
+                awaitQuietly(start);
+                while (consumed.get() < total) {
+                    Integer data = queue.poll();
+                    if (data == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    consumed.incrementAndGet();
+                    synchronized (seen) {
+                        seen[data]++;
+                    }
+                    // Each consumer must see any one producer's elements in
+                    // the order they were enqueued.
+                    int producer = data / perProducer;
+                    if (data <= last[producer]) {
+                        orderErrors.incrementAndGet();
+                    }
+                    last[producer] = data;
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, orderErrors.get());
+        for (int i = 0; i < total; i++) {
+            assertEquals("element " + i, 1, seen[i]);
+        }
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+    }
+
+    /**
+     * Waits for the latch, ignoring interrupts.
+     *
+     * @param latch the latch to wait for
+     */
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
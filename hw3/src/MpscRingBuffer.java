@@ -0,0 +1,96 @@
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A ring buffer for any number of producer threads and one consumer thread.
+ *
+ * Producers claim a slot by advancing the tail sequence with
+ * compare-and-set and then publish their element into it. The consumer
+ * treats an empty slot behind the tail as claimed but not yet published and
+ * waits the few instructions it takes the producer to fill it.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class MpscRingBuffer<T> extends RingBuffer<T> {
+
+    private final AtomicReferenceArray<T> buffer;
+
+    /**
+     * Creates a ring buffer that spins while waiting.
+     *
+     * @param requestedCapacity the minimum number of elements to hold, which
+     *                          is rounded up to a power of two
+     * @throws java.lang.IllegalArgumentException if requestedCapacity is not
+     *                                            between 1 and MAX_CAPACITY
+     */
+    public MpscRingBuffer(int requestedCapacity) {
+        this(requestedCapacity, new SpinningWaitStrategy());
+    }
+
+    /**
+     * Creates a ring buffer.
+     *
+     * @param requestedCapacity the minimum number of elements to hold, which
+     *                          is rounded up to a power of two
+     * @param waitStrategy      how put and take wait
+     * @throws java.lang.IllegalArgumentException if requestedCapacity is not
+     *                                            between 1 and MAX_CAPACITY or
+     *                                            waitStrategy is null
+     */
+    public MpscRingBuffer(int requestedCapacity, WaitStrategy waitStrategy) {
+        super(requestedCapacity, waitStrategy);
+        buffer = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public boolean offer(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot add null element into data structure.");
+        }
+        long back;
+        do {
+            back = tail.get();
+            if (back - head.get() >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(back, back + 1));
+        buffer.lazySet((int) back & mask, data);
+        waitStrategy.signalAll();
+        return true;
+    }
+
+    @Override
+    public T poll() {
+        long front = head.get();
+        int index = (int) front & mask;
+        T data = buffer.get(index);
+        if (data == null) {
+            if (front == tail.get()) {
+                return null;
+            }
+            // A producer has claimed this slot and is about to fill it.
+            do {
+                Thread.yield();
+                data = buffer.get(index);
+            } while (data == null);
+        }
+        buffer.lazySet(index, null);
+        head.setOrdered(front + 1);
+        waitStrategy.signalAll();
+        return data;
+    }
+
+    @Override
+    public T peek() {
+        long front = head.get();
+        int index = (int) front & mask;
+        T data = buffer.get(index);
+        while (data == null && front != tail.get()) {
+            data = buffer.get(index);
+        }
+        return data;
+    }
+}
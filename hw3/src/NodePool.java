@@ -0,0 +1,139 @@
+/**
+ * A bounded free list of LinkedNodes for LinkedStack and LinkedQueue to
+ * recycle instead of allocating a node on every push or enqueue.
+ *
+ * Released nodes are chained together through their own next references,
+ * so the pool itself never allocates. Once the pool holds {@code capacity}
+ * nodes, further released nodes are left for the garbage collector, which
+ * bounds how much memory a burst can pin.
+ *
+ * A pool may be shared by several structures with the same element type.
+ * It is not thread-safe, just like the structures that use it.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class NodePool<T> {
+
+    /**
+     * The capacity of a pool constructed without one.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int capacity;
+    private LinkedNode<T> free;
+    private int pooledCount;
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructs an empty pool that keeps up to DEFAULT_CAPACITY nodes.
+     */
+    public NodePool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty pool that keeps up to {@code capacity} nodes.
+     *
+     * @param capacity the largest number of nodes to keep
+     * @throws java.lang.IllegalArgumentException if capacity is negative
+     */
+    public NodePool(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative "
+                + "but was " + capacity + ".");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns a node holding the given data and next node, reusing a pooled
+     * node if there is one.
+     * <p>
+     * This method should be implemented in O(1) time.
+     *
+     * @param data the data for the node
+     * @param next the next node
+     * @return a node holding data and next
+     */
+    public LinkedNode<T> obtain(T data, LinkedNode<T> next) {
+        LinkedNode<T> node = free;
+        if (node == null) {
+            misses++;
+            return new LinkedNode<T>(data, next);
+        }
+        hits++;
+        free = node.getNext();
+        pooledCount--;
+        node.setData(data);
+        node.setNext(next);
+        return node;
+    }
+
+    /**
+     * Clears the given node and keeps it for reuse if the pool is not full.
+     * The caller must not use the node afterwards.
+     * <p>
+     * This method should be implemented in O(1) time.
+     *
+     * @param node the node to recycle
+     */
+    public void release(LinkedNode<T> node) {
+        node.setData(null);
+        if (pooledCount < capacity) {
+            node.setNext(free);
+            free = node;
+            pooledCount++;
+        } else {
+            node.setNext(null);
+        }
+    }
+
+    /**
+     * Drops every pooled node so the garbage collector can reclaim them.
+     * The hit and miss counters are kept.
+     */
+    public void clear() {
+        free = null;
+        pooledCount = 0;
+    }
+
+    /**
+     * Returns the number of obtain calls that reused a pooled node.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of obtain calls that had to allocate a node.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of nodes currently kept for reuse.
+     *
+     * @return the number of pooled nodes
+     */
+    public int getPooledCount() {
+        return pooledCount;
+    }
+
+    /**
+     * Returns the largest number of nodes the pool keeps.
+     *
+     * @return the capacity of the pool
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
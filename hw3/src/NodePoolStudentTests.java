@@ -0,0 +1,114 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for NodePool and the LinkedStack and LinkedQueue that use it.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class NodePoolStudentTests {
+    private NodePool<Integer> pool;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        pool = new NodePool<>(4);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testObtainAndRelease() {
+        LinkedNode<Integer> first = pool.obtain(1, null);
+        assertEquals(1, pool.getMisses());
+        assertEquals(0, pool.getHits());
+
+        pool.release(first);
+        assertNull(first.getData());
+        assertEquals(1, pool.getPooledCount());
+
+        LinkedNode<Integer> tail = new LinkedNode<>(3);
+        LinkedNode<Integer> reused = pool.obtain(2, tail);
+        assertSame(first, reused);
+        assertEquals((Integer) 2, reused.getData());
+        assertSame(tail, reused.getNext());
+        assertEquals(1, pool.getHits());
+        assertEquals(0, pool.getPooledCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPoolIsBounded() {
+        for (int i = 0; i < 6; i++) {
+            pool.release(new LinkedNode<>(i));
+        }
+        assertEquals(4, pool.getPooledCount());
+        pool.clear();
+        assertEquals(0, pool.getPooledCount());
+        pool.obtain(1, null);
+        assertEquals(1, pool.getMisses());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStackRecyclesNodes() {
+        LinkedStack<Integer> stack = new LinkedStack<>(pool);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                stack.push(i);
+            }
+            for (int i = 3; i >= 0; i--) {
+                assertEquals((Integer) i, stack.pop());
+            }
+        }
+        assertEquals(4, pool.getMisses());
+        assertEquals(8, pool.getHits());
+        assertEquals(4, pool.getPooledCount());
+        assertNull(stack.getHead());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testQueueRecyclesNodes() {
+        LinkedQueue<Integer> queue = new LinkedQueue<>(pool);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 6; i++) {
+                queue.enqueue(i);
+            }
+            for (int i = 0; i < 6; i++) {
+                assertEquals((Integer) i, queue.dequeue());
+            }
+            assertNull(queue.getHead());
+            assertNull(queue.getTail());
+        }
+        // The pool keeps only four of the six nodes between rounds.
+        assertEquals(6 + 2 + 2, pool.getMisses());
+        assertEquals(4 + 4, pool.getHits());
+        assertEquals(4, pool.getPooledCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSharedPool() {
+        LinkedStack<Integer> stack = new LinkedStack<>(pool);
+        LinkedQueue<Integer> queue = new LinkedQueue<>(pool);
+        stack.push(1);
+        stack.pop();
+        queue.enqueue(2);
+        queue.enqueueAll(new Integer[] {3, 4});
+        assertEquals(1, pool.getHits());
+        Integer[] dst = new Integer[3];
+        assertEquals(3, queue.drainTo(dst, 3));
+        assertEquals(3, pool.getPooledCount());
+        stack.push(5);
+        assertEquals(2, pool.getHits());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testWithoutPool() {
+        LinkedStack<Integer> stack = new LinkedStack<>();
+        stack.push(1);
+        assertNull(stack.getNodePool());
+        assertEquals((Integer) 1, stack.pop());
+    }
+}
@@ -0,0 +1,73 @@
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A long counter padded with unused fields so that it sits alone on its
+ * cache line.
+ *
+ * A ring buffer's producer and consumer each write their own counter
+ * constantly. Without padding the two counters can share a cache line, and
+ * every write by one thread would evict the line from the other thread's
+ * cache even though they never touch the same field ("false sharing").
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class PaddedSequence extends PaddedSequenceValue {
+
+    private static final AtomicLongFieldUpdater<PaddedSequenceValue> VALUE =
+        AtomicLongFieldUpdater.newUpdater(PaddedSequenceValue.class, "value");
+
+    // Seven longs on each side keep other objects 56 bytes away from value.
+    // The ones in front live in PaddedSequenceLeftPadding and value in
+    // PaddedSequenceValue, because only the class hierarchy fixes the order
+    // of fields in memory.
+    protected long p9;
+    protected long p10;
+    protected long p11;
+    protected long p12;
+    protected long p13;
+    protected long p14;
+    protected long p15;
+
+    /**
+     * Creates a sequence starting at the given value.
+     *
+     * @param initialValue the starting value
+     */
+    public PaddedSequence(long initialValue) {
+        value = initialValue;
+    }
+
+    /**
+     * Reads the value with volatile semantics.
+     *
+     * @return the current value
+     */
+    public long get() {
+        return value;
+    }
+
+    /**
+     * Writes the value so that every write made before it is visible to a
+     * thread that reads the new value, without the full fence of a volatile
+     * write.
+     *
+     * @param newValue the new value
+     */
+    public void setOrdered(long newValue) {
+        VALUE.lazySet(this, newValue);
+    }
+
+    /**
+     * Atomically sets the value if it is currently the expected one.
+     *
+     * @param expected the expected value
+     * @param newValue the new value
+     * @return true if the value was changed
+     */
+    public boolean compareAndSet(long expected, long newValue) {
+        return VALUE.compareAndSet(this, expected, newValue);
+    }
+}
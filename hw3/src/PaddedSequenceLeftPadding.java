@@ -0,0 +1,22 @@
+/**
+ * The padding in front of a PaddedSequence's value.
+ *
+ * The JVM may reorder the fields declared in one class, but it lays out a
+ * superclass's fields before its subclass's. Putting the padding, the value
+ * and the padding after it in three classes, one extending the other, is
+ * the only way to be sure the value ends up between the two.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+abstract class PaddedSequenceLeftPadding {
+    protected long p1;
+    protected long p2;
+    protected long p3;
+    protected long p4;
+    protected long p5;
+    protected long p6;
+    protected long p7;
+}
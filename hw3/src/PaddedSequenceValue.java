@@ -0,0 +1,12 @@
+/**
+ * The value of a PaddedSequence, laid out after the padding in its
+ * superclass.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+abstract class PaddedSequenceValue extends PaddedSequenceLeftPadding {
+    protected volatile long value;
+}
@@ -0,0 +1,97 @@
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for IntArrayStack, IntArrayQueue and LongArrayQueue.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class PrimitiveStackQueueStudentTests {
+
+    public static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testIntStackPushPop() {
+        IntArrayStack stack = new IntArrayStack();
+        for (int i = 0; i < 20; i++) {
+            stack.push(i);
+        }
+        assertEquals(20, stack.size());
+        assertEquals(36, stack.getBackingArray().length);
+        assertEquals(19, stack.peek());
+        for (int i = 19; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+        assertEquals(-1, stack.popOrDefault(-1));
+        assertEquals(-1, stack.peekOrDefault(-1));
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testIntStackPopEmpty() {
+        new IntArrayStack().pop();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntQueueWrapAndResize() {
+        IntArrayQueue queue = new IntArrayQueue();
+        for (int i = 0; i < 9; i++) {
+            queue.enqueue(i);
+        }
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, queue.dequeue());
+        }
+        for (int i = 9; i < 14; i++) {
+            queue.enqueue(i);
+        }
+        // [9, 10, 11, 12, 13, 5, 6, 7, 8] is full and wrapped.
+        assertArrayEquals(new int[] {9, 10, 11, 12, 13, 5, 6, 7, 8},
+            queue.getBackingArray());
+        queue.enqueue(14);
+        int[] expected = new int[18];
+        for (int i = 0; i < 10; i++) {
+            expected[i] = i + 5;
+        }
+        assertArrayEquals(expected, queue.getBackingArray());
+        for (int i = 5; i < 15; i++) {
+            assertEquals(i, queue.peek());
+            assertEquals(i, queue.pollOrDefault(-1));
+        }
+        assertEquals(-1, queue.pollOrDefault(-1));
+        assertEquals(-1, queue.peekOrDefault(-1));
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testIntQueueDequeueEmpty() {
+        IntArrayQueue queue = new IntArrayQueue();
+        queue.enqueue(1);
+        queue.dequeue();
+        queue.dequeue();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLongQueue() {
+        LongArrayQueue queue = new LongArrayQueue();
+        long big = 1L << 40;
+        for (long i = 0; i < 30; i++) {
+            queue.enqueue(big + i);
+            if (i % 3 == 0) {
+                assertEquals(big + i / 3, queue.dequeue());
+            }
+        }
+        assertEquals(20, queue.size());
+        for (long i = 10; i < 30; i++) {
+            assertEquals(big + i, queue.pollOrDefault(Long.MIN_VALUE));
+        }
+        assertEquals(Long.MIN_VALUE, queue.pollOrDefault(Long.MIN_VALUE));
+        queue.enqueue(7);
+        queue.clear();
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,163 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for enqueueAll and drainTo on ArrayQueue and LinkedQueue.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class QueueBatchStudentTests {
+    private ArrayQueue<Integer> arrayQueue;
+    private LinkedQueue<Integer> linkedQueue;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        arrayQueue = new ArrayQueue<>();
+        linkedQueue = new LinkedQueue<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayQueueEnqueueAllWraps() {
+        // [_, _, _, _, _, _, 0, 1, 2] after the dequeues
+        for (int i = 0; i < 9; i++) {
+            arrayQueue.enqueue(i - 6);
+        }
+        for (int i = 0; i < 6; i++) {
+            arrayQueue.dequeue();
+        }
+        arrayQueue.enqueueAll(new Integer[] {3, 4, 5, 6, 7});
+
+        Object[] expected = {3, 4, 5, 6, 7, null, 0, 1, 2};
+        assertArrayEquals(expected, arrayQueue.getBackingArray());
+        assertEquals(8, arrayQueue.size());
+        assertEquals((Integer) 0, arrayQueue.peek());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayQueueEnqueueAllResizesOnce() {
+        for (int i = 0; i < 9; i++) {
+            arrayQueue.enqueue(i);
+        }
+        for (int i = 0; i < 4; i++) {
+            arrayQueue.dequeue();
+        }
+        Integer[] batch = new Integer[20];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = 9 + i;
+        }
+        arrayQueue.enqueueAll(Arrays.asList(batch));
+
+        // 25 elements need 36 slots: 9 doubled twice
+        assertEquals(36, arrayQueue.getBackingArray().length);
+        assertEquals(25, arrayQueue.size());
+        for (int i = 4; i < 29; i++) {
+            assertEquals((Integer) i, arrayQueue.dequeue());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayQueueEnqueueAllNullLeavesQueueUnchanged() {
+        arrayQueue.enqueue(1);
+        try {
+            arrayQueue.enqueueAll(new Integer[] {2, null, 3});
+        } catch (IllegalArgumentException e) {
+            assertEquals(1, arrayQueue.size());
+            return;
+        }
+        throw new AssertionError("Expected IllegalArgumentException");
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayQueueDrainToWraps() {
+        for (int i = 0; i < 9; i++) {
+            arrayQueue.enqueue(i - 6);
+        }
+        for (int i = 0; i < 6; i++) {
+            arrayQueue.dequeue();
+        }
+        arrayQueue.enqueueAll(new Integer[] {3, 4, 5});
+
+        Integer[] dst = new Integer[10];
+        assertEquals(4, arrayQueue.drainTo(dst, 4));
+        assertArrayEquals(new Integer[] {0, 1, 2, 3, null, null, null, null,
+            null, null}, dst);
+        Object[] expected = {null, 4, 5, null, null, null, null, null, null};
+        assertArrayEquals(expected, arrayQueue.getBackingArray());
+        assertEquals((Integer) 4, arrayQueue.peek());
+
+        assertEquals(2, arrayQueue.drainTo(dst, 10));
+        assertEquals((Integer) 4, dst[0]);
+        assertEquals((Integer) 5, dst[1]);
+        assertEquals(0, arrayQueue.size());
+        arrayQueue.enqueue(9);
+        assertEquals((Integer) 9, arrayQueue.getBackingArray()[0]);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayQueueDrainToLimitedByDst() {
+        arrayQueue.enqueueAll(new Integer[] {1, 2, 3});
+        Integer[] dst = new Integer[2];
+        assertEquals(2, arrayQueue.drainTo(dst, 5));
+        assertArrayEquals(new Integer[] {1, 2}, dst);
+        assertEquals(0, arrayQueue.drainTo(dst, 0));
+        assertEquals(1, arrayQueue.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testArrayQueueDrainToNegative() {
+        arrayQueue.drainTo(new Integer[1], -1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLinkedQueueEnqueueAll() {
+        linkedQueue.enqueue(0);
+        linkedQueue.enqueueAll(new Integer[] {1, 2});
+        linkedQueue.enqueueAll(Arrays.asList(3, 4));
+        linkedQueue.enqueueAll(new Integer[0]);
+
+        assertEquals(5, linkedQueue.size());
+        assertEquals((Integer) 4, linkedQueue.getTail().getData());
+        for (int i = 0; i < 5; i++) {
+            assertEquals((Integer) i, linkedQueue.dequeue());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLinkedQueueEnqueueAllNullLeavesQueueUnchanged() {
+        linkedQueue.enqueue(1);
+        try {
+            linkedQueue.enqueueAll(Arrays.asList(2, null));
+        } catch (IllegalArgumentException e) {
+            assertEquals(1, linkedQueue.size());
+            assertSame(linkedQueue.getHead(), linkedQueue.getTail());
+            assertNull(linkedQueue.getTail().getNext());
+            return;
+        }
+        throw new AssertionError("Expected IllegalArgumentException");
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLinkedQueueDrainTo() {
+        linkedQueue.enqueueAll(new Integer[] {1, 2, 3, 4});
+        Integer[] dst = new Integer[3];
+        assertEquals(3, linkedQueue.drainTo(dst, 10));
+        assertArrayEquals(new Integer[] {1, 2, 3}, dst);
+        assertEquals((Integer) 4, linkedQueue.peek());
+
+        assertEquals(1, linkedQueue.drainTo(dst, 10));
+        assertNull(linkedQueue.getHead());
+        assertNull(linkedQueue.getTail());
+        linkedQueue.enqueue(5);
+        assertEquals((Integer) 5, linkedQueue.peek());
+    }
+}
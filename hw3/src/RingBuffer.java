@@ -0,0 +1,168 @@
+import java.util.NoSuchElementException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A bounded queue backed by an array whose length is a power of two.
+ *
+ * Works like ArrayQueue with a fixed backing array, except that the front
+ * and back are kept as ever-increasing sequence numbers and a slot is found
+ * by masking off the low bits instead of taking a remainder. Nothing is
+ * allocated after construction.
+ *
+ * offer and poll never wait. put and take wait according to the buffer's
+ * WaitStrategy. Subclasses decide how many threads may produce and consume
+ * at once.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public abstract class RingBuffer<T> {
+
+    /**
+     * The largest capacity a ring buffer can have.
+     */
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    protected final int capacity;
+    protected final int mask;
+    protected final WaitStrategy waitStrategy;
+    protected final PaddedSequence head = new PaddedSequence(0);
+    protected final PaddedSequence tail = new PaddedSequence(0);
+
+    // Created once so that put and take do not allocate a lambda per call.
+    private final BooleanSupplier hasRoom = () -> size() < capacity();
+    private final BooleanSupplier hasData = () -> !isEmpty();
+
+    /**
+     * Creates a ring buffer.
+     *
+     * @param requestedCapacity the minimum number of elements to hold, which
+     *                          is rounded up to a power of two
+     * @param waitStrategy      how put and take wait
+     * @throws java.lang.IllegalArgumentException if requestedCapacity is not
+     *                                            between 1 and MAX_CAPACITY or
+     *                                            waitStrategy is null
+     */
+    protected RingBuffer(int requestedCapacity, WaitStrategy waitStrategy) {
+        if (requestedCapacity < 1 || requestedCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 "
+                + "and " + MAX_CAPACITY + " but was " + requestedCapacity
+                + ".");
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException(
+                "Wait strategy cannot be null.");
+        }
+        this.capacity = requestedCapacity == 1
+            ? 1 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Adds the given data to the back of the buffer if there is room.
+     * <p>
+     * This method should be implemented in O(1) time.
+     *
+     * @param data the data to add
+     * @return true if the data was added; false if the buffer is full
+     * @throws IllegalArgumentException if data is null
+     */
+    public abstract boolean offer(T data);
+
+    /**
+     * Removes the data from the front of the buffer if there is any.
+     * <p>
+     * This method should be implemented in O(1) time.
+     *
+     * @return the data from the front of the buffer or null if it is empty
+     */
+    public abstract T poll();
+
+    /**
+     * Retrieves the next data to be removed without removing it. Only the
+     * consumer thread may call this.
+     *
+     * @return the next data or null if the buffer is empty
+     */
+    public abstract T peek();
+
+    /**
+     * Adds the given data to the back of the buffer, waiting for room if it
+     * is full.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException       if data is null
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public void put(T data) throws InterruptedException {
+        while (!offer(data)) {
+            waitStrategy.await(hasRoom);
+        }
+    }
+
+    /**
+     * Removes the data from the front of the buffer, waiting for data if it
+     * is empty.
+     *
+     * @return the data from the front of the buffer
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        T data = poll();
+        while (data == null) {
+            waitStrategy.await(hasData);
+            data = poll();
+        }
+        return data;
+    }
+
+    /**
+     * Removes the data from the front of the buffer.
+     *
+     * @return the data from the front of the buffer
+     * @throws java.util.NoSuchElementException if the buffer is empty
+     */
+    public T dequeue() {
+        T data = poll();
+        if (data == null) {
+            throw new NoSuchElementException(
+                "No elements to dequeue because the buffer is empty.");
+        }
+        return data;
+    }
+
+    /**
+     * Returns the number of elements in the buffer. While other threads are
+     * changing the buffer this is only a snapshot.
+     *
+     * @return number of items in the buffer
+     */
+    public int size() {
+        // Read head first so that a concurrent poll cannot make the
+        // difference negative.
+        long front = head.get();
+        long back = tail.get();
+        return (int) Math.max(0, Math.min(capacity, back - front));
+    }
+
+    /**
+     * Returns whether the buffer is empty.
+     *
+     * @return true if the buffer has no elements; false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements the buffer can hold.
+     *
+     * @return the capacity, always a power of two
+     */
+    public int capacity() {
+        return capacity;
+    }
+}
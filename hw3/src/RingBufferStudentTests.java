@@ -0,0 +1,185 @@
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for SpscRingBuffer and MpscRingBuffer with each wait strategy.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class RingBufferStudentTests {
+
+    public static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testCapacityRoundsUpToPowerOfTwo() {
+        assertEquals(1, new SpscRingBuffer<Integer>(1).capacity());
+        assertEquals(8, new SpscRingBuffer<Integer>(8).capacity());
+        assertEquals(16, new MpscRingBuffer<Integer>(9).capacity());
+        assertEquals(1024, new MpscRingBuffer<Integer>(1000).capacity());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testZeroCapacity() {
+        new SpscRingBuffer<Integer>(0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSpscFillAndWrap() {
+        checkFillAndWrap(new SpscRingBuffer<Integer>(4));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMpscFillAndWrap() {
+        checkFillAndWrap(new MpscRingBuffer<Integer>(4));
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testDequeueEmpty() {
+        new MpscRingBuffer<Integer>(4).dequeue();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testOfferNull() {
+        new SpscRingBuffer<Integer>(4).offer(null);
+    }
+
+    @Test(timeout = 10000)
+    public void testSpscHandOffBlocking() throws InterruptedException {
+        checkHandOff(new SpscRingBuffer<Integer>(16,
+            new BlockingWaitStrategy()), 1);
+    }
+
+    @Test(timeout = 10000)
+    public void testSpscHandOffYielding() throws InterruptedException {
+        checkHandOff(new SpscRingBuffer<Integer>(16,
+            new YieldingWaitStrategy()), 1);
+    }
+
+    @Test(timeout = 10000)
+    public void testMpscHandOffBlocking() throws InterruptedException {
+        checkHandOff(new MpscRingBuffer<Integer>(16,
+            new BlockingWaitStrategy()), 4);
+    }
+
+    @Test(timeout = 10000)
+    public void testMpscHandOffYielding() throws InterruptedException {
+        checkHandOff(new MpscRingBuffer<Integer>(16,
+            new YieldingWaitStrategy()), 4);
+    }
+
+    @Test(timeout = 30000)
+    public void testSpscBlockingStressCapacityOne()
+        throws InterruptedException {
+        // With one slot the producer and consumer block on almost every
+        // operation, so a lost wake-up hangs the test.
+        for (int round = 0; round < 5; round++) {
+            checkHandOff(new SpscRingBuffer<Integer>(1,
+                new BlockingWaitStrategy()), 1);
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void testMpscBlockingStressCapacityOne()
+        throws InterruptedException {
+        for (int round = 0; round < 5; round++) {
+            checkHandOff(new MpscRingBuffer<Integer>(1,
+                new BlockingWaitStrategy()), 4);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testTakeInterrupted() throws InterruptedException {
+        final RingBuffer<Integer> buffer =
+            new SpscRingBuffer<>(4, new BlockingWaitStrategy());
+        final boolean[] interrupted = new boolean[1];
+        Thread consumer = new Thread(() -> {
+            try {
+                buffer.take();
+            } catch (InterruptedException e) {
+                interrupted[0] = true;
+            }
+        });
+        consumer.start();
+        consumer.interrupt();
+        consumer.join();
+        assertTrue(interrupted[0]);
+    }
+
+    /**
+     * Fills a buffer of capacity 4, then keeps it full while the sequences
+     * wrap around the backing array several times.
+     *
+     * @param buffer the empty buffer to test
+     */
+    private void checkFillAndWrap(RingBuffer<Integer> buffer) {
+        assertTrue(buffer.isEmpty());
+        assertNull(buffer.poll());
+        assertNull(buffer.peek());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+        for (int i = 4; i < 20; i++) {
+            assertEquals((Integer) (i - 4), buffer.peek());
+            assertEquals((Integer) (i - 4), buffer.poll());
+            assertTrue(buffer.offer(i));
+        }
+        for (int i = 16; i < 20; i++) {
+            assertEquals((Integer) i, buffer.dequeue());
+        }
+        assertTrue(buffer.isEmpty());
+    }
+
+    /**
+     * Has the given number of producers put elements into the buffer while
+     * the test thread takes them, and checks that every element arrives
+     * once and each producer's elements arrive in order.
+     *
+     * @param buffer    the empty buffer to test
+     * @param producers the number of producer threads
+     * @throws InterruptedException if the test thread is interrupted
+     */
+    private void checkHandOff(final RingBuffer<Integer> buffer,
+                              int producers) throws InterruptedException {
+        final int perProducer = 20000;
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            threads[p] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        buffer.put(base + i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[p].start();
+        }
+        int[] last = new int[producers];
+        for (int p = 0; p < producers; p++) {
+            last[p] = -1;
+        }
+        for (int i = 0; i < producers * perProducer; i++) {
+            int data = buffer.take();
+            int producer = data / perProducer;
+            assertTrue(data > last[producer]);
+            last[producer] = data;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int p = 0; p < producers; p++) {
+            assertEquals((p + 1) * perProducer - 1, last[p]);
+        }
+        assertTrue(buffer.isEmpty());
+    }
+}
@@ -0,0 +1,29 @@
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waits by rechecking the condition in a tight loop.
+ *
+ * Has the lowest hand-off latency, but keeps a core busy the whole time, so
+ * it only suits threads that each have a core of their own.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class SpinningWaitStrategy implements WaitStrategy {
+
+    @Override
+    public void await(BooleanSupplier ready) throws InterruptedException {
+        while (!ready.getAsBoolean()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        // Spinning threads notice the change on their own.
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * A ring buffer for exactly one producer thread and one consumer thread.
+ *
+ * Each side only ever writes its own sequence, so no compare-and-set is
+ * needed. Each side also keeps a private copy of the other side's sequence
+ * and rereads the shared one only when that copy says the buffer is full or
+ * empty, which keeps most operations off the other thread's cache line.
+ * The two copies live in superclasses, with padding between them, so that
+ * refreshing one never evicts the other.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class SpscRingBuffer<T> extends SpscRingBufferTailCache<T> {
+
+    // Only the producer touches headCache and only the consumer touches
+    // tailCache. These seven longs keep other objects away from tailCache.
+    protected long p15;
+    protected long p16;
+    protected long p17;
+    protected long p18;
+    protected long p19;
+    protected long p20;
+    protected long p21;
+
+    private final T[] buffer;
+
+    /**
+     * Creates a ring buffer that spins while waiting.
+     *
+     * @param requestedCapacity the minimum number of elements to hold, which
+     *                          is rounded up to a power of two
+     * @throws java.lang.IllegalArgumentException if requestedCapacity is not
+     *                                            between 1 and MAX_CAPACITY
+     */
+    public SpscRingBuffer(int requestedCapacity) {
+        this(requestedCapacity, new SpinningWaitStrategy());
+    }
+
+    /**
+     * Creates a ring buffer.
+     *
+     * @param requestedCapacity the minimum number of elements to hold, which
+     *                          is rounded up to a power of two
+     * @param waitStrategy      how put and take wait
+     * @throws java.lang.IllegalArgumentException if requestedCapacity is not
+     *                                            between 1 and MAX_CAPACITY or
+     *                                            waitStrategy is null
+     */
+    public SpscRingBuffer(int requestedCapacity, WaitStrategy waitStrategy) {
+        super(requestedCapacity, waitStrategy);
+        buffer = (T[]) new Object[capacity];
+    }
+
+    @Override
+    public boolean offer(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot add null element into data structure.");
+        }
+        long back = tail.get();
+        if (back - headCache >= capacity) {
+            headCache = head.get();
+            if (back - headCache >= capacity) {
+                return false;
+            }
+        }
+        buffer[(int) back & mask] = data;
+        tail.setOrdered(back + 1);
+        waitStrategy.signalAll();
+        return true;
+    }
+
+    @Override
+    public T poll() {
+        long front = head.get();
+        if (front >= tailCache) {
+            tailCache = tail.get();
+            if (front >= tailCache) {
+                return null;
+            }
+        }
+        int index = (int) front & mask;
+        T data = buffer[index];
+        buffer[index] = null;
+        head.setOrdered(front + 1);
+        waitStrategy.signalAll();
+        return data;
+    }
+
+    @Override
+    public T peek() {
+        long front = head.get();
+        if (front >= tail.get()) {
+            return null;
+        }
+        return buffer[(int) front & mask];
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * The producer's cached copy of an SpscRingBuffer's head, laid out after
+ * the padding in its superclass.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+abstract class SpscRingBufferHeadCache<T>
+    extends SpscRingBufferHeadPadding<T> {
+    protected long headCache;
+
+    /**
+     * Creates the ring buffer's fields.
+     *
+     * @param requestedCapacity the minimum number of elements to hold
+     * @param waitStrategy      how put and take wait
+     */
+    protected SpscRingBufferHeadCache(int requestedCapacity,
+        WaitStrategy waitStrategy) {
+        super(requestedCapacity, waitStrategy);
+    }
+}
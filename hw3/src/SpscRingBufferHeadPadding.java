@@ -0,0 +1,33 @@
+/**
+ * The padding between RingBuffer's fields, which both threads read, and
+ * the producer's cached copy of the head in SpscRingBufferHeadCache.
+ *
+ * The JVM lays out a superclass's fields before its subclass's, so each
+ * piece of padding and each cache gets a class of its own, the same way
+ * PaddedSequence keeps its value apart.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+abstract class SpscRingBufferHeadPadding<T> extends RingBuffer<T> {
+    protected long p1;
+    protected long p2;
+    protected long p3;
+    protected long p4;
+    protected long p5;
+    protected long p6;
+    protected long p7;
+
+    /**
+     * Creates the ring buffer's fields.
+     *
+     * @param requestedCapacity the minimum number of elements to hold
+     * @param waitStrategy      how put and take wait
+     */
+    protected SpscRingBufferHeadPadding(int requestedCapacity,
+        WaitStrategy waitStrategy) {
+        super(requestedCapacity, waitStrategy);
+    }
+}
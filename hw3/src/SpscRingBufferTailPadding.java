@@ -0,0 +1,31 @@
+/**
+ * The padding between an SpscRingBuffer's two cached sequences, so that the
+ * producer refreshing its copy of the head never evicts the consumer's copy
+ * of the tail.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+abstract class SpscRingBufferTailPadding<T>
+    extends SpscRingBufferHeadCache<T> {
+    protected long p8;
+    protected long p9;
+    protected long p10;
+    protected long p11;
+    protected long p12;
+    protected long p13;
+    protected long p14;
+
+    /**
+     * Creates the ring buffer's fields.
+     *
+     * @param requestedCapacity the minimum number of elements to hold
+     * @param waitStrategy      how put and take wait
+     */
+    protected SpscRingBufferTailPadding(int requestedCapacity,
+        WaitStrategy waitStrategy) {
+        super(requestedCapacity, waitStrategy);
+    }
+}
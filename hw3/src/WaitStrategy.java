@@ -0,0 +1,31 @@
+import java.util.function.BooleanSupplier;
+
+/**
+ * Decides what a thread does while it waits for a ring buffer to have room
+ * or data.
+ *
+ * The buffer calls await when it cannot make progress, and signalAll after
+ * every successful offer or poll so that blocked threads can retry.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public interface WaitStrategy {
+
+    /**
+     * Waits until the given condition holds.
+     *
+     * @param ready the condition to wait for, which must become true only
+     *              after another thread has called signalAll
+     * @throws java.lang.InterruptedException if the thread is interrupted
+     *                                        while waiting
+     */
+    void await(BooleanSupplier ready) throws InterruptedException;
+
+    /**
+     * Wakes any threads blocked in await so they recheck their condition.
+     */
+    void signalAll();
+}
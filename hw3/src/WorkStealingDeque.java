@@ -0,0 +1,185 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Chase-Lev work-stealing deque.
+ *
+ * One owner thread uses it like ArrayStack, pushing and popping at one end
+ * without any locking. Any number of thief threads take the oldest elements
+ * from the other end with steal, which only needs a compare-and-set when it
+ * races with another thief or with the owner over the last element.
+ *
+ * The elements live in a circular array whose length is a power of two,
+ * indexed by two ever-increasing counters: bottom, which only the owner
+ * moves, and top, which thieves advance. When the array fills up the owner
+ * copies the elements into one twice as long. Thieves that still hold the
+ * old array keep reading valid elements from it, since the owner never
+ * writes into an array it has replaced.
+ *
+ * Both counters are volatile, so the owner's write to bottom followed by its
+ * read of top in pop cannot be reordered; this is the store-load fence the
+ * algorithm depends on. Slots emptied by a steal are not cleared, because a
+ * slow thief could otherwise wipe out a slot the owner has reused, so up to
+ * one array's worth of stolen references may stay reachable until the owner
+ * overwrites them.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class WorkStealingDeque<T> {
+
+    /**
+     * The initial capacity of the deque. It is a power of two so that slots
+     * can be found by masking.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    private final AtomicLong top = new AtomicLong();
+    private volatile long bottom;
+    private volatile T[] backingArray;
+
+    /**
+     * Constructs a new, empty WorkStealingDeque.
+     */
+    public WorkStealingDeque() {
+        this.backingArray = (T[]) new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds the given data to the owner's end of the deque. Only the owner
+     * thread may call this.
+     * <p>
+     * This method should be implemented in amortized O(1) time.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null
+     */
+    public void push(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                "Cannot add null element into data structure.");
+        }
+        long b = bottom;
+        long t = top.get();
+        T[] array = backingArray;
+        if (b - t >= array.length) {
+            array = grow(array, t, b);
+        }
+        array[(int) b & (array.length - 1)] = data;
+        // The volatile write publishes the element to thieves.
+        bottom = b + 1;
+    }
+
+    /**
+     * Removes and returns the most recently pushed data. Only the owner
+     * thread may call this.
+     * <p>
+     * This method should be implemented in O(1) time.
+     *
+     * @return the data from the owner's end, or null if the deque is empty
+     */
+    public T pop() {
+        long b = bottom - 1;
+        T[] array = backingArray;
+        bottom = b;
+        long t = top.get();
+        if (t > b) {
+            bottom = t;
+            return null;
+        }
+        int index = (int) b & (array.length - 1);
+        T data = array[index];
+        if (t < b) {
+            // At least one other element remains, so no thief can reach
+            // this slot.
+            array[index] = null;
+            return data;
+        }
+        // This is the last element; race any thieves for it.
+        if (top.compareAndSet(t, t + 1)) {
+            array[index] = null;
+        } else {
+            data = null;
+        }
+        bottom = t + 1;
+        return data;
+    }
+
+    /**
+     * Removes and returns the oldest data in the deque. Any thread may call
+     * this.
+     * <p>
+     * Returns null without retrying if another thread took the element
+     * first, so a null result does not prove the deque is empty.
+     * <p>
+     * This method should be implemented in O(1) time.
+     *
+     * @return the data from the thieves' end, or null if the deque was empty
+     * or the steal lost a race
+     */
+    public T steal() {
+        long t = top.get();
+        long b = bottom;
+        if (t >= b) {
+            return null;
+        }
+        T[] array = backingArray;
+        T data = array[(int) t & (array.length - 1)];
+        if (!top.compareAndSet(t, t + 1)) {
+            return null;
+        }
+        return data;
+    }
+
+    /**
+     * Returns the number of elements in the deque. While other threads are
+     * changing the deque this is only a snapshot.
+     *
+     * @return number of items in the deque
+     */
+    public int size() {
+        long b = bottom;
+        long t = top.get();
+        return (int) Math.max(0, b - t);
+    }
+
+    /**
+     * Returns whether the deque is empty. While other threads are changing
+     * the deque this is only a snapshot.
+     *
+     * @return true if the deque has no elements; false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the length of the current backing array.
+     *
+     * @return the number of elements the deque can hold without growing
+     */
+    public int getCapacity() {
+        return backingArray.length;
+    }
+
+    /**
+     * Copies the elements between top and bottom into an array twice as
+     * long and publishes it.
+     *
+     * @param array the full backing array
+     * @param t     the value of top read by the owner
+     * @param b     the value of bottom
+     * @return the new backing array
+     */
+    private T[] grow(T[] array, long t, long b) {
+        T[] newArray = (T[]) new Object[array.length * 2];
+        int oldMask = array.length - 1;
+        int newMask = newArray.length - 1;
+        for (long i = t; i < b; i++) {
+            newArray[(int) i & newMask] = array[(int) i & oldMask];
+        }
+        backingArray = newArray;
+        return newArray;
+    }
+}
@@ -0,0 +1,257 @@
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs Runnables on a fixed number of worker threads, each of which owns a
+ * WorkStealingDeque.
+ *
+ * A task submitted from a worker goes onto that worker's own deque, so
+ * tasks that spawn subtasks keep them local and run the newest first. A
+ * task submitted from any other thread goes onto a shared
+ * LockFreeLinkedQueue. A worker with nothing of its own takes from the
+ * shared queue, then tries to steal the oldest task from a randomly chosen
+ * worker, and if everything is empty spins briefly before parking for a
+ * short while, so a new task waits at most about {@link #IDLE_PARK_NANOS}
+ * to be picked up by an idle pool.
+ *
+ * A RuntimeException thrown by a task is passed to the worker thread's
+ * uncaught exception handler and the worker carries on.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class WorkStealingScheduler implements Executor {
+
+    /**
+     * How long an idle worker parks before looking for work again.
+     */
+    public static final long IDLE_PARK_NANOS = 50_000L;
+
+    private static final int SPINS_BEFORE_PARK = 64;
+
+    private final Worker[] workers;
+    private final LockFreeLinkedQueue<Runnable> submissions =
+        new LockFreeLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong steals = new AtomicLong();
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a scheduler and starts its worker threads.
+     *
+     * @param parallelism the number of worker threads
+     * @throws java.lang.IllegalArgumentException if parallelism is not
+     *                                            positive
+     */
+    public WorkStealingScheduler(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive "
+                + "but was " + parallelism + ".");
+        }
+        workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(i);
+        }
+        for (Worker worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Schedules the given task to run on one of the worker threads.
+     *
+     * @param task the task to run
+     * @throws java.lang.IllegalArgumentException if task is null
+     * @throws java.lang.IllegalStateException    if the scheduler has been
+     *                                            shut down and the caller
+     *                                            is not one of its tasks
+     */
+    public void submit(Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Cannot submit a null task.");
+        }
+        Thread current = Thread.currentThread();
+        if (current instanceof Worker
+            && ((Worker) current).getScheduler() == this) {
+            // The running task keeps pending above zero, so its subtasks
+            // are still accepted during shutdown.
+            pending.incrementAndGet();
+            ((Worker) current).deque.push(task);
+            return;
+        }
+        // Counting the task before checking the flag means a worker can
+        // never see zero pending tasks and exit while this task is queued.
+        pending.incrementAndGet();
+        if (shutdown) {
+            pending.decrementAndGet();
+            throw new IllegalStateException(
+                "Cannot submit a task after shutdown.");
+        }
+        submissions.enqueue(task);
+    }
+
+    /**
+     * Same as {@link #submit(Runnable)}, so the scheduler can be used
+     * wherever an Executor is expected.
+     *
+     * @param task the task to run
+     * @throws java.lang.IllegalArgumentException if task is null
+     * @throws java.lang.IllegalStateException    if the scheduler has been
+     *                                            shut down and the caller
+     *                                            is not one of its tasks
+     */
+    @Override
+    public void execute(Runnable task) {
+        submit(task);
+    }
+
+    /**
+     * Stops accepting new tasks. Workers exit once every task already
+     * submitted, and every task those tasks submit, has run.
+     */
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    /**
+     * Waits for every worker to exit after shutdown.
+     *
+     * @param timeout the longest time to wait
+     * @param unit    the unit of timeout
+     * @return true if every worker exited; false if the time ran out
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit)
+        throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Worker worker : workers) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return !worker.isAlive();
+            }
+            TimeUnit.NANOSECONDS.timedJoin(worker, remaining);
+            if (worker.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of tasks submitted that have not finished running.
+     *
+     * @return the number of pending tasks
+     */
+    public long getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Returns the number of tasks workers have stolen from each other.
+     *
+     * @return the total number of successful steals
+     */
+    public long getStealCount() {
+        return steals.get();
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return the parallelism of this scheduler
+     */
+    public int getParallelism() {
+        return workers.length;
+    }
+
+    /**
+     * Finds a task for the given worker: its own newest task, then the
+     * oldest external submission, then a task stolen from another worker.
+     *
+     * @param self the worker looking for work
+     * @return a task to run, or null if none was found
+     */
+    private Runnable findTask(Worker self) {
+        Runnable task = self.deque.pop();
+        if (task != null) {
+            return task;
+        }
+        task = submissions.poll();
+        if (task != null) {
+            return task;
+        }
+        int count = workers.length;
+        if (count > 1) {
+            int start = ThreadLocalRandom.current().nextInt(count);
+            for (int i = 0; i < count; i++) {
+                Worker victim = workers[(start + i) % count];
+                if (victim != self) {
+                    task = victim.deque.steal();
+                    if (task != null) {
+                        steals.incrementAndGet();
+                        return task;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A worker thread and the deque it owns.
+     */
+    private final class Worker extends Thread {
+        private final WorkStealingDeque<Runnable> deque =
+            new WorkStealingDeque<>();
+
+        /**
+         * Creates a daemon worker thread.
+         *
+         * @param index the position of the worker in the pool
+         */
+        private Worker(int index) {
+            super("work-stealing-worker-" + index);
+            setDaemon(true);
+        }
+
+        /**
+         * Returns the scheduler this worker belongs to.
+         *
+         * @return the enclosing scheduler
+         */
+        private WorkStealingScheduler getScheduler() {
+            return WorkStealingScheduler.this;
+        }
+
+        @Override
+        public void run() {
+            int idle = 0;
+            while (true) {
+                Runnable task = findTask(this);
+                if (task != null) {
+                    idle = 0;
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        getUncaughtExceptionHandler().uncaughtException(this,
+                            e);
+                    } finally {
+                        pending.decrementAndGet();
+                    }
+                } else if (shutdown && pending.get() == 0) {
+                    return;
+                } else if (idle < SPINS_BEFORE_PARK) {
+                    idle++;
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+            }
+        }
+    }
+}
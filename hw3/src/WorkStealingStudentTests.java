@@ -0,0 +1,189 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for WorkStealingDeque and WorkStealingScheduler.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class WorkStealingStudentTests {
+    private WorkStealingDeque<Integer> deque;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        deque = new WorkStealingDeque<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOwnerIsLifoThievesAreFifo() {
+        for (int i = 0; i < 5; i++) {
+            deque.push(i);
+        }
+        assertEquals((Integer) 0, deque.steal());
+        assertEquals((Integer) 4, deque.pop());
+        assertEquals((Integer) 1, deque.steal());
+        assertEquals((Integer) 3, deque.pop());
+        assertEquals((Integer) 2, deque.pop());
+        assertNull(deque.pop());
+        assertNull(deque.steal());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowAfterWrapping() {
+        for (int i = 0; i < 10; i++) {
+            deque.push(i);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals((Integer) i, deque.steal());
+        }
+        // top and bottom are now 10, so the next pushes wrap around.
+        for (int i = 0; i < 40; i++) {
+            deque.push(i);
+        }
+        assertEquals(64, deque.getCapacity());
+        assertEquals(40, deque.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals((Integer) i, deque.steal());
+        }
+        for (int i = 39; i >= 20; i--) {
+            assertEquals((Integer) i, deque.pop());
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testPushNull() {
+        deque.push(null);
+    }
+
+    @Test(timeout = 10000)
+    public void testConcurrentStealing() throws InterruptedException {
+        final int total = 200000;
+        final int thieves = 3;
+        final AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        final AtomicInteger taken = new AtomicInteger();
+        Thread[] threads = new Thread[thieves];
+        for (int i = 0; i < thieves; i++) {
+            threads[i] = new Thread(() -> {
+                while (taken.get() < total) {
+                    Integer data = deque.steal();
+                    if (data != null) {
+                        seen.incrementAndGet(data);
+                        taken.incrementAndGet();
+                    } else {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        // The owner pushes everything and pops every third element back.
+        for (int i = 0; i < total; i++) {
+            deque.push(i);
+            if (i % 3 == 0) {
+                Integer data = deque.pop();
+                if (data != null) {
+                    seen.incrementAndGet(data);
+                    taken.incrementAndGet();
+                }
+            }
+        }
+        while (taken.get() < total) {
+            Integer data = deque.pop();
+            if (data != null) {
+                seen.incrementAndGet(data);
+                taken.incrementAndGet();
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int i = 0; i < total; i++) {
+            assertEquals("element " + i, 1, seen.get(i));
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testSchedulerRunsNestedTasks() throws InterruptedException {
+        final WorkStealingScheduler scheduler = new WorkStealingScheduler(4);
+        final AtomicInteger leaves = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(1 << 12);
+        scheduler.submit(new Splitter(scheduler, 12, leaves, done));
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1 << 12, leaves.get());
+
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test(timeout = 10000)
+    public void testShutdownRunsQueuedTasks() throws InterruptedException {
+        WorkStealingScheduler scheduler = new WorkStealingScheduler(2);
+        final AtomicInteger runs = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            scheduler.submit(runs::incrementAndGet);
+        }
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1000, runs.get());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testSubmitAfterShutdown() {
+        WorkStealingScheduler scheduler = new WorkStealingScheduler(1);
+        scheduler.shutdown();
+        scheduler.submit(() -> { });
+    }
+
+    /**
+     * A task that splits into two subtasks until it reaches depth zero.
+     */
+    private static class Splitter implements Runnable {
+        private final WorkStealingScheduler scheduler;
+        private final int depth;
+        private final AtomicInteger leaves;
+        private final CountDownLatch done;
+
+        /**
+         * Creates a task.
+         *
+         * @param scheduler the scheduler to submit subtasks to
+         * @param depth     the number of levels of splitting left
+         * @param leaves    counts the tasks that reached depth zero
+         * @param done      counted down once per leaf
+         */
+        Splitter(WorkStealingScheduler scheduler, int depth,
+                 AtomicInteger leaves, CountDownLatch done) {
+            this.scheduler = scheduler;
+            this.depth = depth;
+            this.leaves = leaves;
+            this.done = done;
+        }
+
+        @Override
+        public void run() {
+            if (depth == 0) {
+                leaves.incrementAndGet();
+                done.countDown();
+            } else {
+                scheduler.submit(new Splitter(scheduler, depth - 1, leaves,
+                    done));
+                scheduler.submit(new Splitter(scheduler, depth - 1, leaves,
+                    done));
+            }
+        }
+    }
+}
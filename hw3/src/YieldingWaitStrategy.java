@@ -0,0 +1,41 @@
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waits by spinning for a while and then yielding the processor between
+ * checks.
+ *
+ * Reacts almost as fast as SpinningWaitStrategy when the wait is short, and
+ * lets other threads run on the same core when it is not.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class YieldingWaitStrategy implements WaitStrategy {
+
+    /**
+     * The number of checks made before the thread starts yielding.
+     */
+    public static final int SPIN_TRIES = 100;
+
+    @Override
+    public void await(BooleanSupplier ready) throws InterruptedException {
+        int tries = 0;
+        while (!ready.getAsBoolean()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (tries < SPIN_TRIES) {
+                tries++;
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        // Yielding threads notice the change on their own.
+    }
+}
@@ -1,19 +1,43 @@
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.List;
-import java.util.Queue;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Your implementation of a binary search tree.
  *
+ * Every operation is iterative, walking the tree with a loop or an explicit
+ * stack or queue instead of recursion, so a degenerate tree built from
+ * sorted keys works at any size instead of overflowing the thread stack.
+ * The benchmarks module keeps the original recursive implementation as a
+ * baseline.
+ *
  * @author Andrew Boughan Hennessy
  * @version 1.0
  * @userid ahennessy6
  * @GTID 903309743
  */
-public class BST<T extends Comparable<? super T>> {
+public class BST<T extends Comparable<? super T>>
+    implements Iterable<T> {
+    /**
+     * The estimated subtree size at or below which parallelReduce stops
+     * forking and works on a single thread.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 12;
+
     // DO NOT ADD OR MODIFY INSTANCE VARIABLES.
     private BSTNode<T> root;
     private int size;
@@ -35,6 +59,9 @@ public class BST<T extends Comparable<? super T>> {
      * Hint: Not all Collections are indexable like Lists, so a regular for loop
      * will not work here. However, all Collections are Iterable, so what type
      * of loop would work?
+     * <p>
+     * Sorted data builds a tree of height n - 1 in O(n^2) time here; use
+     * {@link #balancedOf(Collection)} to load large collections.
      *
      * @param data the data to add to the tree
      * @throws IllegalArgumentException if data or any element in data is null
@@ -57,6 +84,116 @@ public class BST<T extends Comparable<? super T>> {
         }
     }
 
+    /**
+     * Builds a perfectly balanced BST holding the data in the Collection.
+     * Unlike {@link #BST(Collection)}, the order of the Collection does not
+     * decide the shape of the tree: the data is sorted, duplicates are
+     * dropped, and the middle element of every range becomes the root of
+     * that range, so the height is floor(log2 n).
+     * <p>
+     * Should run in O(n) if the data is already sorted and O(n log n)
+     * otherwise.
+     *
+     * @param <T>  the generic typing
+     * @param data the data to add to the tree
+     * @return a balanced tree holding every distinct element of data
+     * @throws IllegalArgumentException if data or any element in data is null
+     */
+    public static <T extends Comparable<? super T>> BST<T> balancedOf(
+        Collection<T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException("The collection you "
+                + "are trying to add is null");
+        }
+        Object[] elements = data.toArray();
+        boolean sorted = true;
+        for (int i = 0; i < elements.length; i++) {
+            if (elements[i] == null) {
+                throw new IllegalArgumentException("Cannot add "
+                    + "null object from collection to tree");
+            }
+            if (sorted && i > 0 && ((T) elements[i - 1])
+                .compareTo((T) elements[i]) > 0) {
+                sorted = false;
+            }
+        }
+        if (!sorted) {
+            Arrays.sort(elements);
+        }
+        List<BSTNode<T>> nodes = new ArrayList<>(elements.length);
+        for (Object element : elements) {
+            T buffer = (T) element;
+            if (nodes.isEmpty() || nodes.get(nodes.size() - 1).getData()
+                .compareTo(buffer) != 0) {
+                nodes.add(new BSTNode<T>(buffer));
+            }
+        }
+        BST<T> tree = new BST<>();
+        tree.root = linkBalanced(nodes);
+        tree.size = nodes.size();
+        return tree;
+    }
+
+    /**
+     * Reshapes the tree so that it is perfectly balanced, with a height of
+     * floor(log2 n). The existing nodes are relinked rather than copied, so
+     * references to them stay valid.
+     * <p>
+     * Should run in O(n).
+     */
+    public void rebalance() {
+        List<BSTNode<T>> nodes = new ArrayList<>(size);
+        Deque<BSTNode<T>> stack = new ArrayDeque<>();
+        BSTNode<T> current = root;
+        while (current != null || !stack.isEmpty()) {
+            while (current != null) {
+                stack.push(current);
+                current = current.getLeft();
+            }
+            BSTNode<T> node = stack.pop();
+            nodes.add(node);
+            current = node.getRight();
+        }
+        root = linkBalanced(nodes);
+    }
+
+    /**
+     * private helper method for balancedOf and rebalance. Links nodes that
+     * are in sorted order into a balanced tree, making the middle node of
+     * each range the parent of the middle nodes of the ranges either side
+     * of it. The ranges still to be linked are kept on an explicit stack.
+     *
+     * @param <T>   the generic typing
+     * @param nodes the nodes in sorted order
+     * @return the root of the balanced tree, or null if nodes is empty
+     */
+    private static <T extends Comparable<? super T>> BSTNode<T> linkBalanced(
+        List<BSTNode<T>> nodes) {
+        if (nodes.isEmpty()) {
+            return null;
+        }
+        Deque<int[]> ranges = new ArrayDeque<>();
+        ranges.push(new int[] {0, nodes.size() - 1});
+        while (!ranges.isEmpty()) {
+            int[] range = ranges.pop();
+            int middle = (range[0] + range[1]) >>> 1;
+            BSTNode<T> node = nodes.get(middle);
+            if (range[0] < middle) {
+                node.setLeft(nodes.get((range[0] + middle - 1) >>> 1));
+                ranges.push(new int[] {range[0], middle - 1});
+            } else {
+                node.setLeft(null);
+            }
+            if (middle < range[1]) {
+                node.setRight(nodes.get((middle + 1 + range[1]) >>> 1));
+                ranges.push(new int[] {middle + 1, range[1]});
+            } else {
+                node.setRight(null);
+            }
+        }
+        return nodes.get((nodes.size() - 1) >>> 1);
+    }
+
     /**
      * Add the data as a leaf in the BST. Should traverse the tree to find the
      * appropriate location. If the data is already in the tree, then nothing
@@ -74,28 +211,43 @@ public class BST<T extends Comparable<? super T>> {
             throw new IllegalArgumentException("Data you are "
                 + "trying to add is null");
         } else {
-            root = addNode(data, this.getRoot());
-
+            addNode(data);
         }
     }
 
     /**
-     * private helper method for add(T data)
+     * private helper method for add(T data). Walks down from the root to
+     * the empty spot where data belongs and links a new leaf there.
      *
      * @param data the data to be added
-     * @param node the node data should be added too
-     * @return a node as part of the addNode helperMethod.
      */
-    private BSTNode<T> addNode(T data, BSTNode<T> node) {
-        if (node == null) {
-            this.size += 1;
-            return new BSTNode<T>(data);
-        } else if (data.compareTo(node.getData()) < 0) {
-            node.setLeft(addNode(data, node.getLeft()));
-        } else if (data.compareTo(node.getData()) > 0) {
-            node.setRight(addNode(data, node.getRight()));
+    private void addNode(T data) {
+        if (root == null) {
+            root = new BSTNode<T>(data);
+            size++;
+            return;
+        }
+        BSTNode<T> current = root;
+        while (true) {
+            int compare = data.compareTo(current.getData());
+            if (compare == 0) {
+                return;
+            } else if (compare < 0) {
+                if (current.getLeft() == null) {
+                    current.setLeft(new BSTNode<T>(data));
+                    size++;
+                    return;
+                }
+                current = current.getLeft();
+            } else {
+                if (current.getRight() == null) {
+                    current.setRight(new BSTNode<T>(data));
+                    size++;
+                    return;
+                }
+                current = current.getRight();
+            }
         }
-        return node;
     }
 
     /**
@@ -105,8 +257,8 @@ public class BST<T extends Comparable<? super T>> {
      * 2: the data has one child. In this case, simply replace it with its
      * child.
      * 3: the data has 2 children. Use the predecessor to replace the data.
-     * You MUST use recursion to find and remove the predecessor (you will
-     * likely need an additional helper method to handle this case efficiently).
+     * The predecessor is found by walking down the left subtree's right
+     * spine.
      * <p>
      * Should have a running time of O(log n) for a balanced tree, and a worst
      * case of O(n).
@@ -122,70 +274,68 @@ public class BST<T extends Comparable<? super T>> {
             throw new IllegalArgumentException("Data you are "
                 + "trying to add is null");
         } else {
-            if (this.contains(data)) {
-                size--;
-                BSTNode<T> dummy = new BSTNode<T>(null);
-                root = getRemove(this.getRoot(), data, dummy);
-                return dummy.getData();
-            } else {
+            BSTNode<T> parent = null;
+            BSTNode<T> current = root;
+            while (current != null) {
+                int compare = data.compareTo(current.getData());
+                if (compare == 0) {
+                    break;
+                }
+                parent = current;
+                current = compare < 0 ? current.getLeft() : current.getRight();
+            }
+            if (current == null) {
                 throw new java.util.NoSuchElementException("Element "
                     + "in tree not found");
             }
+            T removed = current.getData();
+            getRemove(parent, current);
+            size--;
+            return removed;
         }
     }
 
     /**
-     * Private method for remove
+     * Private method for remove. Unlinks a node from the tree, replacing the
+     * data of a node with two children by its predecessor's.
      *
-     * @param root  the current node being pointed too.
-     * @param data  the data to remove from the tree.
-     * @param dummy temp node
-     * @return node(s) for recursive rebuilding of tree
+     * @param parent the parent of node, or null if node is the root
+     * @param node   the node to remove
      */
-    private BSTNode<T> getRemove(BSTNode<T> root, T data, BSTNode<T> dummy) {
-        if (root == null) {
-            return null;
-        } else if (data.equals(root.getData())) {
-            dummy.setData(root.getData());
-            if (root.getLeft() == null && root.getRight() == null) {
-                return null;
-            }
-            if (root.getLeft() == null && root.getRight() != null) {
-                return root.getRight();
+    private void getRemove(BSTNode<T> parent, BSTNode<T> node) {
+        if (node.getLeft() != null && node.getRight() != null) {
+            BSTNode<T> predParent = node;
+            BSTNode<T> pred = node.getLeft();
+            while (pred.getRight() != null) {
+                predParent = pred;
+                pred = pred.getRight();
             }
-            if (root.getRight() == null && root.getLeft() != null) {
-                return root.getLeft();
-            }
-            if (root.getLeft() != null && root.getRight() != null) {
-                BSTNode<T> dummyTemp = new BSTNode<>(null);
-                root.setLeft(findPred(root.getLeft(), dummyTemp));
-                root.setData(dummyTemp.getData());
-            }
-        }
-        if (data.compareTo(root.getData()) < 0) {
-            root.setLeft(getRemove(root.getLeft(), data, dummy));
-        }
-        if (data.compareTo(root.getData()) > 0) {
-            root.setRight(getRemove(root.getRight(), data, dummy));
+            node.setData(pred.getData());
+            replaceChild(predParent, pred, pred.getLeft());
+        } else if (node.getLeft() != null) {
+            replaceChild(parent, node, node.getLeft());
+        } else {
+            replaceChild(parent, node, node.getRight());
         }
-        return root;
     }
 
     /**
-     * private method for private method getRemove
+     * Private method for getRemove. Points whichever link led to child at
+     * replacement instead.
      *
-     * @param node  the current node being pointed too.
-     * @param dummyTemp dummy node
-     * @return data representing the predecessor
+     * @param parent      the parent of child, or null if child is the root
+     * @param child       the node being unlinked
+     * @param replacement the node to link in its place, possibly null
      */
-    private BSTNode<T> findPred(BSTNode<T> node, BSTNode<T> dummyTemp) {
-        if (node.getRight() == null) {
-            dummyTemp.setData(node.getData());
-            return node.getLeft();
+    private void replaceChild(BSTNode<T> parent, BSTNode<T> child,
+                              BSTNode<T> replacement) {
+        if (parent == null) {
+            root = replacement;
+        } else if (parent.getLeft() == child) {
+            parent.setLeft(replacement);
         } else {
-            node.setRight(findPred(node.getRight(), dummyTemp));
+            parent.setRight(replacement);
         }
-        return node;
     }
 
     /**
@@ -231,13 +381,15 @@ public class BST<T extends Comparable<? super T>> {
      * @return node in search
      */
     private BSTNode<T> getSearch(BSTNode<T> root, T data) {
-        if (root == null || root.getData().compareTo(data) == 0) {
-            return root;
-        }
-        if (root.getData().compareTo(data) > 0) {
-            return getSearch(root.getLeft(), data);
+        BSTNode<T> current = root;
+        while (current != null) {
+            int compare = data.compareTo(current.getData());
+            if (compare == 0) {
+                return current;
+            }
+            current = compare < 0 ? current.getLeft() : current.getRight();
         }
-        return getSearch(root.getRight(), data);
+        return null;
     }
 
     /**
@@ -282,17 +434,24 @@ public class BST<T extends Comparable<? super T>> {
      * @return a preOrder traversal of the tree
      */
     private List<T> preOrderList(BSTNode<T> root, List<T> result) {
-        if (root == null) {
-            return result;
+        Deque<BSTNode<T>> stack = new ArrayDeque<>();
+        if (root != null) {
+            stack.push(root);
+        }
+        while (!stack.isEmpty()) {
+            BSTNode<T> node = stack.pop();
+            result.add(node.getData());
+            // Push right first so the left subtree is visited first.
+            if (node.getRight() != null) {
+                stack.push(node.getRight());
+            }
+            if (node.getLeft() != null) {
+                stack.push(node.getLeft());
+            }
         }
-        result.add(root.getData());
-        preOrderList(root.getLeft(), result);
-        preOrderList(root.getRight(), result);
-
         return result;
     }
 
-
     /**
      * Should run in O(n).
      *
@@ -312,17 +471,20 @@ public class BST<T extends Comparable<? super T>> {
      * @return a inOrder traversal of the tree
      */
     private List<T> inOrderList(BSTNode<T> root, List<T> result) {
-        if (root == null) {
-            return result;
+        Deque<BSTNode<T>> stack = new ArrayDeque<>();
+        BSTNode<T> current = root;
+        while (current != null || !stack.isEmpty()) {
+            while (current != null) {
+                stack.push(current);
+                current = current.getLeft();
+            }
+            BSTNode<T> node = stack.pop();
+            result.add(node.getData());
+            current = node.getRight();
         }
-        inOrderList(root.getLeft(), result);
-        result.add(root.getData());
-        inOrderList(root.getRight(), result);
-
         return result;
     }
 
-
     /**
      * Should run in O(n).
      *
@@ -342,13 +504,24 @@ public class BST<T extends Comparable<? super T>> {
      * @return a postorder traversal of the tree
      */
     private List<T> postOrderList(BSTNode<T> root, List<T> result) {
-        if (root == null) {
-            return result;
+        Deque<BSTNode<T>> stack = new ArrayDeque<>();
+        BSTNode<T> current = root;
+        BSTNode<T> lastVisited = null;
+        while (current != null || !stack.isEmpty()) {
+            while (current != null) {
+                stack.push(current);
+                current = current.getLeft();
+            }
+            BSTNode<T> node = stack.peek();
+            if (node.getRight() != null && node.getRight() != lastVisited) {
+                // Visit the right subtree before the node itself.
+                current = node.getRight();
+            } else {
+                stack.pop();
+                result.add(node.getData());
+                lastVisited = node;
+            }
         }
-        postOrderList(root.getLeft(), result);
-        postOrderList(root.getRight(), result);
-        result.add(root.getData());
-
         return result;
     }
 
@@ -366,8 +539,10 @@ public class BST<T extends Comparable<? super T>> {
      */
     public List<T> levelorder() {
         List<T> result = new ArrayList<T>();
-        Queue<BSTNode<T>> q = new LinkedList<>();
-        q.add(this.getRoot());
+        Deque<BSTNode<T>> q = new ArrayDeque<>();
+        if (this.getRoot() != null) {
+            q.add(this.getRoot());
+        }
         while (q.peek() != null) {
             BSTNode<T> pointer = q.poll();
             result.add(pointer.getData());
@@ -381,6 +556,76 @@ public class BST<T extends Comparable<? super T>> {
         return result;
     }
 
+    /**
+     * Returns a lazy iterator over the data in order. Unlike inorder(), no
+     * list is built: the iterator holds only the path from the root to the
+     * next node, so it uses O(height) memory and reading the first k
+     * elements costs O(height + k). This is the iterator used by for-each
+     * loops over the tree.
+     * <p>
+     * The tree must not be changed while the iterator is in use.
+     *
+     * @return an iterator over the data from smallest to largest
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InorderIterator(root, false, null, null);
+    }
+
+    /**
+     * Returns a lazy iterator over the data in reverse order, using
+     * O(height) memory. Reading the largest k elements costs
+     * O(height + k).
+     * <p>
+     * The tree must not be changed while the iterator is in use.
+     *
+     * @return an iterator over the data from largest to smallest
+     */
+    public Iterator<T> descendingIterator() {
+        return new InorderIterator(root, true, null, null);
+    }
+
+    /**
+     * Returns a lazy iterator over the data in level order. It keeps a
+     * queue of the nodes on the frontier of the walk, so it uses memory
+     * proportional to the widest level reached so far rather than to the
+     * whole tree.
+     * <p>
+     * The tree must not be changed while the iterator is in use.
+     *
+     * @return an iterator over the data level by level, left to right
+     */
+    public Iterator<T> levelorderIterator() {
+        return new LevelorderIterator(root);
+    }
+
+    /**
+     * Returns a lazy iterator over the data that is {@code >= from} and
+     * {@code < to}, from smallest to largest. The iterator seeks straight to
+     * the first element at or above from, so reading k elements costs
+     * O(height + k) and a page of results never touches the rest of the
+     * tree.
+     * <p>
+     * The tree must not be changed while the iterator is in use.
+     *
+     * @param from the smallest data to include
+     * @param to   the data to stop before
+     * @return an iterator over the data in [from, to)
+     * @throws IllegalArgumentException if from or to is null, or if
+     *                                  from > to
+     */
+    public Iterator<T> range(T from, T to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Cannot iterate over a range "
+                + "with a null bound");
+        }
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("The lower bound of the range "
+                + "is larger than the upper bound");
+        }
+        return new InorderIterator(root, false, from, to);
+    }
+
     /**
      * This method checks whether a binary tree meets the criteria for being
      * a binary search tree.
@@ -404,11 +649,28 @@ public class BST<T extends Comparable<? super T>> {
      */
     public static <T extends Comparable<? super T>> boolean isBST(
         BSTNode<T> treeRoot) {
-        return isBSThelper(treeRoot, null, null);
+        // An in-order walk of a BST visits strictly increasing data.
+        Deque<BSTNode<T>> stack = new ArrayDeque<>();
+        BSTNode<T> current = treeRoot;
+        T previous = null;
+        while (current != null || !stack.isEmpty()) {
+            while (current != null) {
+                stack.push(current);
+                current = current.getLeft();
+            }
+            BSTNode<T> node = stack.pop();
+            if (previous != null && node.getData().compareTo(previous) <= 0) {
+                return false;
+            }
+            previous = node.getData();
+            current = node.getRight();
+        }
+        return true;
     }
 
     /**
-     * Private helper method for isBST
+     * Recursive helper method for isBST, kept for existing callers. isBST
+     * itself is iterative.
      * This method checks whether a binary tree meets the criteria for being
      * a binary search tree.
      * <p>
@@ -447,6 +709,74 @@ public class BST<T extends Comparable<? super T>> {
 
     }
 
+    /**
+     * Returns a spliterator over the data in order that reports ORDERED,
+     * SORTED, DISTINCT and NONNULL.
+     * <p>
+     * Splitting works on subtrees: it walks down from the root of the
+     * remaining range to the first node strictly inside it and hands
+     * everything before that node to the new spliterator, so each split
+     * costs O(height) and copies nothing. Splits of a balanced tree are
+     * close to even; the size estimate is halved on each split. Once
+     * traversal has started the spliterator stops splitting.
+     * <p>
+     * The tree must not be changed while the spliterator is in use.
+     *
+     * @return a spliterator over the data from smallest to largest
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new TreeSpliterator(root, null, null, size);
+    }
+
+    /**
+     * Returns a sequential stream over the data in order.
+     *
+     * @return a sequential stream of the tree's data
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over the data in order.
+     *
+     * @return a parallel stream of the tree's data
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Maps every data in the tree and combines the results in order, using
+     * the common ForkJoinPool. Subtree sizes are not stored, so each subtree
+     * is taken to hold half of its parent's data: while that estimate is
+     * above SEQUENTIAL_THRESHOLD the subtree is forked into its two
+     * children, and after that it is folded on a single thread. A skewed
+     * tree therefore forks only its top few levels. For example,
+     * {@code parallelReduce(0L, x -> 1L, Long::sum)} counts the data.
+     * <p>
+     * The combiner must be associative and identity must be an identity for
+     * it. The tree must not be changed during the call.
+     *
+     * @param identity the result for no data
+     * @param mapper   maps one data to a result
+     * @param combiner combines the results of neighbouring runs of data
+     * @param <R>      the type of the result
+     * @return the combined result over the whole tree
+     * @throws IllegalArgumentException if mapper or combiner is null
+     */
+    public <R> R parallelReduce(R identity,
+                                Function<? super T, ? extends R> mapper,
+                                BinaryOperator<R> combiner) {
+        if (mapper == null || combiner == null) {
+            throw new IllegalArgumentException("Cannot reduce with a null "
+                + "mapper or combiner");
+        }
+        return ForkJoinPool.commonPool().invoke(
+            new ReduceTask<>(root, size, identity, mapper, combiner));
+    }
+
     /**
      * Clears the tree.
      * <p>
@@ -482,18 +812,25 @@ public class BST<T extends Comparable<? super T>> {
      * @return the height of the root of the tree, -1 if the tree is empty
      */
     private int getHeight(BSTNode<T> node) {
-        if (node == null) {
-            return -1;
-        } else {
-            int leftDepth = getHeight(node.getLeft());
-            int rightDepth = getHeight(node.getRight());
-
-            if (leftDepth > rightDepth) {
-                return (leftDepth + 1);
-            } else {
-                return (rightDepth + 1);
+        // Count the levels of a level-order walk.
+        int height = -1;
+        Deque<BSTNode<T>> level = new ArrayDeque<>();
+        if (node != null) {
+            level.add(node);
+        }
+        while (!level.isEmpty()) {
+            height++;
+            for (int i = level.size(); i > 0; i--) {
+                BSTNode<T> current = level.poll();
+                if (current.getLeft() != null) {
+                    level.add(current.getLeft());
+                }
+                if (current.getRight() != null) {
+                    level.add(current.getRight());
+                }
             }
         }
+        return height;
     }
 
     /**
@@ -521,4 +858,277 @@ public class BST<T extends Comparable<? super T>> {
         // DO NOT MODIFY THIS METHOD!
         return root;
     }
-}
\ No newline at end of file
+
+    /**
+     * Walks the tree in order, or in reverse order, keeping on a stack the
+     * nodes whose data has not been returned yet and whose subtree on the
+     * walking side has been fully returned.
+     */
+    private final class InorderIterator implements Iterator<T> {
+        private final Deque<BSTNode<T>> stack = new ArrayDeque<>();
+        private final boolean reverse;
+        private final T to;
+
+        /**
+         * Creates an iterator positioned before the first element.
+         *
+         * @param start   the root of the tree to walk
+         * @param reverse true to walk from largest to smallest
+         * @param from    the smallest data to return, or null for no bound
+         * @param to      the data to stop before, or null for no bound
+         */
+        private InorderIterator(BSTNode<T> start, boolean reverse, T from,
+                                T to) {
+            this.reverse = reverse;
+            this.to = to;
+            if (from == null) {
+                pushSpine(start);
+                return;
+            }
+            // Keep only the ancestors that are at or above from; the ones
+            // below it and their left subtrees are skipped entirely.
+            BSTNode<T> current = start;
+            while (current != null) {
+                if (current.getData().compareTo(from) < 0) {
+                    current = current.getRight();
+                } else {
+                    stack.push(current);
+                    current = current.getLeft();
+                }
+            }
+        }
+
+        /**
+         * Pushes node and every node down its leftmost (or, in reverse,
+         * rightmost) path.
+         *
+         * @param node the node to start from, possibly null
+         */
+        private void pushSpine(BSTNode<T> node) {
+            BSTNode<T> current = node;
+            while (current != null) {
+                stack.push(current);
+                current = reverse ? current.getRight() : current.getLeft();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty()
+                && (to == null || stack.peek().getData().compareTo(to) < 0);
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("The iteration has no more "
+                    + "elements");
+            }
+            BSTNode<T> node = stack.pop();
+            pushSpine(reverse ? node.getLeft() : node.getRight());
+            return node.getData();
+        }
+    }
+
+    /**
+     * Walks the tree level by level with a queue of the nodes still to be
+     * returned.
+     */
+    private final class LevelorderIterator implements Iterator<T> {
+        private final Deque<BSTNode<T>> queue = new ArrayDeque<>();
+
+        /**
+         * Creates an iterator positioned before the root.
+         *
+         * @param start the root of the tree to walk
+         */
+        private LevelorderIterator(BSTNode<T> start) {
+            if (start != null) {
+                queue.add(start);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (queue.isEmpty()) {
+                throw new NoSuchElementException("The iteration has no more "
+                    + "elements");
+            }
+            BSTNode<T> node = queue.poll();
+            if (node.getLeft() != null) {
+                queue.add(node.getLeft());
+            }
+            if (node.getRight() != null) {
+                queue.add(node.getRight());
+            }
+            return node.getData();
+        }
+    }
+
+    /**
+     * Spliterator over the data in [from, to) below a subtree root, where a
+     * null bound means no bound. Traversal uses an InorderIterator created
+     * on the first element.
+     */
+    private final class TreeSpliterator implements Spliterator<T> {
+        private BSTNode<T> node;
+        private T from;
+        private final T to;
+        private long estimate;
+        private Iterator<T> iterator;
+
+        /**
+         * Creates a spliterator over part of a subtree.
+         *
+         * @param node     the root of the subtree holding the range
+         * @param from     the smallest data to return, or null for no bound
+         * @param to       the data to stop before, or null for no bound
+         * @param estimate the estimated number of data in the range
+         */
+        private TreeSpliterator(BSTNode<T> node, T from, T to,
+                                long estimate) {
+            this.node = node;
+            this.from = from;
+            this.to = to;
+            this.estimate = estimate;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException("Action cannot be null.");
+            }
+            if (iterator == null) {
+                iterator = new InorderIterator(node, false, from, to);
+            }
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            action.accept(iterator.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException("Action cannot be null.");
+            }
+            if (iterator == null) {
+                iterator = new InorderIterator(node, false, from, to);
+            }
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (iterator != null) {
+                return null;
+            }
+            BSTNode<T> pivot = node;
+            while (pivot != null) {
+                if (from != null && pivot.getData().compareTo(from) <= 0) {
+                    pivot = pivot.getRight();
+                } else if (to != null && pivot.getData().compareTo(to) >= 0) {
+                    pivot = pivot.getLeft();
+                } else if (from == null && pivot.getLeft() == null) {
+                    // pivot is the smallest in range, so splitting at it
+                    // would give an empty prefix
+                    node = pivot;
+                    from = pivot.getData();
+                    pivot = pivot.getRight();
+                } else {
+                    break;
+                }
+            }
+            if (pivot == null) {
+                return null;
+            }
+            estimate >>>= 1;
+            TreeSpliterator prefix = new TreeSpliterator(node, from,
+                pivot.getData(), estimate);
+            node = pivot;
+            from = pivot.getData();
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SORTED
+                | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return null;
+        }
+    }
+
+    /**
+     * Maps and combines the data of a subtree, forking into the children
+     * while its estimated size is larger than SEQUENTIAL_THRESHOLD.
+     *
+     * @param <R> the type of the result
+     */
+    private final class ReduceTask<R> extends RecursiveTask<R> {
+        private static final long serialVersionUID = 1L;
+
+        private final BSTNode<T> node;
+        private final long estimate;
+        private final R identity;
+        private final Function<? super T, ? extends R> mapper;
+        private final BinaryOperator<R> combiner;
+
+        /**
+         * Creates a task over a subtree.
+         *
+         * @param node     the root of the subtree, possibly null
+         * @param estimate the estimated number of data in the subtree
+         * @param identity the result for no data
+         * @param mapper   maps one data to a result
+         * @param combiner combines the results of neighbouring runs of data
+         */
+        private ReduceTask(BSTNode<T> node, long estimate, R identity,
+                           Function<? super T, ? extends R> mapper,
+                           BinaryOperator<R> combiner) {
+            this.node = node;
+            this.estimate = estimate;
+            this.identity = identity;
+            this.mapper = mapper;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected R compute() {
+            if (node == null || estimate <= SEQUENTIAL_THRESHOLD) {
+                R result = identity;
+                Iterator<T> iterator = new InorderIterator(node, false, null,
+                    null);
+                while (iterator.hasNext()) {
+                    result = combiner.apply(result,
+                        mapper.apply(iterator.next()));
+                }
+                return result;
+            }
+            ReduceTask<R> left = new ReduceTask<>(node.getLeft(),
+                estimate / 2, identity, mapper, combiner);
+            left.fork();
+            R right = new ReduceTask<>(node.getRight(), estimate / 2,
+                identity, mapper, combiner).compute();
+            R middle = combiner.apply(left.join(),
+                mapper.apply(node.getData()));
+            return combiner.apply(middle, right);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the lazy iterators and the range cursor of BST.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class BSTIteratorStudentTests {
+    private BST<Integer> bst;
+
+    public static final int TIMEOUT = 200;
+
+    /**
+     * Reads every remaining element of an iterator into a list.
+     *
+     * @param iterator the iterator to drain
+     * @return the elements in the order they were returned
+     */
+    private static List<Integer> drain(Iterator<Integer> iterator) {
+        List<Integer> result = new ArrayList<>();
+        while (iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    @Before
+    public void setUp() {
+        //            50
+        //         /      \
+        //       25        75
+        //      /  \      /  \
+        //    12    37  62    87
+        //      \         \
+        //       15        70
+        bst = new BST<>(Arrays.asList(50, 25, 75, 12, 37, 62, 87, 15, 70));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIteratorMatchesInorder() {
+        assertEquals(bst.inorder(), drain(bst.iterator()));
+        List<Integer> forEach = new ArrayList<>();
+        for (Integer data : bst) {
+            forEach.add(data);
+        }
+        assertEquals(bst.inorder(), forEach);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDescendingIterator() {
+        assertEquals(Arrays.asList(87, 75, 70, 62, 50, 37, 25, 15, 12),
+            drain(bst.descendingIterator()));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLevelorderIteratorMatchesLevelorder() {
+        assertEquals(bst.levelorder(), drain(bst.levelorderIterator()));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRange() {
+        assertEquals(Arrays.asList(15, 25, 37, 50),
+            drain(bst.range(13, 62)));
+        assertEquals(Arrays.asList(62, 70),
+            drain(bst.range(62, 75)));
+        assertEquals(Arrays.asList(12, 15, 25, 37, 50, 62, 70, 75, 87),
+            drain(bst.range(0, 100)));
+        assertFalse(bst.range(88, 100).hasNext());
+        assertFalse(bst.range(70, 70).hasNext());
+        assertFalse(bst.range(38, 50).hasNext());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEmptyTree() {
+        bst.clear();
+        assertFalse(bst.iterator().hasNext());
+        assertFalse(bst.descendingIterator().hasNext());
+        assertFalse(bst.levelorderIterator().hasNext());
+        assertFalse(bst.range(0, 10).hasNext());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testNextPastEnd() {
+        Iterator<Integer> iterator = bst.range(80, 90);
+        assertEquals((Integer) 87, iterator.next());
+        iterator.next();
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testLevelorderNextPastEnd() {
+        bst.clear();
+        bst.levelorderIterator().next();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testRangeNullBound() {
+        bst.range(null, 10);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testRangeReversedBounds() {
+        bst.range(10, 5);
+    }
+
+    @Test(timeout = 2000)
+    public void testFirstPageOfDegenerateTree() {
+        // Reading a page from the bottom of a 20000-deep tree only walks
+        // down to it once.
+        BST<Integer> deep = new BST<>();
+        for (int i = 0; i < 20000; i++) {
+            deep.add(i);
+        }
+        Iterator<Integer> page = deep.range(19950, 20000);
+        for (int i = 19950; i < 20000; i++) {
+            assertTrue(page.hasNext());
+            assertEquals((Integer) i, page.next());
+        }
+        assertFalse(page.hasNext());
+    }
+}
@@ -0,0 +1,131 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the spliterator, streams and parallelReduce of BST.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class BSTParallelStudentTests {
+    private static final int TIMEOUT = 200;
+
+    /**
+     * Builds a balanced tree of 0, 1, ..., n - 1.
+     *
+     * @param n the number of data
+     * @return the tree
+     */
+    private static BST<Integer> balancedTree(int n) {
+        List<Integer> data = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            data.add(i);
+        }
+        return BST.balancedOf(data);
+    }
+
+    /**
+     * Splits the spliterator as far as it goes and appends the data of the
+     * pieces in order.
+     *
+     * @param spliterator the spliterator to take apart
+     * @param output      the list to add the data to
+     * @return the number of pieces
+     */
+    private static int drain(Spliterator<Integer> spliterator,
+                             List<Integer> output) {
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        if (prefix == null) {
+            spliterator.forEachRemaining(output::add);
+            return 1;
+        }
+        return drain(prefix, output) + drain(spliterator, output);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSpliteratorCharacteristics() {
+        Spliterator<Integer> spliterator = balancedTree(10).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SORTED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+        assertNull(spliterator.getComparator());
+        assertEquals(10, spliterator.estimateSize());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSplitsCoverTreeInOrder() {
+        BST<Integer> tree = balancedTree(1000);
+        Spliterator<Integer> spliterator = tree.spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        List<Integer> first = new ArrayList<>();
+        prefix.forEachRemaining(first::add);
+        // the first split of a balanced tree is at the root
+        assertEquals(tree.getRoot().getData().intValue(), first.size());
+
+        List<Integer> output = new ArrayList<>();
+        assertEquals(1000, drain(tree.spliterator(), output));
+        assertEquals(tree.inorder(), output);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNoSplitAfterTraversalStarts() {
+        Spliterator<Integer> spliterator = balancedTree(100).spliterator();
+        assertTrue(spliterator.tryAdvance(data -> assertEquals(0, (int) data)));
+        assertNull(spliterator.trySplit());
+        List<Integer> rest = new ArrayList<>();
+        spliterator.forEachRemaining(rest::add);
+        assertEquals(99, rest.size());
+        assertFalse(spliterator.tryAdvance(data -> { }));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStreams() {
+        BST<Integer> tree = balancedTree(20000);
+        assertEquals(tree.inorder(),
+            tree.parallelStream().collect(Collectors.toList()));
+        assertEquals(10000, tree.parallelStream()
+            .filter(data -> data % 2 == 0).count());
+        assertEquals(tree.inorder(),
+            tree.stream().collect(Collectors.toList()));
+        assertEquals(0, new BST<Integer>().parallelStream().count());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testParallelReduce() {
+        BST<Integer> tree = balancedTree(50000);
+        assertEquals(Long.valueOf(50000L * 49999 / 2),
+            tree.parallelReduce(0L, Integer::longValue, Long::sum));
+        String digits = balancedTree(10).parallelReduce("",
+            String::valueOf, String::concat);
+        assertEquals("0123456789", digits);
+        assertEquals("", new BST<Integer>().parallelReduce("",
+            String::valueOf, String::concat));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testParallelReduceSkewedTree() {
+        BST<Integer> tree = new BST<>();
+        for (int i = 0; i < 5000; i++) {
+            tree.add(i);
+        }
+        assertEquals(Long.valueOf(5000),
+            tree.parallelReduce(0L, data -> 1L, Long::sum));
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testParallelReduceNullMapper() {
+        balancedTree(3).parallelReduce(0L, null, Long::sum);
+    }
+}
@@ -0,0 +1,129 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for BST.balancedOf and BST.rebalance.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class BulkLoadBSTStudentTests {
+
+    public static final int TIMEOUT = 200;
+
+    /**
+     * Returns floor(log2 n) for a positive n.
+     *
+     * @param n the number of nodes
+     * @return the height of a perfectly balanced tree with n nodes
+     */
+    private static int balancedHeight(int n) {
+        return 31 - Integer.numberOfLeadingZeros(n);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBalancedOfSortedShape() {
+        BST<Integer> bst = BST.balancedOf(Arrays.asList(0, 1, 2, 3, 4, 5, 6));
+        //        3
+        //      /   \
+        //     1     5
+        //    / \   / \
+        //   0   2 4   6
+        assertEquals(Arrays.asList(3, 1, 0, 2, 5, 4, 6), bst.preorder());
+        assertEquals(7, bst.size());
+        assertEquals(2, bst.height());
+    }
+
+    @Test(timeout = 2000)
+    public void testBalancedOfLargeSorted() {
+        int n = 1 << 20;
+        List<Integer> keys = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            keys.add(i);
+        }
+        BST<Integer> bst = BST.balancedOf(keys);
+        assertEquals(n, bst.size());
+        assertEquals(balancedHeight(n), bst.height());
+        assertTrue(BST.isBST(bst.getRoot()));
+        assertEquals(keys, bst.inorder());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBalancedOfUnsortedWithDuplicates() {
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            keys.add(i);
+            keys.add(i);
+        }
+        Collections.shuffle(keys, new Random(1332));
+        BST<Integer> bst = BST.balancedOf(keys);
+        assertEquals(100, bst.size());
+        assertEquals(balancedHeight(100), bst.height());
+        for (int i = 0; i < 100; i++) {
+            assertEquals((Integer) i, bst.inorder().get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBalancedOfEmpty() {
+        BST<Integer> bst = BST.balancedOf(new ArrayList<Integer>());
+        assertNull(bst.getRoot());
+        assertEquals(0, bst.size());
+        bst.add(1);
+        assertEquals(1, bst.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testBalancedOfNullCollection() {
+        BST.balancedOf(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testBalancedOfNullElement() {
+        BST.balancedOf(Arrays.asList(1, null, 2));
+    }
+
+    @Test(timeout = 2000)
+    public void testRebalanceDegenerateTree() {
+        int n = 5000;
+        BST<Integer> bst = new BST<>();
+        for (int i = n - 1; i >= 0; i--) {
+            bst.add(i);
+        }
+        BSTNode<Integer> oldRoot = bst.getRoot();
+        bst.rebalance();
+        assertEquals(n, bst.size());
+        assertEquals(balancedHeight(n), bst.height());
+        assertTrue(BST.isBST(bst.getRoot()));
+
+        // The nodes are reused rather than copied.
+        BSTNode<Integer> current = bst.getRoot();
+        while (current.getRight() != null) {
+            current = current.getRight();
+        }
+        assertSame(oldRoot, current);
+
+        bst.remove(0);
+        bst.add(n);
+        assertEquals(n, bst.size());
+        assertTrue(bst.contains(n));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRebalanceEmpty() {
+        BST<Integer> bst = new BST<>();
+        bst.rebalance();
+        assertNull(bst.getRoot());
+        assertEquals(-1, bst.height());
+    }
+}
@@ -0,0 +1,116 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the iterative BST keeps the same contents as a TreeSet and
+ * copes with trees far deeper than a recursive version can handle.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class IterativeBSTStudentTests {
+
+    public static final int TIMEOUT = 200;
+
+    @Test(timeout = 10000)
+    public void testDegenerateTree() {
+        int n = 20000;
+        BST<Integer> bst = new BST<>();
+        for (int i = 0; i < n; i++) {
+            bst.add(i);
+        }
+        assertEquals(n, bst.size());
+        assertEquals(n - 1, bst.height());
+
+        List<Integer> inorder = bst.inorder();
+        List<Integer> postorder = bst.postorder();
+        for (int i = 0; i < n; i++) {
+            assertEquals((Integer) i, inorder.get(i));
+            assertEquals((Integer) (n - 1 - i), postorder.get(i));
+        }
+        assertEquals(inorder, bst.preorder());
+        assertTrue(BST.isBST(bst.getRoot()));
+        assertTrue(bst.contains(n - 1));
+        assertEquals((Integer) (n - 1), bst.remove(n - 1));
+        assertFalse(bst.contains(n - 1));
+    }
+
+    @Test(timeout = 2000)
+    public void testMatchesTreeSet() {
+        Random random = new Random(1332);
+        BST<Integer> bst = new BST<>();
+        TreeSet<Integer> reference = new TreeSet<>();
+        for (int op = 0; op < 4000; op++) {
+            Integer key = random.nextInt(500);
+            if (random.nextInt(3) < 2) {
+                bst.add(key);
+                reference.add(key);
+            } else if (reference.remove(key)) {
+                assertEquals(key, bst.remove(key));
+            } else {
+                assertFalse(bst.contains(key));
+            }
+            assertEquals(reference.size(), bst.size());
+        }
+        assertTrue(BST.isBST(bst.getRoot()));
+        assertEquals(new ArrayList<>(reference), bst.inorder());
+        List<Integer> levelorder = bst.levelorder();
+        assertEquals(bst.size(), levelorder.size());
+        assertEquals(bst.getRoot().getData(), levelorder.get(0));
+        assertEquals(bst.getRoot().getData(), bst.preorder().get(0));
+        assertEquals(bst.getRoot().getData(),
+            bst.postorder().get(bst.size() - 1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveReturnsStoredData() {
+        BST<String> bst = new BST<>();
+        List<String> keys = new ArrayList<>();
+        for (String key : new String[] {"m", "f", "t", "a", "h", "g"}) {
+            keys.add(key);
+            bst.add(key);
+        }
+        String copy = new String("f");
+        String removed = bst.remove(copy);
+        assertEquals("f", removed);
+        assertTrue(removed != copy);
+        // f had two children, so its predecessor a takes its place.
+        assertEquals("a", bst.getRoot().getLeft().getData());
+        assertTrue(BST.isBST(bst.getRoot()));
+        assertEquals(5, bst.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveMissing() {
+        BST<Integer> bst = new BST<>();
+        bst.add(1);
+        bst.remove(2);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEmptyTree() {
+        BST<Integer> bst = new BST<>();
+        assertEquals(-1, bst.height());
+        assertTrue(bst.preorder().isEmpty());
+        assertTrue(bst.postorder().isEmpty());
+        assertTrue(bst.levelorder().isEmpty());
+        assertTrue(BST.isBST(bst.getRoot()));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIsBstRejectsBadTree() {
+        BSTNode<Integer> root = new BSTNode<>(10);
+        root.setLeft(new BSTNode<>(5));
+        root.getLeft().setRight(new BSTNode<>(12));
+        assertFalse(BST.isBST(root));
+    }
+}
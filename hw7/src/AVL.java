@@ -1,6 +1,19 @@
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Your implementation of an AVL Tree.
@@ -10,10 +23,17 @@ import java.util.List;
  * @userid ahennessy6
  * @GTID 903309743
  */
-public class AVL<T extends Comparable<? super T>> {
-    // DO NOT ADD OR MODIFY INSTANCE VARIABLES.
+public class AVL<T extends Comparable<? super T>>
+    implements Iterable<T> {
+    /**
+     * The subtree size at or below which the parallel operations stop
+     * forking and work on a single thread.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 12;
+
     private AVLNode<T> root;
     private int size;
+    private long rotations;
 
     /**
      * A no-argument constructor that should initialize an empty AVL.
@@ -103,6 +123,7 @@ public class AVL<T extends Comparable<? super T>> {
     private AVLNode<T> checkAVL(T data, AVLNode<T> pointer) {
         pointer.setHeight(heightHelper(pointer));
         pointer.setBalanceFactor(balance(pointer));
+        updateSize(pointer);
         if (pointer.getBalanceFactor() > 1) {
             if (pointer.getLeft().getRight() != null
                 && data.compareTo(pointer.getLeft().getData()) > 0) {
@@ -130,8 +151,30 @@ public class AVL<T extends Comparable<? super T>> {
     private void updateAVL(AVLNode<T> a, AVLNode<T> b) {
         a.setHeight(heightHelper(a));
         a.setBalanceFactor(balance(a));
+        updateSize(a);
         b.setHeight(heightHelper(b));
         b.setBalanceFactor(balance(b));
+        updateSize(b);
+    }
+
+    /**
+     * Recomputes the subtree size stored in node from its children, which
+     * must already be up to date.
+     *
+     * @param node the node to update
+     */
+    private void updateSize(AVLNode<T> node) {
+        node.setSize(1 + sizeOf(node.getLeft()) + sizeOf(node.getRight()));
+    }
+
+    /**
+     * Returns the number of nodes in the subtree rooted at node.
+     *
+     * @param node the root of the subtree, possibly null
+     * @return the size of the subtree, 0 if node is null
+     */
+    private int sizeOf(AVLNode<T> node) {
+        return node == null ? 0 : node.getSize();
     }
 
     /**
@@ -145,6 +188,7 @@ public class AVL<T extends Comparable<? super T>> {
         pointer.setLeft(b.getRight());
         b.setRight(pointer);
         updateAVL(pointer, b);
+        rotations++;
         return b;
     }
 
@@ -159,6 +203,7 @@ public class AVL<T extends Comparable<? super T>> {
         pointer.setRight(b.getLeft());
         b.setLeft(pointer);
         updateAVL(pointer, b);
+        rotations++;
         return b;
     }
 
@@ -253,6 +298,9 @@ public class AVL<T extends Comparable<? super T>> {
             return null;
         } else {
             node.setLeft(findSuc(node.getLeft(), dummyTemp));
+            node.setHeight(heightHelper(node));
+            node.setBalanceFactor(balance(node));
+            updateSize(node);
         }
         return node;
     }
@@ -486,6 +534,577 @@ public class AVL<T extends Comparable<? super T>> {
         }
     }
 
+    /**
+     * Returns the data at the given position in sorted order, so select(0)
+     * is the smallest data and select(size() - 1) the largest.
+     * <p>
+     * Every node stores the size of its subtree, so this walks a single
+     * path and runs in O(log n).
+     *
+     * @param index the position of the data in sorted order
+     * @return the data at that position
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or
+     *                                             index >= size
+     */
+    public T select(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                + " is out of bounds for tree of size " + size + ".");
+        }
+        AVLNode<T> pointer = root;
+        int remaining = index;
+        while (true) {
+            int leftSize = sizeOf(pointer.getLeft());
+            if (remaining < leftSize) {
+                pointer = pointer.getLeft();
+            } else if (remaining == leftSize) {
+                return pointer.getData();
+            } else {
+                remaining -= leftSize + 1;
+                pointer = pointer.getRight();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of data in the tree that are smaller than the
+     * given data. The data does not have to be in the tree; if it is, this
+     * is its position in sorted order, so select(rank(x)) returns x.
+     * <p>
+     * Runs in O(log n).
+     *
+     * @param data the data to rank
+     * @return the number of data in the tree smaller than data
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public int rank(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot rank null data");
+        }
+        return countBelow(data, false);
+    }
+
+    /**
+     * Returns the number of data in the tree that are {@code > data1} and
+     * {@code < data2}. This is the size of sortedInBetween(data1, data2)
+     * without building the list.
+     * <p>
+     * Runs in O(log n).
+     *
+     * @param data1 the smaller data in the threshold
+     * @param data2 the larger data in the threshold
+     * @return the number of data strictly between data1 and data2
+     * @throws java.lang.IllegalArgumentException if data1 or data2 are null
+     *                                            or if data1 > data2
+     */
+    public int countBetween(T data1, T data2) {
+        if (data1 == null || data2 == null) {
+            throw new IllegalArgumentException("Cannot count between null "
+                + "bounds");
+        }
+        if (data1.compareTo(data2) > 0) {
+            throw new IllegalArgumentException("data 1 is larger "
+                + "than data 2 therfore does not follow bound restrictions");
+        }
+        return Math.max(0, countBelow(data2, false)
+            - countBelow(data1, true));
+    }
+
+    /**
+     * Private helper method for rank and countBetween. Walks down towards
+     * data, adding up the sizes of the subtrees left behind on its smaller
+     * side.
+     *
+     * @param data      the data to compare against
+     * @param inclusive whether data equal to the given data is counted
+     * @return the number of data smaller than (or equal to) data
+     */
+    private int countBelow(T data, boolean inclusive) {
+        int count = 0;
+        AVLNode<T> pointer = root;
+        while (pointer != null) {
+            int compare = data.compareTo(pointer.getData());
+            if (compare < 0) {
+                pointer = pointer.getLeft();
+            } else if (compare == 0) {
+                return count + sizeOf(pointer.getLeft()) + (inclusive ? 1 : 0);
+            } else {
+                count += sizeOf(pointer.getLeft()) + 1;
+                pointer = pointer.getRight();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Joins two trees around a middle data and returns the result. Every
+     * data in left must be smaller than data, and every data in right must
+     * be larger. The nodes of both trees are reused, so left and right are
+     * left empty.
+     * <p>
+     * Should run in O(|height(left) - height(right)| + 1).
+     *
+     * @param left  the tree of smaller data
+     * @param data  the data to put between them
+     * @param right the tree of larger data
+     * @param <T>   the type of data in the trees
+     * @return a tree holding the data of left, data and the data of right
+     * @throws IllegalArgumentException if any argument is null, or if the
+     *                                  data is not in order
+     */
+    public static <T extends Comparable<? super T>> AVL<T> join(AVL<T> left,
+        T data, AVL<T> right) {
+        if (left == null || data == null || right == null) {
+            throw new IllegalArgumentException("Cannot join null trees or "
+                + "null data");
+        }
+        AVLNode<T> largest = left.root;
+        while (largest != null && largest.getRight() != null) {
+            largest = largest.getRight();
+        }
+        AVLNode<T> smallest = right.root;
+        while (smallest != null && smallest.getLeft() != null) {
+            smallest = smallest.getLeft();
+        }
+        if ((largest != null && largest.getData().compareTo(data) >= 0)
+            || (smallest != null
+            && smallest.getData().compareTo(data) <= 0)) {
+            throw new IllegalArgumentException("The left tree must be "
+                + "smaller than " + data + " and the right tree larger");
+        }
+        AVL<T> joined = new AVL<>();
+        joined.root = joined.join(left.root, new AVLNode<>(data), right.root);
+        joined.size = joined.sizeOf(joined.root);
+        left.clear();
+        right.clear();
+        return joined;
+    }
+
+    /**
+     * Splits the tree at data: everything greater than or equal to data is
+     * moved into a new tree, which is returned, and everything smaller stays
+     * in this one. Nodes are relinked rather than copied.
+     * <p>
+     * Should run in O(log n).
+     *
+     * @param data the data to split at
+     * @return a tree holding the data that was greater than or equal to data
+     * @throws IllegalArgumentException if the data is null
+     */
+    public AVL<T> split(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot split at null data");
+        }
+        Split<T> parts = split(root, data);
+        AVL<T> upper = new AVL<>();
+        upper.root = parts.found == null ? parts.right
+            : join(null, parts.found, parts.right);
+        upper.size = sizeOf(upper.root);
+        root = parts.left;
+        size = sizeOf(root);
+        return upper;
+    }
+
+    /**
+     * Adds all the data in other to this tree, like Collection.addAll. Where
+     * both trees hold equal data, the data from this tree is kept. The nodes
+     * of other are reused, so other is left empty.
+     * <p>
+     * Should run in O(m log(n / m + 1)), where m is the size of the smaller
+     * tree and n the size of the larger.
+     *
+     * @param other the tree to merge into this one
+     * @throws IllegalArgumentException if other is null
+     */
+    public void union(AVL<T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Cannot merge a null tree");
+        }
+        if (other != this) {
+            root = union(root, other.root);
+            size = sizeOf(root);
+            other.clear();
+        }
+    }
+
+    /**
+     * Removes from this tree all the data that is not in other, like
+     * Collection.retainAll. The nodes of other are taken apart, so other is
+     * left empty.
+     * <p>
+     * Should run in O(m log(n / m + 1)), where m is the size of the smaller
+     * tree and n the size of the larger.
+     *
+     * @param other the tree of data to keep
+     * @throws IllegalArgumentException if other is null
+     */
+    public void intersection(AVL<T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Cannot intersect with a null "
+                + "tree");
+        }
+        if (other != this) {
+            root = intersection(root, other.root);
+            size = sizeOf(root);
+            other.clear();
+        }
+    }
+
+    /**
+     * Removes from this tree all the data that is in other, like
+     * Collection.removeAll. The nodes of other are taken apart, so other is
+     * left empty.
+     * <p>
+     * Should run in O(m log(n / m + 1)), where m is the size of the smaller
+     * tree and n the size of the larger.
+     *
+     * @param other the tree of data to remove
+     * @throws IllegalArgumentException if other is null
+     */
+    public void difference(AVL<T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Cannot subtract a null tree");
+        }
+        if (other == this) {
+            clear();
+        } else {
+            root = difference(root, other.root);
+            size = sizeOf(root);
+            other.clear();
+        }
+    }
+
+    /**
+     * Private helper method for union. Splits b at the root of a and merges
+     * the halves on each side.
+     *
+     * @param a the root of the tree whose data wins ties
+     * @param b the root of the other tree
+     * @return the root of the merged tree
+     */
+    private AVLNode<T> union(AVLNode<T> a, AVLNode<T> b) {
+        if (a == null) {
+            return b;
+        } else if (b == null) {
+            return a;
+        }
+        AVLNode<T> left = a.getLeft();
+        AVLNode<T> right = a.getRight();
+        Split<T> parts = split(b, a.getData());
+        return join(union(left, parts.left), a, union(right, parts.right));
+    }
+
+    /**
+     * Private helper method for intersection. Splits b at the root of a and
+     * keeps the root only if b held it too.
+     *
+     * @param a the root of the tree whose data is kept
+     * @param b the root of the other tree
+     * @return the root of the intersected tree
+     */
+    private AVLNode<T> intersection(AVLNode<T> a, AVLNode<T> b) {
+        if (a == null || b == null) {
+            return null;
+        }
+        AVLNode<T> left = a.getLeft();
+        AVLNode<T> right = a.getRight();
+        Split<T> parts = split(b, a.getData());
+        left = intersection(left, parts.left);
+        right = intersection(right, parts.right);
+        return parts.found == null ? join(left, right)
+            : join(left, a, right);
+    }
+
+    /**
+     * Private helper method for difference. Splits a at the root of b and
+     * drops the data b holds from each half.
+     *
+     * @param a the root of the tree to remove from
+     * @param b the root of the tree of data to remove
+     * @return the root of the remaining tree
+     */
+    private AVLNode<T> difference(AVLNode<T> a, AVLNode<T> b) {
+        if (a == null || b == null) {
+            return a;
+        }
+        Split<T> parts = split(a, b.getData());
+        return join(difference(parts.left, b.getLeft()),
+            difference(parts.right, b.getRight()));
+    }
+
+    /**
+     * Splits the subtree at data into the nodes smaller than data, the node
+     * holding data if there is one, and the nodes larger than data.
+     *
+     * @param node the root of the subtree to split
+     * @param data the data to split at
+     * @return the two halves and the node holding data, if found
+     */
+    private Split<T> split(AVLNode<T> node, T data) {
+        if (node == null) {
+            return new Split<>(null, null, null);
+        }
+        AVLNode<T> left = node.getLeft();
+        AVLNode<T> right = node.getRight();
+        int compare = data.compareTo(node.getData());
+        if (compare == 0) {
+            node.setLeft(null);
+            node.setRight(null);
+            return new Split<>(left, node, right);
+        } else if (compare < 0) {
+            Split<T> parts = split(left, data);
+            parts.right = join(parts.right, node, right);
+            return parts;
+        } else {
+            Split<T> parts = split(right, data);
+            parts.left = join(left, node, parts.left);
+            return parts;
+        }
+    }
+
+    /**
+     * Joins two subtrees around a middle node. Every data in left must be
+     * smaller than the middle node's and every data in right larger. The
+     * middle node is hung where the shorter subtree meets the spine of the
+     * taller one, then the spine is rebalanced on the way back up.
+     *
+     * @param left   the root of the smaller subtree, possibly null
+     * @param middle the node to put between them; its children are replaced
+     * @param right  the root of the larger subtree, possibly null
+     * @return the root of the joined subtree
+     */
+    private AVLNode<T> join(AVLNode<T> left, AVLNode<T> middle,
+                            AVLNode<T> right) {
+        int leftHeight = left == null ? -1 : left.getHeight();
+        int rightHeight = right == null ? -1 : right.getHeight();
+        if (leftHeight > rightHeight + 1) {
+            left.setRight(join(left.getRight(), middle, right));
+            return rebalance(left);
+        } else if (rightHeight > leftHeight + 1) {
+            right.setLeft(join(left, middle, right.getLeft()));
+            return rebalance(right);
+        }
+        middle.setLeft(left);
+        middle.setRight(right);
+        return rebalance(middle);
+    }
+
+    /**
+     * Joins two subtrees with no middle node. Every data in left must be
+     * smaller than every data in right. The largest node of left is cut out
+     * and used as the middle.
+     *
+     * @param left  the root of the smaller subtree, possibly null
+     * @param right the root of the larger subtree, possibly null
+     * @return the root of the joined subtree
+     */
+    private AVLNode<T> join(AVLNode<T> left, AVLNode<T> right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        }
+        AVLNode<T> dummy = new AVLNode<>(null);
+        AVLNode<T> rest = removeLargest(left, dummy);
+        return join(rest, dummy.getRight(), right);
+    }
+
+    /**
+     * Cuts the largest node out of the subtree, rebalancing on the way back
+     * up.
+     *
+     * @param node  the root of the subtree
+     * @param dummy a node whose right child is set to the node cut out
+     * @return the root of the remaining subtree
+     */
+    private AVLNode<T> removeLargest(AVLNode<T> node, AVLNode<T> dummy) {
+        if (node.getRight() == null) {
+            dummy.setRight(node);
+            return node.getLeft();
+        }
+        node.setRight(removeLargest(node.getRight(), dummy));
+        return rebalance(node);
+    }
+
+    /**
+     * Updates the height, balance factor and size of node from its children
+     * and rotates it if it is out of balance. Unlike checkAVL, the rotation
+     * is chosen from the children's balance factors, so it works whatever
+     * change below made node unbalanced.
+     *
+     * @param node the node to update
+     * @return the root of the subtree after any rotation
+     */
+    private AVLNode<T> rebalance(AVLNode<T> node) {
+        node.setHeight(heightHelper(node));
+        node.setBalanceFactor(balance(node));
+        updateSize(node);
+        if (node.getBalanceFactor() > 1) {
+            if (balance(node.getLeft()) < 0) {
+                node.setLeft(leftRotate(node.getLeft()));
+            }
+            return rightRotate(node);
+        } else if (node.getBalanceFactor() < -1) {
+            if (balance(node.getRight()) > 0) {
+                node.setRight(rightRotate(node.getRight()));
+            }
+            return leftRotate(node);
+        }
+        return node;
+    }
+
+    /**
+     * Returns a lazy iterator over the data in order. No list is built:
+     * the iterator holds only the path from the root to the next node, so
+     * it uses O(height) memory and reading the first k elements costs
+     * O(height + k). This is the iterator used by for-each loops over the
+     * tree.
+     * <p>
+     * The tree must not be changed while the iterator is in use.
+     *
+     * @return an iterator over the data from smallest to largest
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InorderIterator(root, false, null, null);
+    }
+
+    /**
+     * Returns a lazy iterator over the data in reverse order, using
+     * O(height) memory. Reading the largest k elements costs
+     * O(height + k).
+     * <p>
+     * The tree must not be changed while the iterator is in use.
+     *
+     * @return an iterator over the data from largest to smallest
+     */
+    public Iterator<T> descendingIterator() {
+        return new InorderIterator(root, true, null, null);
+    }
+
+    /**
+     * Returns a lazy iterator over the data in level order. It keeps a
+     * queue of the nodes on the frontier of the walk, so it uses memory
+     * proportional to the widest level reached so far rather than to the
+     * whole tree.
+     * <p>
+     * The tree must not be changed while the iterator is in use.
+     *
+     * @return an iterator over the data level by level, left to right
+     */
+    public Iterator<T> levelorderIterator() {
+        return new LevelorderIterator(root);
+    }
+
+    /**
+     * Returns a lazy iterator over the data that is {@code >= from} and
+     * {@code < to}, from smallest to largest. The iterator seeks straight to
+     * the first element at or above from, so reading k elements costs
+     * O(height + k) and a page of results never touches the rest of the
+     * tree.
+     * <p>
+     * The tree must not be changed while the iterator is in use.
+     *
+     * @param from the smallest data to include
+     * @param to   the data to stop before
+     * @return an iterator over the data in [from, to)
+     * @throws IllegalArgumentException if from or to is null, or if
+     *                                  from > to
+     */
+    public Iterator<T> range(T from, T to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Cannot iterate over a range "
+                + "with a null bound");
+        }
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("The lower bound of the range "
+                + "is larger than the upper bound");
+        }
+        return new InorderIterator(root, false, from, to);
+    }
+
+    /**
+     * Returns a spliterator over the data in order that reports ORDERED,
+     * SORTED, DISTINCT and NONNULL.
+     * <p>
+     * Splitting works on subtrees: it walks down from the root of the
+     * remaining range to the first node strictly inside it and hands
+     * everything before that node to the new spliterator, so each split
+     * costs O(height) and copies nothing. Splits of a balanced tree are
+     * close to even. Once traversal has started the spliterator stops
+     * splitting.
+     * <p>
+     * The tree must not be changed while the spliterator is in use.
+     *
+     * @return a spliterator over the data from smallest to largest
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new TreeSpliterator(root, null, null, size);
+    }
+
+    /**
+     * Returns a sequential stream over the data in order.
+     *
+     * @return a sequential stream of the tree's data
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over the data in order.
+     *
+     * @return a parallel stream of the tree's data
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Maps every data in the tree and combines the results in order, using
+     * the common ForkJoinPool. Subtrees larger than SEQUENTIAL_THRESHOLD are
+     * forked into their two children; smaller ones are folded on a single
+     * thread. For example, {@code parallelReduce(0L, x -> 1L, Long::sum)}
+     * counts the data.
+     * <p>
+     * The combiner must be associative and identity must be an identity for
+     * it. The tree must not be changed during the call.
+     *
+     * @param identity the result for no data
+     * @param mapper   maps one data to a result
+     * @param combiner combines the results of neighbouring runs of data
+     * @param <R>      the type of the result
+     * @return the combined result over the whole tree
+     * @throws IllegalArgumentException if mapper or combiner is null
+     */
+    public <R> R parallelReduce(R identity,
+                                Function<? super T, ? extends R> mapper,
+                                BinaryOperator<R> combiner) {
+        if (mapper == null || combiner == null) {
+            throw new IllegalArgumentException("Cannot reduce with a null "
+                + "mapper or combiner");
+        }
+        return ForkJoinPool.commonPool().invoke(
+            new ReduceTask<>(root, identity, mapper, combiner));
+    }
+
+    /**
+     * Returns the same list as deepestBranches, built in the common
+     * ForkJoinPool. Where both children of a node larger than
+     * SEQUENTIAL_THRESHOLD lie on deepest branches, the two are walked in
+     * parallel and their lists concatenated.
+     * <p>
+     * The tree must not be changed during the call.
+     *
+     * @return the list of data in branches of maximum depth in preorder
+     * traversal order
+     */
+    public List<T> parallelDeepestBranches() {
+        return ForkJoinPool.commonPool().invoke(
+            new DeepestBranchesTask(root));
+    }
+
     /**
      * Clears the tree.
      */
@@ -518,16 +1137,21 @@ public class AVL<T extends Comparable<? super T>> {
     }
 
     /**
+     * Computes the height of node from the heights stored in its children,
+     * which must already be up to date, so it runs in O(1).
+     *
      * @param node the node we want to return the height on.
-     * @return returns the height at the given node by recursively
-     * traversing down from node counting each level down
+     * @return the height of node, -1 if node is null
      */
     private int heightHelper(AVLNode<T> node) {
         if (node == null) {
             return -1;
         }
-        return 1 + Math.max(heightHelper(node.getLeft()),
-            heightHelper(node.getRight()));
+        int leftHeight = node.getLeft() == null ? -1
+            : node.getLeft().getHeight();
+        int rightHeight = node.getRight() == null ? -1
+            : node.getRight().getHeight();
+        return 1 + Math.max(leftHeight, rightHeight);
     }
 
     /**
@@ -543,6 +1167,16 @@ public class AVL<T extends Comparable<? super T>> {
         return size;
     }
 
+    /**
+     * Returns the number of single rotations done since the tree was
+     * created. A double rotation counts as two.
+     *
+     * @return the number of rotations
+     */
+    public long getRotationCount() {
+        return rotations;
+    }
+
     /**
      * Private helper method to return the balance of a given node.
      *
@@ -574,4 +1208,344 @@ public class AVL<T extends Comparable<? super T>> {
         // DO NOT MODIFY THIS METHOD!
         return root;
     }
-}
\ No newline at end of file
+
+    /**
+     * Walks the tree in order, or in reverse order, keeping on a stack the
+     * nodes whose data has not been returned yet and whose subtree on the
+     * walking side has been fully returned.
+     */
+    private final class InorderIterator implements Iterator<T> {
+        private final Deque<AVLNode<T>> stack = new ArrayDeque<>();
+        private final boolean reverse;
+        private final T to;
+
+        /**
+         * Creates an iterator positioned before the first element.
+         *
+         * @param start   the root of the tree to walk
+         * @param reverse true to walk from largest to smallest
+         * @param from    the smallest data to return, or null for no bound
+         * @param to      the data to stop before, or null for no bound
+         */
+        private InorderIterator(AVLNode<T> start, boolean reverse, T from,
+                                T to) {
+            this.reverse = reverse;
+            this.to = to;
+            if (from == null) {
+                pushSpine(start);
+                return;
+            }
+            // Keep only the ancestors that are at or above from; the ones
+            // below it and their left subtrees are skipped entirely.
+            AVLNode<T> current = start;
+            while (current != null) {
+                if (current.getData().compareTo(from) < 0) {
+                    current = current.getRight();
+                } else {
+                    stack.push(current);
+                    current = current.getLeft();
+                }
+            }
+        }
+
+        /**
+         * Pushes node and every node down its leftmost (or, in reverse,
+         * rightmost) path.
+         *
+         * @param node the node to start from, possibly null
+         */
+        private void pushSpine(AVLNode<T> node) {
+            AVLNode<T> current = node;
+            while (current != null) {
+                stack.push(current);
+                current = reverse ? current.getRight() : current.getLeft();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty()
+                && (to == null || stack.peek().getData().compareTo(to) < 0);
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("The iteration has no more "
+                    + "elements");
+            }
+            AVLNode<T> node = stack.pop();
+            pushSpine(reverse ? node.getLeft() : node.getRight());
+            return node.getData();
+        }
+    }
+
+    /**
+     * Walks the tree level by level with a queue of the nodes still to be
+     * returned.
+     */
+    private final class LevelorderIterator implements Iterator<T> {
+        private final Deque<AVLNode<T>> queue = new ArrayDeque<>();
+
+        /**
+         * Creates an iterator positioned before the root.
+         *
+         * @param start the root of the tree to walk
+         */
+        private LevelorderIterator(AVLNode<T> start) {
+            if (start != null) {
+                queue.add(start);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (queue.isEmpty()) {
+                throw new NoSuchElementException("The iteration has no more "
+                    + "elements");
+            }
+            AVLNode<T> node = queue.poll();
+            if (node.getLeft() != null) {
+                queue.add(node.getLeft());
+            }
+            if (node.getRight() != null) {
+                queue.add(node.getRight());
+            }
+            return node.getData();
+        }
+    }
+
+    /**
+     * The result of splitting a subtree at some data.
+     *
+     * @param <T> the type of data in the tree
+     */
+    private static final class Split<T extends Comparable<? super T>> {
+        private AVLNode<T> left;
+        private final AVLNode<T> found;
+        private AVLNode<T> right;
+
+        /**
+         * Creates a split result.
+         *
+         * @param left  the root of the nodes smaller than the data
+         * @param found the detached node holding the data, or null
+         * @param right the root of the nodes larger than the data
+         */
+        private Split(AVLNode<T> left, AVLNode<T> found, AVLNode<T> right) {
+            this.left = left;
+            this.found = found;
+            this.right = right;
+        }
+    }
+
+    /**
+     * Spliterator over the data in [from, to) below a subtree root, where a
+     * null bound means no bound. Traversal uses an InorderIterator created
+     * on the first element.
+     */
+    private final class TreeSpliterator implements Spliterator<T> {
+        private AVLNode<T> node;
+        private T from;
+        private final T to;
+        private long estimate;
+        private Iterator<T> iterator;
+
+        /**
+         * Creates a spliterator over part of a subtree.
+         *
+         * @param node     the root of the subtree holding the range
+         * @param from     the smallest data to return, or null for no bound
+         * @param to       the data to stop before, or null for no bound
+         * @param estimate the estimated number of data in the range
+         */
+        private TreeSpliterator(AVLNode<T> node, T from, T to,
+                                long estimate) {
+            this.node = node;
+            this.from = from;
+            this.to = to;
+            this.estimate = estimate;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException("Action cannot be null.");
+            }
+            if (iterator == null) {
+                iterator = new InorderIterator(node, false, from, to);
+            }
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            action.accept(iterator.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException("Action cannot be null.");
+            }
+            if (iterator == null) {
+                iterator = new InorderIterator(node, false, from, to);
+            }
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (iterator != null) {
+                return null;
+            }
+            AVLNode<T> pivot = node;
+            while (pivot != null) {
+                if (from != null && pivot.getData().compareTo(from) <= 0) {
+                    pivot = pivot.getRight();
+                } else if (to != null && pivot.getData().compareTo(to) >= 0) {
+                    pivot = pivot.getLeft();
+                } else if (from == null && pivot.getLeft() == null) {
+                    // pivot is the smallest in range, so splitting at it
+                    // would give an empty prefix
+                    node = pivot;
+                    from = pivot.getData();
+                    pivot = pivot.getRight();
+                } else {
+                    break;
+                }
+            }
+            if (pivot == null) {
+                return null;
+            }
+            estimate >>>= 1;
+            TreeSpliterator prefix = new TreeSpliterator(node, from,
+                pivot.getData(), estimate);
+            node = pivot;
+            from = pivot.getData();
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SORTED
+                | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return null;
+        }
+    }
+
+    /**
+     * Maps and combines the data of a subtree, forking into the children
+     * while the subtree is larger than SEQUENTIAL_THRESHOLD.
+     *
+     * @param <R> the type of the result
+     */
+    private final class ReduceTask<R> extends RecursiveTask<R> {
+        private static final long serialVersionUID = 1L;
+
+        private final AVLNode<T> node;
+        private final R identity;
+        private final Function<? super T, ? extends R> mapper;
+        private final BinaryOperator<R> combiner;
+
+        /**
+         * Creates a task over a subtree.
+         *
+         * @param node     the root of the subtree, possibly null
+         * @param identity the result for no data
+         * @param mapper   maps one data to a result
+         * @param combiner combines the results of neighbouring runs of data
+         */
+        private ReduceTask(AVLNode<T> node, R identity,
+                           Function<? super T, ? extends R> mapper,
+                           BinaryOperator<R> combiner) {
+            this.node = node;
+            this.identity = identity;
+            this.mapper = mapper;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected R compute() {
+            if (sizeOf(node) <= SEQUENTIAL_THRESHOLD) {
+                R result = identity;
+                Iterator<T> iterator = new InorderIterator(node, false, null,
+                    null);
+                while (iterator.hasNext()) {
+                    result = combiner.apply(result,
+                        mapper.apply(iterator.next()));
+                }
+                return result;
+            }
+            ReduceTask<R> left = new ReduceTask<>(node.getLeft(), identity,
+                mapper, combiner);
+            left.fork();
+            R right = new ReduceTask<>(node.getRight(), identity, mapper,
+                combiner).compute();
+            R middle = combiner.apply(left.join(),
+                mapper.apply(node.getData()));
+            return combiner.apply(middle, right);
+        }
+    }
+
+    /**
+     * Lists the deepest branches of a subtree in preorder, forking where
+     * both children of a node larger than SEQUENTIAL_THRESHOLD are on them.
+     */
+    private final class DeepestBranchesTask extends RecursiveTask<List<T>> {
+        private static final long serialVersionUID = 1L;
+
+        private final AVLNode<T> node;
+
+        /**
+         * Creates a task over a subtree.
+         *
+         * @param node the root of the subtree, possibly null
+         */
+        private DeepestBranchesTask(AVLNode<T> node) {
+            this.node = node;
+        }
+
+        @Override
+        protected List<T> compute() {
+            List<T> output = new ArrayList<>();
+            AVLNode<T> current = node;
+            while (sizeOf(current) > SEQUENTIAL_THRESHOLD) {
+                output.add(current.getData());
+                int leftHeight = current.getLeft().getHeight();
+                int rightHeight = current.getRight().getHeight();
+                if (leftHeight > rightHeight) {
+                    current = current.getLeft();
+                } else if (leftHeight < rightHeight) {
+                    current = current.getRight();
+                } else {
+                    DeepestBranchesTask left =
+                        new DeepestBranchesTask(current.getLeft());
+                    left.fork();
+                    List<T> right =
+                        new DeepestBranchesTask(current.getRight()).compute();
+                    output.addAll(left.join());
+                    output.addAll(right);
+                    return output;
+                }
+            }
+            deepestBranchesHelper(current, output);
+            return output;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for the lazy iterators and the range cursor of AVL.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class AVLIteratorStudentTests {
+    private static final int TIMEOUT = 200;
+    private AVL<Integer> avlTree;
+    private List<Integer> sorted;
+
+    /**
+     * Reads every remaining element of an iterator into a list.
+     *
+     * @param iterator the iterator to drain
+     * @return the elements in the order they were returned
+     */
+    private static List<Integer> drain(Iterator<Integer> iterator) {
+        List<Integer> result = new ArrayList<>();
+        while (iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    @Before
+    public void setup() {
+        sorted = new ArrayList<>();
+        for (int i = 0; i < 1000; i += 2) {
+            sorted.add(i);
+        }
+        List<Integer> shuffled = new ArrayList<>(sorted);
+        Collections.shuffle(shuffled, new Random(1332));
+        avlTree = new AVL<>(shuffled);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIterator() {
+        assertEquals(sorted, drain(avlTree.iterator()));
+        int expected = 0;
+        for (Integer data : avlTree) {
+            assertEquals((Integer) expected, data);
+            expected += 2;
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDescendingIterator() {
+        List<Integer> reversed = new ArrayList<>(sorted);
+        Collections.reverse(reversed);
+        assertEquals(reversed, drain(avlTree.descendingIterator()));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLevelorderIterator() {
+        List<Integer> levels = drain(avlTree.levelorderIterator());
+        assertEquals(avlTree.getRoot().getData(), levels.get(0));
+        List<Integer> copy = new ArrayList<>(levels);
+        Collections.sort(copy);
+        assertEquals(sorted, copy);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRangeMatchesSortedInBetween() {
+        Random random = new Random(1332);
+        for (int i = 0; i < 200; i++) {
+            int low = random.nextInt(1100) - 50;
+            int high = low + random.nextInt(200);
+            // range includes its lower bound; sortedInBetween does not.
+            List<Integer> expected = avlTree.sortedInBetween(low - 1, high);
+            assertEquals(expected, drain(avlTree.range(low, high)));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRangePage() {
+        Iterator<Integer> page = avlTree.range(501, 1000);
+        for (int i = 502; i < 602; i += 2) {
+            assertEquals((Integer) i, page.next());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEmptyTree() {
+        avlTree.clear();
+        assertFalse(avlTree.iterator().hasNext());
+        assertFalse(avlTree.descendingIterator().hasNext());
+        assertFalse(avlTree.levelorderIterator().hasNext());
+        assertFalse(avlTree.range(0, 10).hasNext());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testNextPastEnd() {
+        Iterator<Integer> iterator = avlTree.range(997, 1000);
+        assertEquals((Integer) 998, iterator.next());
+        iterator.next();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testRangeNullBound() {
+        avlTree.range(0, null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testRangeReversedBounds() {
+        avlTree.range(10, 5);
+    }
+}
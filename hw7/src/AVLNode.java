@@ -11,6 +11,7 @@ public class AVLNode<T extends Comparable<? super T>> {
     private AVLNode<T> right;
     private int height;
     private int balanceFactor;
+    private int size;
 
     /**
      * Create an AVL node with the specified data.
@@ -19,6 +20,7 @@ public class AVLNode<T extends Comparable<? super T>> {
      */
     public AVLNode(T data) {
         this.data = data;
+        this.size = 1;
     }
 
     /**
@@ -111,6 +113,24 @@ public class AVLNode<T extends Comparable<? super T>> {
         this.balanceFactor = balanceFactor;
     }
 
+    /**
+     * Get the number of nodes in the subtree rooted at this node.
+     *
+     * @return size of the subtree rooted at this node
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Set the number of nodes in the subtree rooted at this node.
+     *
+     * @param size size of the subtree rooted at this node
+     */
+    public void setSize(int size) {
+        this.size = size;
+    }
+
     /**
      * DO NOT USE EXCEPT FOR DEBUGGING PURPOSES
      */
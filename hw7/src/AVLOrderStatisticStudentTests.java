@@ -0,0 +1,142 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for the subtree sizes of AVL and the select, rank and countBetween
+ * queries built on them.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class AVLOrderStatisticStudentTests {
+    private static final int TIMEOUT = 200;
+    private AVL<Integer> avlTree;
+
+    @Before
+    public void setup() {
+        avlTree = new AVL<>();
+    }
+
+    /**
+     * Checks that every node stores the size of its subtree.
+     *
+     * @param node the root of the subtree to check
+     * @return the actual size of the subtree
+     */
+    private static int checkSizes(AVLNode<Integer> node) {
+        if (node == null) {
+            return 0;
+        }
+        int size = 1 + checkSizes(node.getLeft()) + checkSizes(node.getRight());
+        assertEquals("size of " + node.getData(), size, node.getSize());
+        return size;
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSizesThroughRotations() {
+        /*
+                    5                   4
+                   /                   / \
+                  4         ->        3   5
+                 /
+                3
+         */
+        avlTree.add(5);
+        avlTree.add(4);
+        avlTree.add(3);
+        assertEquals(3, avlTree.getRoot().getSize());
+        assertEquals(1, avlTree.getRoot().getLeft().getSize());
+        assertEquals(1, avlTree.getRoot().getRight().getSize());
+
+        avlTree.add(7);
+        avlTree.add(6);
+        checkSizes(avlTree.getRoot());
+        avlTree.remove(4);
+        checkSizes(avlTree.getRoot());
+        assertEquals(4, avlTree.getRoot().getSize());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSelectAndRank() {
+        avlTree = new AVL<>(Arrays.asList(50, 20, 80, 10, 30, 70, 90, 60));
+        Integer[] sorted = {10, 20, 30, 50, 60, 70, 80, 90};
+        for (int i = 0; i < sorted.length; i++) {
+            assertEquals(sorted[i], avlTree.select(i));
+            assertEquals(i, avlTree.rank(sorted[i]));
+        }
+        assertEquals(0, avlTree.rank(5));
+        assertEquals(3, avlTree.rank(45));
+        assertEquals(8, avlTree.rank(100));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCountBetweenMatchesSortedInBetween() {
+        avlTree = new AVL<>(Arrays.asList(10, 5, 15, 2, 7, 13, 20, 1, 4, 6,
+            8, 14, 17, 25, 0, 9, 30));
+        assertEquals(4, avlTree.countBetween(7, 14));
+        assertEquals(4, avlTree.countBetween(3, 8));
+        assertEquals(0, avlTree.countBetween(8, 8));
+        assertEquals(0, avlTree.countBetween(8, 9));
+        for (int low = -1; low < 32; low++) {
+            for (int high = low; high < 32; high++) {
+                assertEquals(avlTree.sortedInBetween(low, high).size(),
+                    avlTree.countBetween(low, high));
+            }
+        }
+    }
+
+    @Test(timeout = 2000)
+    public void testRandomOperations() {
+        Random random = new Random(1332);
+        TreeSet<Integer> reference = new TreeSet<>();
+        for (int op = 0; op < 3000; op++) {
+            Integer key = random.nextInt(400);
+            if (random.nextInt(3) < 2) {
+                avlTree.add(key);
+                reference.add(key);
+            } else if (reference.remove(key)) {
+                avlTree.remove(key);
+            }
+            if (op % 100 == 0) {
+                assertEquals(reference.size(), checkSizes(avlTree.getRoot()));
+            }
+        }
+        List<Integer> sorted = new ArrayList<>(reference);
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(sorted.get(i), avlTree.select(i));
+        }
+        for (int key = -1; key <= 400; key++) {
+            assertEquals(reference.headSet(key).size(), avlTree.rank(key));
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testSelectOutOfBounds() {
+        avlTree.add(1);
+        avlTree.select(1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testSelectNegative() {
+        avlTree.add(1);
+        avlTree.select(-1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testRankNull() {
+        avlTree.rank(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testCountBetweenReversedBounds() {
+        avlTree.countBetween(5, 4);
+    }
+}
@@ -0,0 +1,143 @@
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the spliterator, streams and parallel operations of AVL.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class AVLParallelStudentTests {
+    private static final int TIMEOUT = 200;
+    private static final int LONG_TIMEOUT = 5000;
+
+    // Built once, outside the timed tests, and never modified by them.
+    private static AVL<Integer> mediumTree;
+    private static AVL<Integer> largeTree;
+    private static AVL<Integer> perfectTree;
+
+    /**
+     * Builds the large trees shared by the tests.
+     */
+    @BeforeClass
+    public static void setUpTrees() {
+        mediumTree = randomTree(20000);
+        largeTree = randomTree(50000);
+        perfectTree = new AVL<>();
+        for (int i = 0; i < 32767; i++) {
+            perfectTree.add(i);
+        }
+    }
+
+    /**
+     * Builds a tree of count random data.
+     *
+     * @param count the number of draws
+     * @return the tree
+     */
+    private static AVL<Integer> randomTree(int count) {
+        Random random = new Random(1332);
+        AVL<Integer> tree = new AVL<>();
+        for (int i = 0; i < count; i++) {
+            tree.add(random.nextInt(4 * count));
+        }
+        return tree;
+    }
+
+    /**
+     * Lists the data of a tree in order.
+     *
+     * @param tree the tree to list
+     * @return the data from smallest to largest
+     */
+    private static List<Integer> inorder(AVL<Integer> tree) {
+        List<Integer> result = new ArrayList<>();
+        for (Integer data : tree) {
+            result.add(data);
+        }
+        return result;
+    }
+
+    /**
+     * Splits the spliterator as far as it goes and appends the data of the
+     * pieces in order.
+     *
+     * @param spliterator the spliterator to take apart
+     * @param output      the list to add the data to
+     * @return the number of pieces
+     */
+    private static int drain(Spliterator<Integer> spliterator,
+                             List<Integer> output) {
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        if (prefix == null) {
+            spliterator.forEachRemaining(output::add);
+            return 1;
+        }
+        return drain(prefix, output) + drain(spliterator, output);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSpliterator() {
+        AVL<Integer> tree = randomTree(1000);
+        Spliterator<Integer> spliterator = tree.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SORTED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+        assertNull(spliterator.getComparator());
+        assertEquals(tree.size(), spliterator.estimateSize());
+
+        List<Integer> output = new ArrayList<>();
+        assertEquals(tree.size(), drain(spliterator, output));
+        assertEquals(inorder(tree), output);
+    }
+
+    @Test(timeout = LONG_TIMEOUT)
+    public void testStreams() {
+        AVL<Integer> tree = mediumTree;
+        List<Integer> expected = inorder(tree);
+        assertEquals(expected,
+            tree.parallelStream().collect(Collectors.toList()));
+        assertEquals(expected.stream().mapToLong(Integer::longValue).sum(),
+            tree.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(expected, tree.stream().collect(Collectors.toList()));
+    }
+
+    @Test(timeout = LONG_TIMEOUT)
+    public void testParallelReduce() {
+        AVL<Integer> tree = largeTree;
+        long sum = 0;
+        long odd = 0;
+        for (Integer data : tree) {
+            sum += data;
+            odd += data % 2;
+        }
+        assertEquals(Long.valueOf(sum),
+            tree.parallelReduce(0L, Integer::longValue, Long::sum));
+        assertEquals(Long.valueOf(odd), tree.parallelReduce(0L,
+            data -> data % 2 == 1 ? 1L : 0L, Long::sum));
+        assertEquals(Integer.valueOf(0), new AVL<Integer>()
+            .parallelReduce(0, data -> 1, Integer::sum));
+    }
+
+    @Test(timeout = LONG_TIMEOUT)
+    public void testParallelDeepestBranches() {
+        assertTrue(new AVL<Integer>().parallelDeepestBranches().isEmpty());
+
+        // a perfect tree: every branch is deepest
+        assertEquals(perfectTree.deepestBranches(),
+            perfectTree.parallelDeepestBranches());
+        assertEquals(32767, perfectTree.parallelDeepestBranches().size());
+
+        assertEquals(largeTree.deepestBranches(),
+            largeTree.parallelDeepestBranches());
+    }
+}
@@ -0,0 +1,213 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for split, join, union, intersection and difference in AVL.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class AVLSetOperationStudentTests {
+    private static final int TIMEOUT = 200;
+
+    /**
+     * Builds a tree holding the given data.
+     *
+     * @param data the data to add
+     * @return the tree
+     */
+    private static AVL<Integer> treeOf(Iterable<Integer> data) {
+        AVL<Integer> tree = new AVL<>();
+        for (Integer item : data) {
+            tree.add(item);
+        }
+        return tree;
+    }
+
+    /**
+     * Builds a set of count random data below bound.
+     *
+     * @param random the source of the data
+     * @param count  the number of draws
+     * @param bound  the upper bound on the data
+     * @return the set
+     */
+    private static TreeSet<Integer> randomSet(Random random, int count,
+                                              int bound) {
+        TreeSet<Integer> set = new TreeSet<>();
+        for (int i = 0; i < count; i++) {
+            set.add(random.nextInt(bound));
+        }
+        return set;
+    }
+
+    /**
+     * Checks heights, balance factors, sizes and order below node.
+     *
+     * @param node the root of the subtree
+     * @return the height of node
+     */
+    private static int checkAVL(AVLNode<Integer> node) {
+        if (node == null) {
+            return -1;
+        }
+        int left = checkAVL(node.getLeft());
+        int right = checkAVL(node.getRight());
+        assertTrue(node.getLeft() == null
+            || node.getLeft().getData() < node.getData());
+        assertTrue(node.getRight() == null
+            || node.getRight().getData() > node.getData());
+        assertTrue("unbalanced at " + node, Math.abs(left - right) <= 1);
+        assertEquals(1 + Math.max(left, right), node.getHeight());
+        assertEquals(left - right, node.getBalanceFactor());
+        int size = 1 + (node.getLeft() == null ? 0 : node.getLeft().getSize())
+            + (node.getRight() == null ? 0 : node.getRight().getSize());
+        assertEquals(size, node.getSize());
+        return node.getHeight();
+    }
+
+    /**
+     * Checks that the tree is a valid AVL holding exactly expected.
+     *
+     * @param expected the data the tree should hold
+     * @param tree     the tree to check
+     */
+    private static void assertTree(TreeSet<Integer> expected,
+                                   AVL<Integer> tree) {
+        checkAVL(tree.getRoot());
+        List<Integer> actual = new ArrayList<>();
+        for (Integer data : tree) {
+            actual.add(data);
+        }
+        assertEquals(new ArrayList<>(expected), actual);
+        assertEquals(expected.size(), tree.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testJoinTreesOfDifferentHeights() {
+        TreeSet<Integer> small = new TreeSet<>();
+        TreeSet<Integer> large = new TreeSet<>();
+        for (int i = 0; i < 3; i++) {
+            small.add(i);
+        }
+        for (int i = 100; i < 1100; i++) {
+            large.add(i);
+        }
+        AVL<Integer> left = treeOf(small);
+        AVL<Integer> right = treeOf(large);
+        AVL<Integer> joined = AVL.join(left, 50, right);
+        TreeSet<Integer> expected = new TreeSet<>(small);
+        expected.add(50);
+        expected.addAll(large);
+        assertTree(expected, joined);
+        assertEquals(0, left.size());
+        assertEquals(0, right.size());
+
+        joined = AVL.join(treeOf(large), 5000, new AVL<>());
+        expected = new TreeSet<>(large);
+        expected.add(5000);
+        assertTree(expected, joined);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testJoinOutOfOrder() {
+        AVL<Integer> left = treeOf(Arrays.asList(1, 2, 3));
+        AVL.join(left, 2, new AVL<>());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSplit() {
+        Random random = new Random(1332);
+        TreeSet<Integer> data = randomSet(random, 500, 1000);
+        for (int at : new int[] {-1, 0, 250, 500, 999, 1000}) {
+            AVL<Integer> lower = treeOf(data);
+            AVL<Integer> upper = lower.split(at);
+            assertTree(new TreeSet<>(data.headSet(at, false)), lower);
+            assertTree(new TreeSet<>(data.tailSet(at, true)), upper);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSplitKeepsStoredData() {
+        Integer stored = new Integer(1332);
+        AVL<Integer> tree = new AVL<>();
+        tree.add(stored);
+        tree.add(1);
+        AVL<Integer> upper = tree.split(new Integer(1332));
+        assertSame(stored, upper.get(1332));
+        assertEquals(1, tree.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSetOperationsMatchTreeSet() {
+        Random random = new Random(1332);
+        int[][] sizes = {{0, 100}, {100, 0}, {1000, 10}, {10, 1000},
+            {800, 800}};
+        for (int[] size : sizes) {
+            TreeSet<Integer> a = randomSet(random, size[0], 2000);
+            TreeSet<Integer> b = randomSet(random, size[1], 2000);
+
+            AVL<Integer> tree = treeOf(a);
+            AVL<Integer> other = treeOf(b);
+            tree.union(other);
+            TreeSet<Integer> expected = new TreeSet<>(a);
+            expected.addAll(b);
+            assertTree(expected, tree);
+            assertEquals(0, other.size());
+
+            tree = treeOf(a);
+            tree.intersection(treeOf(b));
+            expected = new TreeSet<>(a);
+            expected.retainAll(b);
+            assertTree(expected, tree);
+
+            tree = treeOf(a);
+            tree.difference(treeOf(b));
+            expected = new TreeSet<>(a);
+            expected.removeAll(b);
+            assertTree(expected, tree);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testUnionKeepsThisTreesData() {
+        Integer stored = new Integer(1332);
+        AVL<Integer> tree = new AVL<>();
+        tree.add(stored);
+        AVL<Integer> other = new AVL<>();
+        other.add(new Integer(1332));
+        other.add(7);
+        tree.union(other);
+        assertSame(stored, tree.get(1332));
+        assertEquals(2, tree.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOperationsWithItself() {
+        TreeSet<Integer> data = new TreeSet<>();
+        for (int i = 0; i < 20; i++) {
+            data.add(i);
+        }
+        AVL<Integer> tree = treeOf(data);
+        tree.union(tree);
+        assertTree(data, tree);
+        tree.intersection(tree);
+        assertTree(data, tree);
+        tree.difference(tree);
+        assertTree(new TreeSet<>(), tree);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testUnionNull() {
+        new AVL<Integer>().union(null);
+    }
+}
@@ -0,0 +1,726 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An in-memory B+-tree, a sibling of BST and AVL with the same core API.
+ *
+ * Every node holds up to order - 1 keys in one array, so a lookup reads a
+ * few contiguous arrays instead of one scattered node per comparison, and
+ * the tree is only about log(n) / log(order / 2) levels deep. Internal
+ * nodes hold separator keys and up to order children; all the data lives in
+ * the leaves, which are linked left to right so that in-order walks and
+ * range scans move along the leaf level without going back up the tree.
+ *
+ * Child i of an internal node holds the data smaller than separator i, and
+ * child i + 1 the data greater than or equal to it. Every node but the root
+ * keeps at least ceil(order / 2) - 1 keys: a full node is split in two on
+ * add, and a node that falls below the minimum on remove borrows a key from
+ * a sibling or is merged with one.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class BPlusTree<T extends Comparable<? super T>>
+    implements Iterable<T> {
+
+    /**
+     * The order used by the no-argument constructor.
+     */
+    public static final int DEFAULT_ORDER = 64;
+
+    /**
+     * The smallest order allowed, so that every node keeps at least one key.
+     */
+    public static final int MIN_ORDER = 4;
+
+    private final int order;
+    private final int minKeys;
+    private Node<T> root;
+    private int size;
+    private int height;
+
+    /**
+     * Constructs a new, empty BPlusTree of the default order.
+     */
+    public BPlusTree() {
+        this(DEFAULT_ORDER);
+    }
+
+    /**
+     * Constructs a new, empty BPlusTree of the given order.
+     *
+     * @param order the largest number of children of an internal node, one
+     *              more than the largest number of keys in any node
+     * @throws java.lang.IllegalArgumentException if order < MIN_ORDER
+     */
+    public BPlusTree(int order) {
+        if (order < MIN_ORDER) {
+            throw new IllegalArgumentException("Order must be at least "
+                + MIN_ORDER + " but was " + order + ".");
+        }
+        this.order = order;
+        this.minKeys = (order + 1) / 2 - 1;
+        clear();
+    }
+
+    /**
+     * Initializes a tree of the default order with the data in the
+     * Collection, added in the order it appears in the Collection.
+     *
+     * @param data the data to add to the tree
+     * @throws IllegalArgumentException if data or any element in data is null
+     */
+    public BPlusTree(Collection<T> data) {
+        this(DEFAULT_ORDER);
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot create a tree from a "
+                + "null collection");
+        }
+        for (T item : data) {
+            if (item == null) {
+                throw new IllegalArgumentException("Cannot add null data "
+                    + "from the collection to the tree");
+            }
+            add(item);
+        }
+    }
+
+    /**
+     * Adds the data to its leaf, splitting full nodes on the way back up.
+     * If the data is already in the tree nothing is done.
+     * <p>
+     * Should run in O(order * log n).
+     *
+     * @param data the data to be added
+     * @throws java.lang.IllegalArgumentException if the data is null
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data you are "
+                + "trying to add is null");
+        }
+        Split<T> split = insert(root, data);
+        if (split != null) {
+            Node<T> newRoot = new Node<>(order, false);
+            newRoot.keys[0] = split.key;
+            newRoot.children[0] = root;
+            newRoot.children[1] = split.right;
+            newRoot.count = 1;
+            root = newRoot;
+            height++;
+        }
+    }
+
+    /**
+     * Removes the data from its leaf, borrowing from or merging with
+     * siblings on the way back up to keep every node at least half full.
+     * <p>
+     * Should run in O(order * log n).
+     *
+     * @param data the data to remove from the tree
+     * @return the data removed from the tree, which is the data that was
+     * stored in the tree rather than the parameter
+     * @throws IllegalArgumentException         if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     */
+    public T remove(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data you are "
+                + "trying to remove is null");
+        }
+        T removed = delete(root, data);
+        if (removed == null) {
+            throw new NoSuchElementException("Element "
+                + "in tree not found");
+        }
+        size--;
+        if (!root.isLeaf() && root.count == 0) {
+            root = root.children[0];
+            height--;
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the data in the tree equal to the given data.
+     * <p>
+     * Should run in O(log n).
+     *
+     * @param data the data to search for in the tree
+     * @return the data stored in the tree equal to the parameter
+     * @throws IllegalArgumentException         if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     */
+    public T get(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Null data cannot be "
+                + "searched for in the tree");
+        }
+        Node<T> leaf = findLeaf(data);
+        int index = leaf.search(data);
+        if (index < 0) {
+            throw new NoSuchElementException("Data could not be found");
+        }
+        return leaf.key(index);
+    }
+
+    /**
+     * Returns whether data equal to the given data is in the tree.
+     * <p>
+     * Should run in O(log n).
+     *
+     * @param data the data to search for in the tree
+     * @return whether the data is in the tree
+     * @throws IllegalArgumentException if the data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Null data cannot be "
+                + "searched for in the tree");
+        }
+        return findLeaf(data).search(data) >= 0;
+    }
+
+    /**
+     * Lists the data in order by walking the linked leaves.
+     * <p>
+     * Should run in O(n).
+     *
+     * @return an inorder traversal of the tree
+     */
+    public List<T> inorder() {
+        List<T> result = new ArrayList<>(size);
+        for (Node<T> leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                result.add(leaf.key(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a lazy iterator over the data in order, walking the linked
+     * leaves.
+     * <p>
+     * The tree must not be changed while the iterator is in use.
+     *
+     * @return an iterator over the data from smallest to largest
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LeafIterator(firstLeaf(), 0, null);
+    }
+
+    /**
+     * Returns a lazy iterator over the data that is {@code >= from} and
+     * {@code < to}, from smallest to largest. The iterator descends once to
+     * the leaf holding from and then reads along the leaf level, so reading
+     * k elements costs O(log n + k).
+     * <p>
+     * The tree must not be changed while the iterator is in use.
+     *
+     * @param from the smallest data to include
+     * @param to   the data to stop before
+     * @return an iterator over the data in [from, to)
+     * @throws IllegalArgumentException if from or to is null, or if
+     *                                  from > to
+     */
+    public Iterator<T> range(T from, T to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Cannot iterate over a range "
+                + "with a null bound");
+        }
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("The lower bound of the range "
+                + "is larger than the upper bound");
+        }
+        Node<T> leaf = findLeaf(from);
+        int index = leaf.search(from);
+        return new LeafIterator(leaf, index < 0 ? -index - 1 : index, to);
+    }
+
+    /**
+     * Clears the tree.
+     * <p>
+     * Should run in O(1).
+     */
+    public void clear() {
+        root = new Node<>(order, true);
+        size = 0;
+        height = 0;
+    }
+
+    /**
+     * Returns the height of the root of the tree: the number of levels
+     * below the root, which is the same for every leaf.
+     * <p>
+     * Should run in O(1).
+     *
+     * @return the height of the root of the tree, -1 if the tree is empty
+     */
+    public int height() {
+        return size == 0 ? -1 : height;
+    }
+
+    /**
+     * Returns the number of data in the tree.
+     *
+     * @return number of items in the tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the order of the tree.
+     *
+     * @return the largest number of children of an internal node
+     */
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * Walks from the root to the leaf where data is or would be.
+     *
+     * @param data the data to look for
+     * @return the leaf covering data
+     */
+    private Node<T> findLeaf(T data) {
+        Node<T> node = root;
+        while (!node.isLeaf()) {
+            node = node.children[node.childIndex(data)];
+        }
+        return node;
+    }
+
+    /**
+     * Returns the leftmost leaf.
+     *
+     * @return the leaf holding the smallest data
+     */
+    private Node<T> firstLeaf() {
+        Node<T> node = root;
+        while (!node.isLeaf()) {
+            node = node.children[0];
+        }
+        return node;
+    }
+
+    /**
+     * Private helper method for add. Adds data to the subtree rooted at
+     * node, splitting node if it overflows.
+     *
+     * @param node the root of the subtree
+     * @param data the data to add
+     * @return the new right sibling of node and the key separating them if
+     * node was split, otherwise null
+     */
+    private Split<T> insert(Node<T> node, T data) {
+        if (node.isLeaf()) {
+            int index = node.search(data);
+            if (index >= 0) {
+                return null;
+            }
+            node.insertKey(-index - 1, data);
+            size++;
+            return node.count == order ? splitLeaf(node) : null;
+        }
+        int child = node.childIndex(data);
+        Split<T> split = insert(node.children[child], data);
+        if (split == null) {
+            return null;
+        }
+        node.insertKey(child, split.key);
+        node.insertChild(child + 1, split.right);
+        return node.count == order ? splitInternal(node) : null;
+    }
+
+    /**
+     * Moves the upper half of an overflowing leaf into a new leaf linked
+     * after it.
+     *
+     * @param leaf the leaf holding order keys
+     * @return the new leaf and its first key
+     */
+    private Split<T> splitLeaf(Node<T> leaf) {
+        Node<T> right = new Node<>(order, true);
+        int keep = leaf.count / 2;
+        right.count = leaf.count - keep;
+        System.arraycopy(leaf.keys, keep, right.keys, 0, right.count);
+        clearKeys(leaf, keep, leaf.count);
+        leaf.count = keep;
+        right.next = leaf.next;
+        leaf.next = right;
+        return new Split<>(right.key(0), right);
+    }
+
+    /**
+     * Moves the keys and children above the middle key of an overflowing
+     * internal node into a new node, and passes the middle key up.
+     *
+     * @param node the internal node holding order keys
+     * @return the new node and the middle key
+     */
+    private Split<T> splitInternal(Node<T> node) {
+        Node<T> right = new Node<>(order, false);
+        int middle = node.count / 2;
+        T promoted = node.key(middle);
+        right.count = node.count - middle - 1;
+        System.arraycopy(node.keys, middle + 1, right.keys, 0, right.count);
+        System.arraycopy(node.children, middle + 1, right.children, 0,
+            right.count + 1);
+        clearKeys(node, middle, node.count);
+        for (int i = middle + 1; i <= node.count; i++) {
+            node.children[i] = null;
+        }
+        node.count = middle;
+        return new Split<>(promoted, right);
+    }
+
+    /**
+     * Private helper method for remove. Removes data from the subtree rooted
+     * at node and repairs any child left below the minimum.
+     *
+     * @param node the root of the subtree
+     * @param data the data to remove
+     * @return the data that was stored in the tree, or null if it was not
+     * found
+     */
+    private T delete(Node<T> node, T data) {
+        if (node.isLeaf()) {
+            int index = node.search(data);
+            if (index < 0) {
+                return null;
+            }
+            T removed = node.key(index);
+            node.removeKey(index);
+            return removed;
+        }
+        int child = node.childIndex(data);
+        T removed = delete(node.children[child], data);
+        if (removed != null && node.children[child].count < minKeys) {
+            rebalanceChild(node, child);
+        }
+        return removed;
+    }
+
+    /**
+     * Brings a child that has fallen below the minimum back up to it, by
+     * borrowing a key from a sibling that can spare one or else merging
+     * with a sibling.
+     *
+     * @param parent the parent of the child
+     * @param child  the index of the child in parent
+     */
+    private void rebalanceChild(Node<T> parent, int child) {
+        Node<T> node = parent.children[child];
+        Node<T> left = child > 0 ? parent.children[child - 1] : null;
+        Node<T> right = child < parent.count ? parent.children[child + 1]
+            : null;
+        if (left != null && left.count > minKeys) {
+            borrowFromLeft(parent, child, left, node);
+        } else if (right != null && right.count > minKeys) {
+            borrowFromRight(parent, child, node, right);
+        } else if (left != null) {
+            merge(parent, child - 1, left, node);
+        } else {
+            merge(parent, child, node, right);
+        }
+    }
+
+    /**
+     * Moves the last key of left into node, its right-hand sibling.
+     *
+     * @param parent the parent of both nodes
+     * @param child  the index of node in parent
+     * @param left   the sibling to take from
+     * @param node   the node below the minimum
+     */
+    private void borrowFromLeft(Node<T> parent, int child, Node<T> left,
+                                Node<T> node) {
+        if (node.isLeaf()) {
+            node.insertKey(0, left.key(left.count - 1));
+            left.removeKey(left.count - 1);
+            parent.keys[child - 1] = node.keys[0];
+        } else {
+            node.insertKey(0, parent.key(child - 1));
+            node.insertChild(0, left.children[left.count]);
+            parent.keys[child - 1] = left.keys[left.count - 1];
+            left.children[left.count] = null;
+            left.removeKey(left.count - 1);
+        }
+    }
+
+    /**
+     * Moves the first key of right into node, its left-hand sibling.
+     *
+     * @param parent the parent of both nodes
+     * @param child  the index of node in parent
+     * @param node   the node below the minimum
+     * @param right  the sibling to take from
+     */
+    private void borrowFromRight(Node<T> parent, int child, Node<T> node,
+                                 Node<T> right) {
+        if (node.isLeaf()) {
+            node.insertKey(node.count, right.key(0));
+            right.removeKey(0);
+            parent.keys[child] = right.keys[0];
+        } else {
+            node.insertKey(node.count, parent.key(child));
+            node.insertChild(node.count, right.children[0]);
+            parent.keys[child] = right.keys[0];
+            right.removeChild(0);
+            right.removeKey(0);
+        }
+    }
+
+    /**
+     * Appends right, and for internal nodes the separator above it, to left
+     * and unlinks right from parent.
+     *
+     * @param parent the parent of both nodes
+     * @param index  the index of left in parent
+     * @param left   the node that absorbs right
+     * @param right  the node that disappears
+     */
+    private void merge(Node<T> parent, int index, Node<T> left,
+                       Node<T> right) {
+        if (left.isLeaf()) {
+            left.next = right.next;
+        } else {
+            left.keys[left.count++] = parent.keys[index];
+            System.arraycopy(right.children, 0, left.children, left.count,
+                right.count + 1);
+        }
+        System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+        left.count += right.count;
+        parent.removeChild(index + 1);
+        parent.removeKey(index);
+    }
+
+    /**
+     * Nulls out keys[from, to) of node so the array does not keep old data
+     * reachable.
+     *
+     * @param node the node to clear
+     * @param from the first index to clear
+     * @param to   the index to stop before
+     */
+    private void clearKeys(Node<T> node, int from, int to) {
+        for (int i = from; i < to; i++) {
+            node.keys[i] = null;
+        }
+    }
+
+    /**
+     * A leaf or internal node. The arrays have room for one key and one
+     * child more than a node may keep, so a node can overflow by one before
+     * it is split.
+     *
+     * @param <T> the type of data in the tree
+     */
+    private static final class Node<T extends Comparable<? super T>> {
+        private final Object[] keys;
+        private final Node<T>[] children;
+        private int count;
+        private Node<T> next;
+
+        /**
+         * Creates an empty node.
+         *
+         * @param order the order of the tree
+         * @param leaf  true for a leaf, false for an internal node
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Node(int order, boolean leaf) {
+            keys = new Object[order];
+            children = leaf ? null : (Node<T>[]) new Node[order + 1];
+        }
+
+        /**
+         * Returns whether this node is a leaf.
+         *
+         * @return true if the node has no children array
+         */
+        private boolean isLeaf() {
+            return children == null;
+        }
+
+        /**
+         * Returns the key at the given index.
+         *
+         * @param index the index of the key
+         * @return the key
+         */
+        @SuppressWarnings("unchecked")
+        private T key(int index) {
+            return (T) keys[index];
+        }
+
+        /**
+         * Binary searches the keys of this node.
+         *
+         * @param data the data to look for
+         * @return the index of data if it is a key, otherwise
+         * (-(insertion point) - 1)
+         */
+        private int search(T data) {
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int compare = key(middle).compareTo(data);
+                if (compare < 0) {
+                    low = middle + 1;
+                } else if (compare > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -low - 1;
+        }
+
+        /**
+         * Returns the index of the child of this internal node that covers
+         * data: the number of separators less than or equal to data.
+         *
+         * @param data the data to look for
+         * @return the index of the child to descend into
+         */
+        private int childIndex(T data) {
+            int index = search(data);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+        /**
+         * Inserts a key at the given index, shifting later keys right.
+         *
+         * @param index the index for the new key
+         * @param data  the key
+         */
+        private void insertKey(int index, T data) {
+            System.arraycopy(keys, index, keys, index + 1, count - index);
+            keys[index] = data;
+            count++;
+        }
+
+        /**
+         * Removes the key at the given index, shifting later keys left.
+         *
+         * @param index the index of the key to remove
+         */
+        private void removeKey(int index) {
+            count--;
+            System.arraycopy(keys, index + 1, keys, index, count - index);
+            keys[count] = null;
+        }
+
+        /**
+         * Inserts a child at the given index, shifting later children
+         * right. Must be called after the matching insertKey, when count
+         * already includes the new key.
+         *
+         * @param index the index for the new child
+         * @param child the child
+         */
+        private void insertChild(int index, Node<T> child) {
+            System.arraycopy(children, index, children, index + 1,
+                count - index);
+            children[index] = child;
+        }
+
+        /**
+         * Removes the child at the given index, shifting later children
+         * left. Must be called before the matching removeKey, while count
+         * still includes the key.
+         *
+         * @param index the index of the child to remove
+         */
+        private void removeChild(int index) {
+            System.arraycopy(children, index + 1, children, index,
+                count - index);
+            children[count] = null;
+        }
+    }
+
+    /**
+     * The result of splitting a node: the new right-hand node and the key
+     * that separates it from the node it came from.
+     *
+     * @param <T> the type of data in the tree
+     */
+    private static final class Split<T extends Comparable<? super T>> {
+        private final T key;
+        private final Node<T> right;
+
+        /**
+         * Creates a split result.
+         *
+         * @param key   the separating key
+         * @param right the new right-hand node
+         */
+        private Split(T key, Node<T> right) {
+            this.key = key;
+            this.right = right;
+        }
+    }
+
+    /**
+     * Reads keys along the leaf level, starting at a position in one leaf
+     * and stopping before an optional upper bound.
+     */
+    private final class LeafIterator implements Iterator<T> {
+        private Node<T> leaf;
+        private int index;
+        private final T to;
+
+        /**
+         * Creates an iterator positioned before the given key.
+         *
+         * @param leaf  the leaf to start in
+         * @param index the index of the first key to return
+         * @param to    the data to stop before, or null for no bound
+         */
+        private LeafIterator(Node<T> leaf, int index, T to) {
+            this.leaf = leaf;
+            this.index = index;
+            this.to = to;
+            skipExhaustedLeaves();
+        }
+
+        /**
+         * Moves past the end of the current leaf, and any empty leaves,
+         * onto the first key of the next non-empty one.
+         */
+        private void skipExhaustedLeaves() {
+            while (leaf != null && index >= leaf.count) {
+                leaf = leaf.next;
+                index = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null
+                && (to == null || leaf.key(index).compareTo(to) < 0);
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("The iteration has no more "
+                    + "elements");
+            }
+            T data = leaf.key(index++);
+            skipExhaustedLeaves();
+            return data;
+        }
+    }
+}
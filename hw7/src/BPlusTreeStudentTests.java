@@ -0,0 +1,180 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for BPlusTree, mostly with small orders so that splits, borrows and
+ * merges happen often.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class BPlusTreeStudentTests {
+    private static final int TIMEOUT = 200;
+
+    /**
+     * Reads every remaining element of an iterator into a list.
+     *
+     * @param iterator the iterator to drain
+     * @return the elements in the order they were returned
+     */
+    private static List<Integer> drain(Iterator<Integer> iterator) {
+        List<Integer> result = new ArrayList<>();
+        while (iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the largest height a B+-tree of the given order can have
+     * with n keys: every non-root node has at least ceil(order / 2)
+     * children.
+     *
+     * @param order the order of the tree
+     * @param n     the number of keys
+     * @return the height bound
+     */
+    private static int maxHeight(int order, int n) {
+        int minChildren = (order + 1) / 2;
+        int height = 0;
+        long leaves = (n + minChildren - 2) / (minChildren - 1);
+        while (leaves > 2) {
+            leaves = (leaves + minChildren - 1) / minChildren;
+            height++;
+        }
+        return height + 1;
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSplitsIntoTwoLevels() {
+        BPlusTree<Integer> tree = new BPlusTree<>(4);
+        tree.add(1);
+        tree.add(2);
+        tree.add(3);
+        assertEquals(0, tree.height());
+        // The fourth key overflows the root leaf.
+        tree.add(4);
+        assertEquals(1, tree.height());
+        assertEquals(Arrays.asList(1, 2, 3, 4), tree.inorder());
+        assertEquals(4, tree.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEmptyTree() {
+        BPlusTree<Integer> tree = new BPlusTree<>();
+        assertEquals(-1, tree.height());
+        assertEquals(0, tree.size());
+        assertFalse(tree.contains(1));
+        assertFalse(tree.iterator().hasNext());
+        assertFalse(tree.range(0, 10).hasNext());
+        assertEquals(new ArrayList<Integer>(), tree.inorder());
+    }
+
+    @Test(timeout = 2000)
+    public void testRandomOperationsSmallOrders() {
+        for (int order = BPlusTree.MIN_ORDER; order <= 9; order++) {
+            Random random = new Random(1332 + order);
+            BPlusTree<Integer> tree = new BPlusTree<>(order);
+            TreeSet<Integer> reference = new TreeSet<>();
+            for (int op = 0; op < 4000; op++) {
+                Integer key = random.nextInt(600);
+                if (random.nextInt(5) < 3) {
+                    tree.add(key);
+                    reference.add(key);
+                } else if (reference.remove(key)) {
+                    assertEquals(key, tree.remove(key));
+                } else {
+                    assertFalse(tree.contains(key));
+                }
+                if (op % 200 == 0) {
+                    assertEquals(new ArrayList<>(reference), tree.inorder());
+                }
+            }
+            assertEquals(reference.size(), tree.size());
+            assertEquals(new ArrayList<>(reference), drain(tree.iterator()));
+            assertTrue(tree.height() <= maxHeight(order, tree.size()));
+            for (int low = 0; low < 600; low += 53) {
+                int high = low + 80;
+                assertEquals(new ArrayList<>(reference.subSet(low, high)),
+                    drain(tree.range(low, high)));
+            }
+        }
+    }
+
+    @Test(timeout = 2000)
+    public void testDrainToEmptyAndRefill() {
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            keys.add(i);
+        }
+        BPlusTree<Integer> tree = new BPlusTree<>(5);
+        for (Integer key : keys) {
+            tree.add(key);
+        }
+        Collections.shuffle(keys, new Random(1332));
+        for (Integer key : keys) {
+            tree.remove(key);
+        }
+        assertEquals(0, tree.size());
+        assertEquals(-1, tree.height());
+        assertEquals(new ArrayList<Integer>(), tree.inorder());
+        for (Integer key : keys) {
+            tree.add(key);
+        }
+        assertEquals(2000, tree.size());
+        assertEquals((Integer) 0, tree.iterator().next());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGetAndRemoveReturnStoredData() {
+        String stored = new String("b+");
+        BPlusTree<String> tree = new BPlusTree<>(Arrays.asList("a", stored,
+            "c"));
+        assertSame(stored, tree.get(new String("b+")));
+        assertSame(stored, tree.remove(new String("b+")));
+        assertEquals(Arrays.asList("a", "c"), tree.inorder());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddDuplicate() {
+        BPlusTree<Integer> tree = new BPlusTree<>(4);
+        for (int i = 0; i < 10; i++) {
+            tree.add(i % 5);
+        }
+        assertEquals(5, tree.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveMissing() {
+        BPlusTree<Integer> tree = new BPlusTree<>(Arrays.asList(1, 2, 3));
+        tree.remove(4);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testGetMissing() {
+        new BPlusTree<Integer>().get(4);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testOrderTooSmall() {
+        new BPlusTree<Integer>(BPlusTree.MIN_ORDER - 1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        new BPlusTree<Integer>().add(null);
+    }
+}
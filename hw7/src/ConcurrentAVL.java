@@ -0,0 +1,264 @@
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An AVL tree for many reader threads and few writers, in which readers
+ * never block.
+ *
+ * The current contents are a PersistentAVL held in a volatile field. An
+ * update builds the next version, which shares every subtree off the
+ * changed path with the current one, and publishes it with a single
+ * volatile write. A reader reads the field once and walks that version,
+ * which no writer will ever change, so reads take no locks, never retry
+ * and always see a consistent tree even while a write is under way.
+ * Writers are serialized by a lock, and each one allocates O(log n) new
+ * nodes. The same versions serve as O(1) snapshots.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class ConcurrentAVL<T extends Comparable<? super T>>
+    implements Iterable<T> {
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile PersistentAVL<T> tree = new PersistentAVL<>();
+
+    /**
+     * Constructs a new, empty ConcurrentAVL.
+     */
+    public ConcurrentAVL() {
+        // Nothing to initialize.
+    }
+
+    /**
+     * Initializes the tree with the data in the Collection, added in the
+     * order it appears in the Collection.
+     *
+     * @param data the data to add to the tree
+     * @throws IllegalArgumentException if data or any element in data is null
+     */
+    public ConcurrentAVL(Collection<T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot create a tree from a "
+                + "null collection");
+        }
+        for (T item : data) {
+            if (item == null) {
+                throw new IllegalArgumentException("Cannot add null data "
+                    + "from the collection to the tree");
+            }
+            add(item);
+        }
+    }
+
+    /**
+     * Adds the data to the tree, rotating copies of the nodes on its path as
+     * needed. If the data is already in the tree nothing changes.
+     * <p>
+     * Should run in O(log n). Concurrent readers are not blocked.
+     *
+     * @param data the data to be added
+     * @throws java.lang.IllegalArgumentException if the data is null
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("You can't put null data in "
+                + "the AVL tree");
+        }
+        writeLock.lock();
+        try {
+            tree = tree.add(data);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the data from the tree and returns the data that was stored
+     * in it.
+     * <p>
+     * Should run in O(log n). Concurrent readers are not blocked.
+     *
+     * @param data the data to remove from the tree
+     * @return the data removed from the tree
+     * @throws IllegalArgumentException         if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     */
+    public T remove(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data you are "
+                + "trying to remove is null");
+        }
+        writeLock.lock();
+        try {
+            PersistentAVL<T> current = tree;
+            T removed = current.get(data);
+            tree = current.remove(data);
+            return removed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the data in the tree equal to the given data.
+     * <p>
+     * Should run in O(log n) and never blocks.
+     *
+     * @param data the data to search for in the tree
+     * @return the data stored in the tree equal to the parameter
+     * @throws IllegalArgumentException         if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     */
+    public T get(T data) {
+        return tree.get(data);
+    }
+
+    /**
+     * Returns whether data equal to the given data is in the tree.
+     * <p>
+     * Should run in O(log n) and never blocks.
+     *
+     * @param data the data to search for in the tree
+     * @return whether the data is in the tree
+     * @throws IllegalArgumentException if the data is null
+     */
+    public boolean contains(T data) {
+        return tree.contains(data);
+    }
+
+    /**
+     * Returns the data on the branches of the tree with the maximum depth,
+     * in the same order as AVL.deepestBranches, all read from the same
+     * version of the tree.
+     *
+     * @return the list of data in branches of maximum depth in preorder
+     * traversal order
+     */
+    public List<T> deepestBranches() {
+        return tree.deepestBranches();
+    }
+
+    /**
+     * Returns a sorted list of the data that is {@code > data1} and
+     * {@code < data2}, all read from the same version of the tree.
+     * <p>
+     * Should run in O(log n + k), where k is the size of the result, and
+     * never blocks.
+     *
+     * @param data1 the smaller data in the threshold
+     * @param data2 the larger data in the threshold
+     * @return a sorted list of data that is > data1 and < data2
+     * @throws java.lang.IllegalArgumentException if data1 or data2 are null
+     *                                            or if data1 > data2
+     */
+    public List<T> sortedInBetween(T data1, T data2) {
+        return tree.sortedInBetween(data1, data2);
+    }
+
+    /**
+     * Returns a lazy iterator over the data that is {@code >= from} and
+     * {@code < to}, from smallest to largest. The iterator reads the version
+     * of the tree that was current when it was created, so later writes do
+     * not affect it.
+     * <p>
+     * Reading k elements costs O(log n + k) and never blocks.
+     *
+     * @param from the smallest data to include
+     * @param to   the data to stop before
+     * @return an iterator over the data in [from, to)
+     * @throws IllegalArgumentException if from or to is null, or if
+     *                                  from > to
+     */
+    public Iterator<T> range(T from, T to) {
+        return tree.range(from, to);
+    }
+
+    /**
+     * Returns the number of data in the tree that are {@code > data1} and
+     * {@code < data2}, counted on a single version of the tree.
+     * <p>
+     * Should run in O(log n) and never blocks.
+     *
+     * @param data1 the smaller data in the threshold
+     * @param data2 the larger data in the threshold
+     * @return the number of data strictly between data1 and data2
+     * @throws java.lang.IllegalArgumentException if data1 or data2 are null
+     *                                            or if data1 > data2
+     */
+    public int countBetween(T data1, T data2) {
+        return tree.countBetween(data1, data2);
+    }
+
+    /**
+     * Returns a lazy iterator over the data in order, reading the version of
+     * the tree that was current when it was created.
+     *
+     * @return an iterator over the data from smallest to largest
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return tree.iterator();
+    }
+
+    /**
+     * Returns the current contents of the tree as an immutable snapshot.
+     * Writes made afterwards do not affect it, and it can be queried from
+     * any thread for as long as it is needed.
+     * <p>
+     * Should run in O(1).
+     *
+     * @return the current version of the tree
+     */
+    public PersistentAVL<T> snapshot() {
+        return tree;
+    }
+
+    /**
+     * Clears the tree. Readers already walking the old version finish
+     * walking it.
+     */
+    public void clear() {
+        writeLock.lock();
+        try {
+            tree = new PersistentAVL<>();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the height of the root of the tree.
+     * <p>
+     * Should run in O(1).
+     *
+     * @return the height of the root of the tree, -1 if the tree is empty
+     */
+    public int height() {
+        return tree.height();
+    }
+
+    /**
+     * Returns the number of data in the tree.
+     * <p>
+     * Should run in O(1).
+     *
+     * @return number of items in the tree
+     */
+    public int size() {
+        return tree.size();
+    }
+
+    /**
+     * Returns whether the tree is empty.
+     *
+     * @return true if the tree has no data; false otherwise
+     */
+    public boolean isEmpty() {
+        return tree.isEmpty();
+    }
+}
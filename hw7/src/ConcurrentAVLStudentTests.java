@@ -0,0 +1,194 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for ConcurrentAVL, on one thread and with readers running while a
+ * writer changes the tree.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class ConcurrentAVLStudentTests {
+    private static final int TIMEOUT = 200;
+    private ConcurrentAVL<Integer> tree;
+
+    @Before
+    public void setup() {
+        tree = new ConcurrentAVL<>();
+    }
+
+    /**
+     * Returns the 1.45 log2(n + 2) bound on the height of an AVL tree.
+     *
+     * @param n the number of nodes
+     * @return the largest height an AVL tree with n nodes can have
+     */
+    private static int maxHeight(int n) {
+        return (int) (1.45 * Math.log(n + 2) / Math.log(2));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSortedAddsStayBalanced() {
+        for (int i = 0; i < 1000; i++) {
+            tree.add(i);
+        }
+        assertEquals(1000, tree.size());
+        assertTrue(tree.height() <= maxHeight(1000));
+        int expected = 0;
+        for (Integer data : tree) {
+            assertEquals((Integer) expected++, data);
+        }
+        assertEquals(1000, expected);
+    }
+
+    @Test(timeout = 2000)
+    public void testMatchesTreeSet() {
+        Random random = new Random(1332);
+        TreeSet<Integer> reference = new TreeSet<>();
+        for (int op = 0; op < 5000; op++) {
+            Integer key = random.nextInt(500);
+            if (random.nextInt(3) < 2) {
+                tree.add(key);
+                reference.add(key);
+            } else if (reference.remove(key)) {
+                assertEquals(key, tree.remove(key));
+            } else {
+                assertFalse(tree.contains(key));
+            }
+        }
+        assertEquals(reference.size(), tree.size());
+        assertTrue(tree.height() <= maxHeight(reference.size()));
+        List<Integer> inorder = new ArrayList<>();
+        for (Integer data : tree) {
+            inorder.add(data);
+        }
+        assertEquals(new ArrayList<>(reference), inorder);
+        for (int low = 0; low < 500; low += 37) {
+            int high = low + 60;
+            assertEquals(new ArrayList<>(reference.subSet(low, false, high,
+                false)), tree.sortedInBetween(low, high));
+            assertEquals(reference.subSet(low, false, high, false).size(),
+                tree.countBetween(low, high));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGetReturnsStoredData() {
+        String stored = new String("avl");
+        ConcurrentAVL<String> strings = new ConcurrentAVL<>(
+            Arrays.asList("b", stored, "c"));
+        assertSame(stored, strings.get(new String("avl")));
+        assertSame(stored, strings.remove(new String("avl")));
+        assertEquals(2, strings.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIteratorReadsOneVersion() {
+        tree = new ConcurrentAVL<>(Arrays.asList(1, 2, 3, 4, 5));
+        Iterator<Integer> iterator = tree.range(2, 5);
+        tree.remove(3);
+        tree.add(10);
+        tree.clear();
+        assertEquals((Integer) 2, iterator.next());
+        assertEquals((Integer) 3, iterator.next());
+        assertEquals((Integer) 4, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertTrue(tree.isEmpty());
+        assertEquals(-1, tree.height());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveMissing() {
+        tree.add(1);
+        tree.remove(2);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testGetMissing() {
+        tree.get(2);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        tree.add(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testRangeReversedBounds() {
+        tree.range(5, 4);
+    }
+
+    @Test(timeout = 10000)
+    public void testReadersDuringWrites() throws InterruptedException {
+        // Even keys are always present; the writer adds and removes odd
+        // ones. Every read must see all the even keys, in order.
+        int n = 2000;
+        for (int i = 0; i < n; i += 2) {
+            tree.add(i);
+        }
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] readers = new Thread[4];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                try {
+                    Random random = new Random();
+                    while (!done.get()) {
+                        int key = 2 * random.nextInt(n / 2);
+                        if (!tree.contains(key)) {
+                            throw new AssertionError("Missing " + key);
+                        }
+                        int evens = 0;
+                        Integer previous = null;
+                        for (Integer data : tree) {
+                            if (previous != null && data <= previous) {
+                                throw new AssertionError("Out of order");
+                            }
+                            previous = data;
+                            if (data % 2 == 0) {
+                                evens++;
+                            }
+                        }
+                        if (evens != n / 2) {
+                            throw new AssertionError("Saw " + evens
+                                + " even keys");
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            });
+            readers[r].start();
+        }
+        Random random = new Random(1332);
+        for (int op = 0; op < 20000; op++) {
+            int key = 2 * random.nextInt(n / 2) + 1;
+            if (tree.contains(key)) {
+                tree.remove(key);
+            } else {
+                tree.add(key);
+            }
+        }
+        done.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(failure.get());
+    }
+}
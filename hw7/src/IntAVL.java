@@ -0,0 +1,478 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * An AVL tree of int keys that keeps its nodes in parallel primitive arrays
+ * instead of AVLNode objects.
+ * <p>
+ * A node is an index into the arrays: keys[i] is its key, left[i] and
+ * right[i] are the indices of its children (NIL for none), and height[i] is
+ * its height. The balance factor is not stored; it is the difference of the
+ * children's heights. A node therefore takes 13 bytes, where an AVLNode
+ * holding an Integer takes about 56, and the whole tree is four arrays no
+ * matter how many keys it holds, so the garbage collector has almost
+ * nothing to trace.
+ * <p>
+ * Removed slots are kept on a free list threaded through the left array
+ * and reused by later adds. The arrays grow by half when they are full;
+ * trimToSize shrinks them to fit and relays the tree out in order.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class IntAVL implements Iterable<Integer> {
+    /**
+     * The capacity of a tree created without one.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The index standing for no node.
+     */
+    private static final int NIL = -1;
+
+    private int[] keys;
+    private int[] left;
+    private int[] right;
+    private byte[] height;
+    private int root = NIL;
+    private int size;
+    private int free = NIL;
+    private int used;
+
+    /**
+     * Constructs a new, empty IntAVL with room for INITIAL_CAPACITY keys.
+     */
+    public IntAVL() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new, empty IntAVL with room for capacity keys before the
+     * arrays have to grow.
+     *
+     * @param capacity the number of keys to make room for
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public IntAVL(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity " + capacity
+                + " cannot be negative");
+        }
+        keys = new int[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        height = new byte[capacity];
+    }
+
+    /**
+     * Adds the key to the tree. If the key is already in the tree nothing is
+     * done.
+     * <p>
+     * Should run in O(log n), plus O(n) when the arrays have to grow.
+     *
+     * @param key the key to add
+     */
+    public void add(int key) {
+        root = add(root, key);
+    }
+
+    /**
+     * Private helper method for add.
+     *
+     * @param node the root of the subtree to add to
+     * @param key  the key to add
+     * @return the new root of the subtree
+     */
+    private int add(int node, int key) {
+        if (node == NIL) {
+            size++;
+            return allocate(key);
+        }
+        // The child is stored after the call returns because the call may
+        // grow the arrays, and left[node] = add(...) would write to the old
+        // array.
+        if (key < keys[node]) {
+            int child = add(left[node], key);
+            left[node] = child;
+        } else if (key > keys[node]) {
+            int child = add(right[node], key);
+            right[node] = child;
+        } else {
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Removes the key from the tree. A node with two children takes its
+     * successor's key, and the successor's slot is freed instead.
+     * <p>
+     * Should run in O(log n).
+     *
+     * @param key the key to remove
+     * @return the key removed
+     * @throws java.util.NoSuchElementException if the key is not found
+     */
+    public int remove(int key) {
+        root = remove(root, key);
+        size--;
+        return key;
+    }
+
+    /**
+     * Private helper method for remove. Nothing is changed until the key is
+     * found, so a missing key leaves the tree as it was.
+     *
+     * @param node the root of the subtree to remove from
+     * @param key  the key to remove
+     * @return the new root of the subtree
+     * @throws java.util.NoSuchElementException if the key is not found
+     */
+    private int remove(int node, int key) {
+        if (node == NIL) {
+            throw new NoSuchElementException("Key " + key
+                + " is not in the tree");
+        }
+        if (key < keys[node]) {
+            left[node] = remove(left[node], key);
+        } else if (key > keys[node]) {
+            right[node] = remove(right[node], key);
+        } else if (left[node] == NIL || right[node] == NIL) {
+            int child = left[node] == NIL ? right[node] : left[node];
+            release(node);
+            return child;
+        } else {
+            int successor = right[node];
+            while (left[successor] != NIL) {
+                successor = left[successor];
+            }
+            keys[node] = keys[successor];
+            right[node] = removeSmallest(right[node]);
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Frees the slot of the smallest node in the subtree.
+     *
+     * @param node the root of the subtree
+     * @return the new root of the subtree
+     */
+    private int removeSmallest(int node) {
+        if (left[node] == NIL) {
+            int child = right[node];
+            release(node);
+            return child;
+        }
+        left[node] = removeSmallest(left[node]);
+        return rebalance(node);
+    }
+
+    /**
+     * Returns whether the key is in the tree.
+     * <p>
+     * Should run in O(log n).
+     *
+     * @param key the key to search for
+     * @return whether the key is in the tree
+     */
+    public boolean contains(int key) {
+        int node = root;
+        while (node != NIL) {
+            if (key < keys[node]) {
+                node = left[node];
+            } else if (key > keys[node]) {
+                node = right[node];
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the keys in order.
+     * <p>
+     * Should run in O(n).
+     *
+     * @return a new array of the keys from smallest to largest
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int index = 0;
+        PrimitiveIterator.OfInt iterator = iterator();
+        while (iterator.hasNext()) {
+            result[index++] = iterator.nextInt();
+        }
+        return result;
+    }
+
+    /**
+     * Returns a lazy iterator over the keys in order. Use nextInt to read
+     * the keys without boxing them.
+     * <p>
+     * The tree must not be changed while the iterator is in use.
+     *
+     * @return an iterator over the keys from smallest to largest
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new InorderIterator();
+    }
+
+    /**
+     * Shrinks the arrays to hold exactly size nodes. The tree is rebuilt
+     * perfectly balanced with its nodes laid out in key order, which also
+     * leaves no free slots.
+     * <p>
+     * Should run in O(n).
+     */
+    public void trimToSize() {
+        int[] sorted = toArray();
+        keys = sorted;
+        left = new int[size];
+        right = new int[size];
+        height = new byte[size];
+        free = NIL;
+        used = size;
+        root = build(0, size - 1);
+    }
+
+    /**
+     * Private helper method for trimToSize. Links the slots from low to high,
+     * whose keys are already in order, into a balanced subtree.
+     *
+     * @param low  the first slot of the subtree
+     * @param high the last slot of the subtree
+     * @return the root of the subtree
+     */
+    private int build(int low, int high) {
+        if (low > high) {
+            return NIL;
+        }
+        int middle = (low + high) >>> 1;
+        left[middle] = build(low, middle - 1);
+        right[middle] = build(middle + 1, high);
+        updateHeight(middle);
+        return middle;
+    }
+
+    /**
+     * Clears the tree. The arrays are kept for reuse.
+     */
+    public void clear() {
+        root = NIL;
+        size = 0;
+        free = NIL;
+        used = 0;
+    }
+
+    /**
+     * Returns the height of the root of the tree.
+     * <p>
+     * Should run in O(1).
+     *
+     * @return the height of the root of the tree, -1 if the tree is empty
+     */
+    public int height() {
+        return heightOf(root);
+    }
+
+    /**
+     * Returns the number of keys in the tree.
+     *
+     * @return number of keys in the tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of nodes the arrays can hold before they have to
+     * grow.
+     *
+     * @return the length of the arrays
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Takes a slot off the free list, or the next unused one, and makes it a
+     * leaf holding key.
+     *
+     * @param key the key of the new node
+     * @return the index of the new node
+     */
+    private int allocate(int key) {
+        int node;
+        if (free != NIL) {
+            node = free;
+            free = left[node];
+        } else {
+            if (used == keys.length) {
+                grow();
+            }
+            node = used++;
+        }
+        keys[node] = key;
+        left[node] = NIL;
+        right[node] = NIL;
+        height[node] = 0;
+        return node;
+    }
+
+    /**
+     * Puts a slot on the free list.
+     *
+     * @param node the index of the node to free
+     */
+    private void release(int node) {
+        left[node] = free;
+        free = node;
+    }
+
+    /**
+     * Grows the arrays by half, and always by at least one slot so that
+     * arrays of length 0 or 1 grow too.
+     */
+    private void grow() {
+        int capacity = Math.max(keys.length + 1,
+            keys.length + (keys.length >> 1));
+        keys = Arrays.copyOf(keys, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        height = Arrays.copyOf(height, capacity);
+    }
+
+    /**
+     * Returns the height of a node.
+     *
+     * @param node the index of the node, or NIL
+     * @return the height of the node, -1 for NIL
+     */
+    private int heightOf(int node) {
+        return node == NIL ? -1 : height[node];
+    }
+
+    /**
+     * Recomputes the height of node from its children's.
+     *
+     * @param node the index of the node to update
+     */
+    private void updateHeight(int node) {
+        height[node] = (byte) (1 + Math.max(heightOf(left[node]),
+            heightOf(right[node])));
+    }
+
+    /**
+     * Returns the balance factor of a node.
+     *
+     * @param node the index of the node
+     * @return the height of the left child minus that of the right child
+     */
+    private int balance(int node) {
+        return heightOf(left[node]) - heightOf(right[node]);
+    }
+
+    /**
+     * Updates the height of node and rotates it if it is out of balance.
+     *
+     * @param node the index of the node to update
+     * @return the root of the subtree after any rotation
+     */
+    private int rebalance(int node) {
+        updateHeight(node);
+        int balance = balance(node);
+        if (balance > 1) {
+            if (balance(left[node]) < 0) {
+                left[node] = rotateLeft(left[node]);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (balance(right[node]) > 0) {
+                right[node] = rotateRight(right[node]);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Rotates node's right child up into node's place.
+     *
+     * @param node the index of the node to rotate down to the left
+     * @return the new root of the subtree
+     */
+    private int rotateLeft(int node) {
+        int pivot = right[node];
+        right[node] = left[pivot];
+        left[pivot] = node;
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    /**
+     * Rotates node's left child up into node's place.
+     *
+     * @param node the index of the node to rotate down to the right
+     * @return the new root of the subtree
+     */
+    private int rotateRight(int node) {
+        int pivot = left[node];
+        left[node] = right[pivot];
+        right[pivot] = node;
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    /**
+     * Walks the tree in order, keeping on an int stack the nodes whose key
+     * has not been returned yet and whose left subtree has been.
+     */
+    private final class InorderIterator implements PrimitiveIterator.OfInt {
+        private final int[] stack = new int[height() + 2];
+        private int depth;
+
+        /**
+         * Creates an iterator positioned before the smallest key.
+         */
+        private InorderIterator() {
+            pushSpine(root);
+        }
+
+        /**
+         * Pushes node and every node down its leftmost path.
+         *
+         * @param node the index of the node to start from, or NIL
+         */
+        private void pushSpine(int node) {
+            for (int current = node; current != NIL;
+                 current = left[current]) {
+                stack[depth++] = current;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (depth == 0) {
+                throw new NoSuchElementException("The iteration has no more "
+                    + "elements");
+            }
+            int node = stack[--depth];
+            pushSpine(right[node]);
+            return keys[node];
+        }
+    }
+}
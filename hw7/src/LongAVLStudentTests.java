@@ -0,0 +1,195 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for LongAVL.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class LongAVLStudentTests {
+    private static final int TIMEOUT = 200;
+    private LongAVL tree;
+
+    @Before
+    public void setup() {
+        tree = new LongAVL();
+    }
+
+    /**
+     * Checks that the tree holds exactly expected.
+     *
+     * @param expected the keys the tree should hold
+     */
+    private void assertTree(TreeSet<Long> expected) {
+        long[] keys = new long[expected.size()];
+        int index = 0;
+        for (Long key : expected) {
+            keys[index++] = key;
+        }
+        assertArrayEquals(keys, tree.toArray());
+        assertEquals(expected.size(), tree.size());
+        // an AVL tree of n keys is under 1.45 log2(n + 2) tall
+        assertTrue(tree.height()
+            < 1.45 * Math.log(expected.size() + 2) / Math.log(2));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddInOrderIsPerfect() {
+        for (int i = 0; i < 1023; i++) {
+            tree.add(i);
+        }
+        assertEquals(9, tree.height());
+        assertEquals(1023, tree.size());
+        for (int i = 0; i < 1023; i++) {
+            assertTrue(tree.contains(i));
+        }
+        assertFalse(tree.contains(-1));
+        assertFalse(tree.contains(1023));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRandomOperationsMatchTreeSet() {
+        Random random = new Random(1332);
+        TreeSet<Long> expected = new TreeSet<>();
+        for (int i = 0; i < 5000; i++) {
+            // spread the keys past the range of int
+            long key = (random.nextInt(1000) - 500) * (1L << 40);
+            if (random.nextBoolean()) {
+                tree.add(key);
+                expected.add(key);
+            } else if (expected.remove(key)) {
+                assertEquals(key, tree.remove(key));
+            } else {
+                assertFalse(tree.contains(key));
+            }
+            if (i % 100 == 0) {
+                assertTree(expected);
+            }
+        }
+        assertTree(expected);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemovedSlotsAreReused() {
+        tree = new LongAVL(100);
+        for (int i = 0; i < 100; i++) {
+            tree.add(i);
+        }
+        for (int round = 0; round < 10; round++) {
+            for (int i = round; i < 100; i += 10) {
+                tree.remove(i);
+            }
+            for (int i = round; i < 100; i += 10) {
+                tree.add(i + 1000);
+            }
+        }
+        assertEquals(100, tree.size());
+        assertEquals(100, tree.capacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTrimToSize() {
+        TreeSet<Long> expected = new TreeSet<>();
+        for (int i = 0; i < 1000; i++) {
+            tree.add(i);
+            expected.add((long) i);
+        }
+        for (int i = 0; i < 1000; i += 3) {
+            tree.remove(i);
+            expected.remove((long) i);
+        }
+        tree.trimToSize();
+        assertEquals(expected.size(), tree.capacity());
+        assertTree(expected);
+        tree.add(5000);
+        expected.add(5000L);
+        assertTree(expected);
+
+        tree.clear();
+        tree.trimToSize();
+        assertEquals(0, tree.capacity());
+        tree.add(1);
+        assertEquals(1, tree.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowFromTinyCapacity() {
+        for (int capacity = 0; capacity <= 1; capacity++) {
+            tree = new LongAVL(capacity);
+            TreeSet<Long> expected = new TreeSet<>();
+            for (int i = 0; i < 100; i++) {
+                tree.add(i);
+                expected.add((long) i);
+            }
+            assertTree(expected);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAfterTrimmingTinyTree() {
+        for (int start = 0; start <= 1; start++) {
+            tree = new LongAVL();
+            TreeSet<Long> expected = new TreeSet<>();
+            for (int i = 0; i < start; i++) {
+                tree.add(i);
+                expected.add((long) i);
+            }
+            tree.trimToSize();
+            assertEquals(start, tree.capacity());
+            for (int i = start; i < 10; i++) {
+                tree.add(i);
+                expected.add((long) i);
+            }
+            assertTree(expected);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIterator() {
+        for (int i = 10; i > 0; i--) {
+            tree.add(i);
+        }
+        PrimitiveIterator.OfLong iterator = tree.iterator();
+        for (int i = 1; i <= 10; i++) {
+            assertTrue(iterator.hasNext());
+            assertEquals(i, iterator.nextLong());
+        }
+        assertFalse(iterator.hasNext());
+        long sum = 0;
+        for (long key : tree) {
+            sum += key;
+        }
+        assertEquals(55L, sum);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveMissingLeavesTreeUnchanged() {
+        for (int i = 0; i < 10; i++) {
+            tree.add(i);
+        }
+        try {
+            tree.remove(42);
+        } catch (NoSuchElementException e) {
+            assertEquals(10, tree.size());
+            assertEquals(3, tree.height());
+            return;
+        }
+        throw new AssertionError("Expected a NoSuchElementException");
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() {
+        new LongAVL(-1);
+    }
+}
@@ -0,0 +1,560 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable AVL tree. add and remove leave the tree they are called on
+ * unchanged and return a new tree, so any tree that has been handed out is
+ * a point-in-time snapshot that stays valid forever.
+ *
+ * Nodes are immutable as well. An update copies only the nodes on the path
+ * from the root to the change, plus the few nodes a rotation touches, and
+ * shares every other subtree with the tree it came from. Each update
+ * therefore allocates O(log n) nodes, and an old version only keeps alive
+ * the nodes that later versions have replaced. Because nothing is ever
+ * modified, trees can be shared between threads freely.
+ *
+ * Like AVL, it uses the successor to replace removed data that has two
+ * children, and every node stores its height and the size of its subtree.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public final class PersistentAVL<T extends Comparable<? super T>>
+    implements Iterable<T> {
+
+    private final Node<T> root;
+
+    /**
+     * Constructs a new, empty PersistentAVL.
+     */
+    public PersistentAVL() {
+        this.root = null;
+    }
+
+    /**
+     * Initializes the tree with the data in the Collection, added in the
+     * order it appears in the Collection.
+     *
+     * @param data the data to add to the tree
+     * @throws IllegalArgumentException if data or any element in data is null
+     */
+    public PersistentAVL(Collection<T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot create a tree from a "
+                + "null collection");
+        }
+        Node<T> built = null;
+        for (T item : data) {
+            if (item == null) {
+                throw new IllegalArgumentException("Cannot add null data "
+                    + "from the collection to the tree");
+            }
+            built = insert(built, item);
+        }
+        this.root = built;
+    }
+
+    /**
+     * Creates a tree over an existing root.
+     *
+     * @param root the root of the tree, possibly null
+     */
+    private PersistentAVL(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a tree holding this tree's data plus the given data. This tree
+     * is not changed. If the data is already here, this tree is returned.
+     * <p>
+     * Should run in O(log n) and allocate O(log n) nodes.
+     *
+     * @param data the data to be added
+     * @return the tree with the data added
+     * @throws java.lang.IllegalArgumentException if the data is null
+     */
+    public PersistentAVL<T> add(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("You can't put null data in "
+                + "the AVL tree");
+        }
+        Node<T> newRoot = insert(root, data);
+        return newRoot == root ? this : new PersistentAVL<>(newRoot);
+    }
+
+    /**
+     * Returns a tree holding this tree's data minus the given data. This
+     * tree is not changed.
+     * <p>
+     * Should run in O(log n) and allocate O(log n) nodes.
+     *
+     * @param data the data to remove
+     * @return the tree with the data removed
+     * @throws IllegalArgumentException         if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     */
+    public PersistentAVL<T> remove(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data you are "
+                + "trying to remove is null");
+        }
+        if (find(root, data) == null) {
+            throw new NoSuchElementException("Element "
+                + "in tree not found");
+        }
+        return new PersistentAVL<>(delete(root, data));
+    }
+
+    /**
+     * Returns the data in the tree equal to the given data.
+     * <p>
+     * Should run in O(log n).
+     *
+     * @param data the data to search for in the tree
+     * @return the data stored in the tree equal to the parameter
+     * @throws IllegalArgumentException         if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     */
+    public T get(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Null data cannot be "
+                + "searched for in the tree");
+        }
+        Node<T> found = find(root, data);
+        if (found == null) {
+            throw new NoSuchElementException("Data could not be found");
+        }
+        return found.data;
+    }
+
+    /**
+     * Returns whether data equal to the given data is in the tree.
+     * <p>
+     * Should run in O(log n).
+     *
+     * @param data the data to search for in the tree
+     * @return whether the data is in the tree
+     * @throws IllegalArgumentException if the data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Null data cannot be "
+                + "searched for in the tree");
+        }
+        return find(root, data) != null;
+    }
+
+    /**
+     * Returns the data on the branches of the tree with the maximum depth,
+     * in the same order as AVL.deepestBranches: a preorder traversal of
+     * only those branches, left branch first.
+     * <p>
+     * Should run in worst case O(n), exploring only branches of maximum
+     * depth.
+     *
+     * @return the list of data in branches of maximum depth in preorder
+     * traversal order
+     */
+    public List<T> deepestBranches() {
+        List<T> output = new ArrayList<>();
+        Deque<Node<T>> stack = new ArrayDeque<>();
+        if (root != null) {
+            stack.push(root);
+        }
+        while (!stack.isEmpty()) {
+            Node<T> node = stack.pop();
+            output.add(node.data);
+            int leftHeight = height(node.left);
+            int rightHeight = height(node.right);
+            // Push right first so the left branch is listed first.
+            if (rightHeight >= leftHeight && node.right != null) {
+                stack.push(node.right);
+            }
+            if (leftHeight >= rightHeight && node.left != null) {
+                stack.push(node.left);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Returns a sorted list of the data that is {@code > data1} and
+     * {@code < data2}.
+     * <p>
+     * Should run in O(log n + k), where k is the size of the result.
+     *
+     * @param data1 the smaller data in the threshold
+     * @param data2 the larger data in the threshold
+     * @return a sorted list of data that is > data1 and < data2
+     * @throws java.lang.IllegalArgumentException if data1 or data2 are null
+     *                                            or if data1 > data2
+     */
+    public List<T> sortedInBetween(T data1, T data2) {
+        checkBounds(data1, data2);
+        List<T> output = new ArrayList<>();
+        Iterator<T> iterator = new InorderIterator<>(root, data1, data2);
+        while (iterator.hasNext()) {
+            T data = iterator.next();
+            if (data.compareTo(data1) > 0) {
+                output.add(data);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Returns a lazy iterator over the data that is {@code >= from} and
+     * {@code < to}, from smallest to largest.
+     * <p>
+     * Reading k elements costs O(log n + k).
+     *
+     * @param from the smallest data to include
+     * @param to   the data to stop before
+     * @return an iterator over the data in [from, to)
+     * @throws IllegalArgumentException if from or to is null, or if
+     *                                  from > to
+     */
+    public Iterator<T> range(T from, T to) {
+        checkBounds(from, to);
+        return new InorderIterator<>(root, from, to);
+    }
+
+    /**
+     * Returns the number of data in the tree that are {@code > data1} and
+     * {@code < data2}.
+     * <p>
+     * Should run in O(log n).
+     *
+     * @param data1 the smaller data in the threshold
+     * @param data2 the larger data in the threshold
+     * @return the number of data strictly between data1 and data2
+     * @throws java.lang.IllegalArgumentException if data1 or data2 are null
+     *                                            or if data1 > data2
+     */
+    public int countBetween(T data1, T data2) {
+        checkBounds(data1, data2);
+        return Math.max(0, countBelow(root, data2, false)
+            - countBelow(root, data1, true));
+    }
+
+    /**
+     * Returns a lazy iterator over the data in order.
+     *
+     * @return an iterator over the data from smallest to largest
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InorderIterator<>(root, null, null);
+    }
+
+    /**
+     * Returns the height of the root of the tree.
+     * <p>
+     * Should run in O(1).
+     *
+     * @return the height of the root of the tree, -1 if the tree is empty
+     */
+    public int height() {
+        return height(root);
+    }
+
+    /**
+     * Returns the number of data in the tree.
+     * <p>
+     * Should run in O(1).
+     *
+     * @return number of items in the tree
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns whether the tree is empty.
+     *
+     * @return true if the tree has no data; false otherwise
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Checks the bounds of a range query.
+     *
+     * @param low  the lower bound
+     * @param high the upper bound
+     * @throws java.lang.IllegalArgumentException if low or high are null or
+     *                                            if low > high
+     */
+    private void checkBounds(T low, T high) {
+        if (low == null || high == null) {
+            throw new IllegalArgumentException("Cannot query a range with a "
+                + "null bound");
+        }
+        if (low.compareTo(high) > 0) {
+            throw new IllegalArgumentException("The lower bound of the range "
+                + "is larger than the upper bound");
+        }
+    }
+
+    /**
+     * Looks for data in the version of the tree rooted at node.
+     *
+     * @param node the root of the version to search
+     * @param data the data to look for
+     * @return the node holding data, or null if there is none
+     */
+    private Node<T> find(Node<T> node, T data) {
+        Node<T> current = node;
+        while (current != null) {
+            int compare = data.compareTo(current.data);
+            if (compare == 0) {
+                return current;
+            }
+            current = compare < 0 ? current.left : current.right;
+        }
+        return null;
+    }
+
+    /**
+     * Counts the data in the version of the tree rooted at node that is
+     * smaller than (or equal to) the given data.
+     *
+     * @param node      the root of the version to count in
+     * @param data      the data to compare against
+     * @param inclusive whether data equal to the given data is counted
+     * @return the number of data smaller than (or equal to) data
+     */
+    private int countBelow(Node<T> node, T data, boolean inclusive) {
+        int count = 0;
+        Node<T> current = node;
+        while (current != null) {
+            int compare = data.compareTo(current.data);
+            if (compare < 0) {
+                current = current.left;
+            } else if (compare == 0) {
+                return count + size(current.left) + (inclusive ? 1 : 0);
+            } else {
+                count += size(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns a new version of the subtree with data added.
+     *
+     * @param node the root of the subtree, possibly null
+     * @param data the data to add
+     * @return the root of the new version, or node itself if data was
+     * already there
+     */
+    private Node<T> insert(Node<T> node, T data) {
+        if (node == null) {
+            return new Node<>(data, null, null);
+        }
+        int compare = data.compareTo(node.data);
+        if (compare < 0) {
+            Node<T> left = insert(node.left, data);
+            return left == node.left ? node
+                : balance(node.data, left, node.right);
+        } else if (compare > 0) {
+            Node<T> right = insert(node.right, data);
+            return right == node.right ? node
+                : balance(node.data, node.left, right);
+        }
+        return node;
+    }
+
+    /**
+     * Returns a new version of the subtree with data removed. The data must
+     * be in the subtree.
+     *
+     * @param node the root of the subtree
+     * @param data the data to remove
+     * @return the root of the new version, possibly null
+     */
+    private Node<T> delete(Node<T> node, T data) {
+        int compare = data.compareTo(node.data);
+        if (compare < 0) {
+            return balance(node.data, delete(node.left, data), node.right);
+        } else if (compare > 0) {
+            return balance(node.data, node.left, delete(node.right, data));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.data, node.left,
+            deleteMin(node.right));
+    }
+
+    /**
+     * Returns a new version of the subtree without its smallest data.
+     *
+     * @param node the root of the subtree
+     * @return the root of the new version, possibly null
+     */
+    private Node<T> deleteMin(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.data, deleteMin(node.left), node.right);
+    }
+
+    /**
+     * Builds a node holding data over the given subtrees, whose heights
+     * differ by at most two, rotating new nodes as needed so that the result
+     * is balanced. The subtrees themselves are shared, not copied.
+     *
+     * @param data  the data of the new node
+     * @param left  the left subtree
+     * @param right the right subtree
+     * @return the root of the balanced subtree
+     */
+    private Node<T> balance(T data, Node<T> left, Node<T> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                // Right rotation.
+                return new Node<>(left.data, left.left,
+                    new Node<>(data, left.right, right));
+            }
+            // Left-right rotation.
+            Node<T> pivot = left.right;
+            return new Node<>(pivot.data,
+                new Node<>(left.data, left.left, pivot.left),
+                new Node<>(data, pivot.right, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                // Left rotation.
+                return new Node<>(right.data,
+                    new Node<>(data, left, right.left), right.right);
+            }
+            // Right-left rotation.
+            Node<T> pivot = right.left;
+            return new Node<>(pivot.data,
+                new Node<>(data, left, pivot.left),
+                new Node<>(right.data, pivot.right, right.right));
+        }
+        return new Node<>(data, left, right);
+    }
+
+    /**
+     * Returns the height of a subtree.
+     *
+     * @param <T>  the generic typing
+     * @param node the root of the subtree, possibly null
+     * @return the height of the subtree, -1 if node is null
+     */
+    private static <T> int height(Node<T> node) {
+        return node == null ? -1 : node.height;
+    }
+
+    /**
+     * Returns the number of nodes in a subtree.
+     *
+     * @param <T>  the generic typing
+     * @param node the root of the subtree, possibly null
+     * @return the size of the subtree, 0 if node is null
+     */
+    private static <T> int size(Node<T> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * An immutable tree node. Its height and subtree size are computed once
+     * from its children when it is created.
+     *
+     * @param <T> the type of data in the node
+     */
+    private static final class Node<T> {
+        private final T data;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int height;
+        private final int size;
+
+        /**
+         * Creates a node over the given subtrees.
+         *
+         * @param data  the data to store
+         * @param left  the left subtree, possibly null
+         * @param right the right subtree, possibly null
+         */
+        private Node(T data, Node<T> left, Node<T> right) {
+            this.data = data;
+            this.left = left;
+            this.right = right;
+            this.height = 1 + Math.max(height(left), height(right));
+            this.size = 1 + size(left) + size(right);
+        }
+    }
+
+    /**
+     * Walks one version of the tree in order, keeping on a stack the nodes
+     * whose data has not been returned yet.
+     *
+     * @param <T> the type of data in the tree
+     */
+    private static final class InorderIterator<T extends Comparable<? super T>>
+        implements Iterator<T> {
+        private final Deque<Node<T>> stack = new ArrayDeque<>();
+        private final T to;
+
+        /**
+         * Creates an iterator positioned before the first element at or
+         * above from.
+         *
+         * @param start the root of the version to walk
+         * @param from  the smallest data to return, or null for no bound
+         * @param to    the data to stop before, or null for no bound
+         */
+        private InorderIterator(Node<T> start, T from, T to) {
+            this.to = to;
+            Node<T> current = start;
+            while (current != null) {
+                if (from != null && current.data.compareTo(from) < 0) {
+                    current = current.right;
+                } else {
+                    stack.push(current);
+                    current = current.left;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty()
+                && (to == null || stack.peek().data.compareTo(to) < 0);
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("The iteration has no more "
+                    + "elements");
+            }
+            Node<T> node = stack.pop();
+            Node<T> current = node.right;
+            while (current != null) {
+                stack.push(current);
+                current = current.left;
+            }
+            return node.data;
+        }
+    }
+}
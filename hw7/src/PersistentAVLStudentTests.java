@@ -0,0 +1,134 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for PersistentAVL and the snapshots taken from ConcurrentAVL.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class PersistentAVLStudentTests {
+    private static final int TIMEOUT = 200;
+
+    /**
+     * Lists the data of a tree in order.
+     *
+     * @param tree the tree to list
+     * @return the data from smallest to largest
+     */
+    private static List<Integer> inorder(PersistentAVL<Integer> tree) {
+        List<Integer> result = new ArrayList<>();
+        for (Integer data : tree) {
+            result.add(data);
+        }
+        return result;
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testUpdatesLeaveOldVersionsUnchanged() {
+        PersistentAVL<Integer> empty = new PersistentAVL<>();
+        PersistentAVL<Integer> one = empty.add(1);
+        PersistentAVL<Integer> three = one.add(2).add(3);
+        PersistentAVL<Integer> removed = three.remove(2);
+
+        assertTrue(empty.isEmpty());
+        assertEquals(Arrays.asList(1), inorder(one));
+        assertEquals(Arrays.asList(1, 2, 3), inorder(three));
+        assertEquals(Arrays.asList(1, 3), inorder(removed));
+        assertEquals(1, three.height());
+        assertEquals(3, three.size());
+        assertSame(three, three.add(2));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testQueriesMatchAvl() {
+        /*
+         * The example tree from AVL.deepestBranches.
+         */
+        List<Integer> data = Arrays.asList(10, 5, 15, 2, 7, 13, 20, 1, 4, 6,
+            8, 14, 17, 25, 0, 9, 30);
+        AVL<Integer> avl = new AVL<>(data);
+        PersistentAVL<Integer> tree = new PersistentAVL<>(data);
+
+        assertEquals(Arrays.asList(10, 5, 2, 1, 0, 7, 8, 9, 15, 20, 25, 30),
+            tree.deepestBranches());
+        assertEquals(avl.deepestBranches(), tree.deepestBranches());
+        assertEquals(Arrays.asList(8, 9, 10, 13), tree.sortedInBetween(7, 14));
+        assertEquals(Arrays.asList(4, 5, 6, 7), tree.sortedInBetween(3, 8));
+        assertEquals(new ArrayList<Integer>(), tree.sortedInBetween(8, 8));
+        assertEquals(4, tree.countBetween(7, 14));
+        assertEquals(avl.height(), tree.height());
+    }
+
+    @Test(timeout = 2000)
+    public void testRandomVersions() {
+        Random random = new Random(1332);
+        List<PersistentAVL<Integer>> versions = new ArrayList<>();
+        List<TreeSet<Integer>> expected = new ArrayList<>();
+        PersistentAVL<Integer> tree = new PersistentAVL<>();
+        TreeSet<Integer> reference = new TreeSet<>();
+        for (int op = 0; op < 3000; op++) {
+            Integer key = random.nextInt(300);
+            if (random.nextBoolean()) {
+                tree = tree.add(key);
+                reference.add(key);
+            } else if (reference.remove(key)) {
+                tree = tree.remove(key);
+            }
+            if (op % 100 == 0) {
+                versions.add(tree);
+                expected.add(new TreeSet<>(reference));
+            }
+        }
+        for (int i = 0; i < versions.size(); i++) {
+            PersistentAVL<Integer> version = versions.get(i);
+            assertEquals(new ArrayList<>(expected.get(i)), inorder(version));
+            assertEquals(expected.get(i).size(), version.size());
+            int n = version.size();
+            assertTrue(version.height()
+                <= 1.45 * Math.log(n + 2) / Math.log(2));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testConcurrentAvlSnapshot() {
+        ConcurrentAVL<Integer> live = new ConcurrentAVL<>(
+            Arrays.asList(4, 2, 6, 1, 3, 5, 7));
+        PersistentAVL<Integer> snapshot = live.snapshot();
+        assertSame(snapshot, live.snapshot());
+
+        live.remove(4);
+        live.add(8);
+        live.add(9);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7), inorder(snapshot));
+        assertEquals(Arrays.asList(4, 2, 1, 3, 6, 5, 7),
+            snapshot.deepestBranches());
+        assertFalse(snapshot.contains(8));
+        assertTrue(live.contains(8));
+        assertEquals(8, live.size());
+
+        live.clear();
+        assertEquals(7, snapshot.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveMissing() {
+        new PersistentAVL<Integer>().add(1).remove(2);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        new PersistentAVL<Integer>().add(null);
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * This class represents a node in a RedBlackTree. A new node is red.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class RedBlackNode<T extends Comparable<? super T>> {
+    private T data;
+    private RedBlackNode<T> left;
+    private RedBlackNode<T> right;
+    private RedBlackNode<T> parent;
+    private boolean red;
+
+    /**
+     * Create a red node with the specified data.
+     *
+     * @param data the data to be stored in this node
+     */
+    public RedBlackNode(T data) {
+        this.data = data;
+        this.red = true;
+    }
+
+    /**
+     * Get the data of this node.
+     *
+     * @return data of this node
+     */
+    public T getData() {
+        return data;
+    }
+
+    /**
+     * Set the data of this node.
+     *
+     * @param data data of this node
+     */
+    public void setData(T data) {
+        this.data = data;
+    }
+
+    /**
+     * Get the left child of this node.
+     *
+     * @return left child of this node
+     */
+    public RedBlackNode<T> getLeft() {
+        return left;
+    }
+
+    /**
+     * Set the left child of this node.
+     *
+     * @param left left child of this node
+     */
+    public void setLeft(RedBlackNode<T> left) {
+        this.left = left;
+    }
+
+    /**
+     * Get the right child of this node.
+     *
+     * @return right child of this node
+     */
+    public RedBlackNode<T> getRight() {
+        return right;
+    }
+
+    /**
+     * Set the right child of this node.
+     *
+     * @param right right child of this node
+     */
+    public void setRight(RedBlackNode<T> right) {
+        this.right = right;
+    }
+
+    /**
+     * Get the parent of this node.
+     *
+     * @return parent of this node
+     */
+    public RedBlackNode<T> getParent() {
+        return parent;
+    }
+
+    /**
+     * Set the parent of this node.
+     *
+     * @param parent parent of this node
+     */
+    public void setParent(RedBlackNode<T> parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Get whether this node is red.
+     *
+     * @return true if this node is red, false if it is black
+     */
+    public boolean isRed() {
+        return red;
+    }
+
+    /**
+     * Set the color of this node.
+     *
+     * @param red true to make this node red, false to make it black
+     */
+    public void setRed(boolean red) {
+        this.red = red;
+    }
+
+    /**
+     * DO NOT USE EXCEPT FOR DEBUGGING PURPOSES
+     */
+    @Override
+    public String toString() {
+        return String.format("Node containing %s (%s)",
+                data.toString(), red ? "red" : "black");
+    }
+}
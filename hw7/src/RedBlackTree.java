@@ -0,0 +1,547 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A red-black tree with the same API as AVL.
+ *
+ * Every node is red or black, a red node never has a red child, and every
+ * path from a node down to a missing child passes the same number of black
+ * nodes, which keeps the height below 2 log2(n + 1). The tree is allowed to
+ * be less balanced than an AVL, so most updates are fixed by recoloring
+ * alone: an add does at most two rotations and a remove at most three,
+ * where an AVL may rotate at every level on the way back up from a remove.
+ * Lookups may walk slightly longer paths in exchange.
+ *
+ * Like AVL, it uses the successor to replace removed data that has two
+ * children. Nodes keep parent links so that the fix-ups can walk back up
+ * without recursion.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class RedBlackTree<T extends Comparable<? super T>>
+    implements Iterable<T> {
+
+    private RedBlackNode<T> root;
+    private int size;
+    private long rotations;
+
+    /**
+     * Constructs a new, empty RedBlackTree.
+     */
+    public RedBlackTree() {
+        // Nothing to initialize.
+    }
+
+    /**
+     * Initializes the tree with the data in the Collection, added in the
+     * order it appears in the Collection.
+     *
+     * @param data the data to add to the tree
+     * @throws IllegalArgumentException if data or any element in data is null
+     */
+    public RedBlackTree(Collection<T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot create a tree from a "
+                + "null collection");
+        }
+        for (T item : data) {
+            if (item == null) {
+                throw new IllegalArgumentException("Cannot add null data "
+                    + "from the collection to the tree");
+            }
+            add(item);
+        }
+    }
+
+    /**
+     * Adds the data as a red leaf, then recolors and rotates on the way up
+     * until no red node has a red parent. If the data is already in the
+     * tree nothing is done.
+     * <p>
+     * Should run in O(log n) with at most two rotations.
+     *
+     * @param data the data to be added
+     * @throws java.lang.IllegalArgumentException if the data is null
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("You can't put null data in "
+                + "the tree");
+        }
+        RedBlackNode<T> parent = null;
+        RedBlackNode<T> current = root;
+        int compare = 0;
+        while (current != null) {
+            compare = data.compareTo(current.getData());
+            if (compare == 0) {
+                return;
+            }
+            parent = current;
+            current = compare < 0 ? current.getLeft() : current.getRight();
+        }
+        RedBlackNode<T> node = new RedBlackNode<>(data);
+        node.setParent(parent);
+        if (parent == null) {
+            root = node;
+        } else if (compare < 0) {
+            parent.setLeft(node);
+        } else {
+            parent.setRight(node);
+        }
+        size++;
+        fixAfterAdd(node);
+    }
+
+    /**
+     * Removes the data from the tree, then recolors and rotates on the way
+     * up if a black node was unlinked.
+     * <p>
+     * Should run in O(log n) with at most three rotations.
+     *
+     * @param data the data to remove from the tree
+     * @return the data removed from the tree, which is the data that was
+     * stored in the tree rather than the parameter
+     * @throws IllegalArgumentException         if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     */
+    public T remove(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data you are "
+                + "trying to remove is null");
+        }
+        RedBlackNode<T> node = find(data);
+        if (node == null) {
+            throw new NoSuchElementException("Element "
+                + "in tree not found");
+        }
+        T removed = node.getData();
+        size--;
+        if (node.getLeft() != null && node.getRight() != null) {
+            RedBlackNode<T> successor = node.getRight();
+            while (successor.getLeft() != null) {
+                successor = successor.getLeft();
+            }
+            node.setData(successor.getData());
+            node = successor;
+        }
+        // node now has at most one child.
+        RedBlackNode<T> replacement = node.getLeft() != null
+            ? node.getLeft() : node.getRight();
+        if (replacement != null) {
+            replaceChild(node, replacement);
+            if (!node.isRed()) {
+                fixAfterRemove(replacement);
+            }
+        } else if (node.getParent() == null) {
+            root = null;
+        } else {
+            // Fix up while the leaf is still linked, then unlink it.
+            if (!node.isRed()) {
+                fixAfterRemove(node);
+            }
+            replaceChild(node, null);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the data in the tree equal to the given data.
+     * <p>
+     * Should run in O(log n).
+     *
+     * @param data the data to search for in the tree
+     * @return the data stored in the tree equal to the parameter
+     * @throws IllegalArgumentException         if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     */
+    public T get(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Null data cannot be "
+                + "searched for in the tree");
+        }
+        RedBlackNode<T> node = find(data);
+        if (node == null) {
+            throw new NoSuchElementException("Data could not be found");
+        }
+        return node.getData();
+    }
+
+    /**
+     * Returns whether data equal to the given data is in the tree.
+     * <p>
+     * Should run in O(log n).
+     *
+     * @param data the data to search for in the tree
+     * @return whether the data is in the tree
+     * @throws IllegalArgumentException if the data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Null data cannot be "
+                + "searched for in the tree");
+        }
+        return find(data) != null;
+    }
+
+    /**
+     * Returns a sorted list of the data that is {@code > data1} and
+     * {@code < data2}.
+     * <p>
+     * Should run in O(log n + k), where k is the size of the result.
+     *
+     * @param data1 the smaller data in the threshold
+     * @param data2 the larger data in the threshold
+     * @return a sorted list of data that is > data1 and < data2
+     * @throws java.lang.IllegalArgumentException if data1 or data2 are null
+     *                                            or if data1 > data2
+     */
+    public List<T> sortedInBetween(T data1, T data2) {
+        if (data1 == null || data2 == null) {
+            throw new IllegalArgumentException("Cannot query a range with a "
+                + "null bound");
+        }
+        if (data1.compareTo(data2) > 0) {
+            throw new IllegalArgumentException("data 1 is larger "
+                + "than data 2 therfore does not follow bound restrictions");
+        }
+        List<T> output = new ArrayList<>();
+        sortedInBetweenHelper(root, data1, data2, output);
+        return output;
+    }
+
+    /**
+     * Private helper method for sortedInBetween. Walks in order, skipping
+     * subtrees that lie entirely outside the bounds.
+     *
+     * @param node   the root of the subtree
+     * @param data1  the lower threshold
+     * @param data2  the higher threshold
+     * @param output the list being built
+     */
+    private void sortedInBetweenHelper(RedBlackNode<T> node, T data1,
+                                       T data2, List<T> output) {
+        if (node == null) {
+            return;
+        }
+        if (node.getData().compareTo(data1) <= 0) {
+            sortedInBetweenHelper(node.getRight(), data1, data2, output);
+        } else if (node.getData().compareTo(data2) >= 0) {
+            sortedInBetweenHelper(node.getLeft(), data1, data2, output);
+        } else {
+            sortedInBetweenHelper(node.getLeft(), data1, data2, output);
+            output.add(node.getData());
+            sortedInBetweenHelper(node.getRight(), data1, data2, output);
+        }
+    }
+
+    /**
+     * Returns a lazy iterator over the data in order, using O(height)
+     * memory.
+     * <p>
+     * The tree must not be changed while the iterator is in use.
+     *
+     * @return an iterator over the data from smallest to largest
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Deque<RedBlackNode<T>> stack = new ArrayDeque<>();
+        for (RedBlackNode<T> node = root; node != null;
+             node = node.getLeft()) {
+            stack.push(node);
+        }
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (stack.isEmpty()) {
+                    throw new NoSuchElementException("The iteration has no "
+                        + "more elements");
+                }
+                RedBlackNode<T> node = stack.pop();
+                for (RedBlackNode<T> child = node.getRight(); child != null;
+                     child = child.getLeft()) {
+                    stack.push(child);
+                }
+                return node.getData();
+            }
+        };
+    }
+
+    /**
+     * Clears the tree. The rotation count is kept.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the height of the root of the tree. Heights are not stored,
+     * so this walks the tree level by level.
+     * <p>
+     * Should be calculated in O(n).
+     *
+     * @return the height of the root of the tree, -1 if the tree is empty
+     */
+    public int height() {
+        int height = -1;
+        Deque<RedBlackNode<T>> level = new ArrayDeque<>();
+        if (root != null) {
+            level.add(root);
+        }
+        while (!level.isEmpty()) {
+            height++;
+            for (int i = level.size(); i > 0; i--) {
+                RedBlackNode<T> node = level.poll();
+                if (node.getLeft() != null) {
+                    level.add(node.getLeft());
+                }
+                if (node.getRight() != null) {
+                    level.add(node.getRight());
+                }
+            }
+        }
+        return height;
+    }
+
+    /**
+     * Returns the number of data in the tree.
+     *
+     * @return number of items in the tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of single rotations done since the tree was
+     * created, for comparing rebalancing work with AVL and Treap.
+     *
+     * @return the number of rotations
+     */
+    public long getRotationCount() {
+        return rotations;
+    }
+
+    /**
+     * Returns the root of the tree.
+     *
+     * @return the root of the tree
+     */
+    public RedBlackNode<T> getRoot() {
+        return root;
+    }
+
+    /**
+     * Looks for the node holding data.
+     *
+     * @param data the data to look for
+     * @return the node holding data, or null if there is none
+     */
+    private RedBlackNode<T> find(T data) {
+        RedBlackNode<T> current = root;
+        while (current != null) {
+            int compare = data.compareTo(current.getData());
+            if (compare == 0) {
+                return current;
+            }
+            current = compare < 0 ? current.getLeft() : current.getRight();
+        }
+        return null;
+    }
+
+    /**
+     * Restores the red-black properties after node was added as a red
+     * leaf. While node and its parent are both red, a red uncle means the
+     * grandparent's color can be pushed down and the problem moved two
+     * levels up; a black uncle is fixed by one or two rotations.
+     *
+     * @param node the node that was added
+     */
+    private void fixAfterAdd(RedBlackNode<T> node) {
+        RedBlackNode<T> current = node;
+        while (current != root && current.getParent().isRed()) {
+            RedBlackNode<T> parent = current.getParent();
+            RedBlackNode<T> grandparent = parent.getParent();
+            if (parent == grandparent.getLeft()) {
+                RedBlackNode<T> uncle = grandparent.getRight();
+                if (isRed(uncle)) {
+                    parent.setRed(false);
+                    uncle.setRed(false);
+                    grandparent.setRed(true);
+                    current = grandparent;
+                } else {
+                    if (current == parent.getRight()) {
+                        current = parent;
+                        rotateLeft(current);
+                        parent = current.getParent();
+                    }
+                    parent.setRed(false);
+                    grandparent.setRed(true);
+                    rotateRight(grandparent);
+                }
+            } else {
+                RedBlackNode<T> uncle = grandparent.getLeft();
+                if (isRed(uncle)) {
+                    parent.setRed(false);
+                    uncle.setRed(false);
+                    grandparent.setRed(true);
+                    current = grandparent;
+                } else {
+                    if (current == parent.getLeft()) {
+                        current = parent;
+                        rotateRight(current);
+                        parent = current.getParent();
+                    }
+                    parent.setRed(false);
+                    grandparent.setRed(true);
+                    rotateLeft(grandparent);
+                }
+            }
+        }
+        root.setRed(false);
+    }
+
+    /**
+     * Restores the red-black properties after a black node was unlinked
+     * above node, leaving every path through node one black node short.
+     * The shortage is pushed up the tree by recoloring the sibling red, or
+     * resolved with at most three rotations around the sibling.
+     *
+     * @param node the node whose paths are one black node short
+     */
+    private void fixAfterRemove(RedBlackNode<T> node) {
+        RedBlackNode<T> current = node;
+        while (current != root && !current.isRed()) {
+            RedBlackNode<T> parent = current.getParent();
+            if (current == parent.getLeft()) {
+                RedBlackNode<T> sibling = parent.getRight();
+                if (isRed(sibling)) {
+                    sibling.setRed(false);
+                    parent.setRed(true);
+                    rotateLeft(parent);
+                    sibling = parent.getRight();
+                }
+                if (!isRed(sibling.getLeft()) && !isRed(sibling.getRight())) {
+                    sibling.setRed(true);
+                    current = parent;
+                } else {
+                    if (!isRed(sibling.getRight())) {
+                        sibling.getLeft().setRed(false);
+                        sibling.setRed(true);
+                        rotateRight(sibling);
+                        sibling = parent.getRight();
+                    }
+                    sibling.setRed(parent.isRed());
+                    parent.setRed(false);
+                    sibling.getRight().setRed(false);
+                    rotateLeft(parent);
+                    current = root;
+                }
+            } else {
+                RedBlackNode<T> sibling = parent.getLeft();
+                if (isRed(sibling)) {
+                    sibling.setRed(false);
+                    parent.setRed(true);
+                    rotateRight(parent);
+                    sibling = parent.getLeft();
+                }
+                if (!isRed(sibling.getRight()) && !isRed(sibling.getLeft())) {
+                    sibling.setRed(true);
+                    current = parent;
+                } else {
+                    if (!isRed(sibling.getLeft())) {
+                        sibling.getRight().setRed(false);
+                        sibling.setRed(true);
+                        rotateLeft(sibling);
+                        sibling = parent.getLeft();
+                    }
+                    sibling.setRed(parent.isRed());
+                    parent.setRed(false);
+                    sibling.getLeft().setRed(false);
+                    rotateRight(parent);
+                    current = root;
+                }
+            }
+        }
+        current.setRed(false);
+    }
+
+    /**
+     * Returns whether node is red. Missing children count as black.
+     *
+     * @param node the node to check, possibly null
+     * @return true if node is a red node
+     */
+    private boolean isRed(RedBlackNode<T> node) {
+        return node != null && node.isRed();
+    }
+
+    /**
+     * Points whichever link led to node at replacement instead.
+     *
+     * @param node        the node being unlinked
+     * @param replacement the node to link in its place, possibly null
+     */
+    private void replaceChild(RedBlackNode<T> node,
+                              RedBlackNode<T> replacement) {
+        RedBlackNode<T> parent = node.getParent();
+        if (replacement != null) {
+            replacement.setParent(parent);
+        }
+        if (parent == null) {
+            root = replacement;
+        } else if (parent.getLeft() == node) {
+            parent.setLeft(replacement);
+        } else {
+            parent.setRight(replacement);
+        }
+        node.setParent(null);
+    }
+
+    /**
+     * Rotates node's right child up into node's place.
+     *
+     * @param node the node to rotate down to the left
+     */
+    private void rotateLeft(RedBlackNode<T> node) {
+        RedBlackNode<T> pivot = node.getRight();
+        node.setRight(pivot.getLeft());
+        if (pivot.getLeft() != null) {
+            pivot.getLeft().setParent(node);
+        }
+        replaceChild(node, pivot);
+        pivot.setLeft(node);
+        node.setParent(pivot);
+        rotations++;
+    }
+
+    /**
+     * Rotates node's left child up into node's place.
+     *
+     * @param node the node to rotate down to the right
+     */
+    private void rotateRight(RedBlackNode<T> node) {
+        RedBlackNode<T> pivot = node.getLeft();
+        node.setLeft(pivot.getRight());
+        if (pivot.getRight() != null) {
+            pivot.getRight().setParent(node);
+        }
+        replaceChild(node, pivot);
+        pivot.setRight(node);
+        node.setParent(pivot);
+        rotations++;
+    }
+}
@@ -0,0 +1,153 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for RedBlackTree.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class RedBlackTreeStudentTests {
+    private static final int TIMEOUT = 200;
+    private RedBlackTree<Integer> tree;
+
+    @Before
+    public void setup() {
+        tree = new RedBlackTree<>();
+    }
+
+    /**
+     * Checks the red-black properties below node and returns its black
+     * height.
+     *
+     * @param node the root of the subtree
+     * @param low  the data the subtree must be greater than, or null
+     * @param high the data the subtree must be less than, or null
+     * @return the number of black nodes on every path down to a null
+     */
+    private static int checkRedBlack(RedBlackNode<Integer> node,
+                                     Integer low, Integer high) {
+        if (node == null) {
+            return 1;
+        }
+        assertTrue(low == null || node.getData() > low);
+        assertTrue(high == null || node.getData() < high);
+        for (RedBlackNode<Integer> child
+            : Arrays.asList(node.getLeft(), node.getRight())) {
+            if (child != null) {
+                assertSame(node, child.getParent());
+                assertFalse("red node " + node + " has a red child",
+                    node.isRed() && child.isRed());
+            }
+        }
+        int left = checkRedBlack(node.getLeft(), low, node.getData());
+        int right = checkRedBlack(node.getRight(), node.getData(), high);
+        assertEquals("black heights differ below " + node, left, right);
+        return left + (node.isRed() ? 0 : 1);
+    }
+
+    /**
+     * Checks that the tree is a valid red-black tree holding expected.
+     *
+     * @param expected the data the tree should hold
+     */
+    private void checkTree(TreeSet<Integer> expected) {
+        if (tree.getRoot() != null) {
+            assertFalse(tree.getRoot().isRed());
+            assertNull(tree.getRoot().getParent());
+        }
+        checkRedBlack(tree.getRoot(), null, null);
+        List<Integer> actual = new ArrayList<>();
+        for (Integer data : tree) {
+            actual.add(data);
+        }
+        assertEquals(new ArrayList<>(expected), actual);
+        assertEquals(expected.size(), tree.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddInOrderStaysBalanced() {
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 1023; i++) {
+            tree.add(i);
+            expected.add(i);
+        }
+        checkTree(expected);
+        // a red-black tree is at most 2 log2(n + 1) tall
+        assertTrue(tree.height() <= 20);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRandomOperationsMatchTreeSet() {
+        Random random = new Random(1332);
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 2000; i++) {
+            Integer data = random.nextInt(300);
+            if (random.nextBoolean()) {
+                tree.add(data);
+                expected.add(data);
+            } else if (expected.remove(data)) {
+                assertEquals(data, tree.remove(data));
+            } else {
+                assertFalse(tree.contains(data));
+            }
+            if (i % 50 == 0) {
+                checkTree(expected);
+            }
+        }
+        checkTree(expected);
+        assertEquals(new ArrayList<>(expected.subSet(100, false, 200, false)),
+            tree.sortedInBetween(100, 200));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRotationsPerUpdateAreBounded() {
+        for (int i = 0; i < 1000; i++) {
+            long before = tree.getRotationCount();
+            tree.add(i);
+            assertTrue(tree.getRotationCount() - before <= 2);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            long before = tree.getRotationCount();
+            tree.remove(i);
+            assertTrue(tree.getRotationCount() - before <= 3);
+        }
+        assertEquals(500, tree.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGetReturnsStoredData() {
+        Integer stored = new Integer(1332);
+        tree.add(stored);
+        tree.add(new Integer(1332));
+        assertEquals(1, tree.size());
+        assertSame(stored, tree.get(new Integer(1332)));
+        assertSame(stored, tree.remove(new Integer(1332)));
+        assertNull(tree.getRoot());
+        assertEquals(-1, tree.height());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveMissing() {
+        tree.add(1);
+        tree.remove(2);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        tree.add(null);
+    }
+}
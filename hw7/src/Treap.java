@@ -0,0 +1,417 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * A randomized treap with the same API as AVL.
+ *
+ * Every node gets a random priority when it is added, and the tree is kept
+ * in heap order on the priorities as well as in BST order on the data.
+ * The shape is then the one a BST would have if the data had been added in
+ * random order, so the expected height is O(log n) whatever order the data
+ * really arrives in. No balance information is stored or checked: an add
+ * rotates the new leaf up past parents of lower priority, an expected
+ * fewer than two rotations, and a remove rotates the node down until it is
+ * a leaf before cutting it off.
+ *
+ * Like AVL, removed data with two children is replaced from below, here by
+ * rotating the child of higher priority up.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ * @userid ahennessy6
+ * @GTID 903309743
+ */
+public class Treap<T extends Comparable<? super T>> implements Iterable<T> {
+
+    private final Random random;
+    private TreapNode<T> root;
+    private int size;
+    private long rotations;
+
+    /**
+     * Constructs a new, empty Treap with randomly seeded priorities.
+     */
+    public Treap() {
+        this.random = new Random();
+    }
+
+    /**
+     * Constructs a new, empty Treap whose priorities come from the given
+     * seed, so that the same adds always give the same shape.
+     *
+     * @param seed the seed for the priorities
+     */
+    public Treap(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Initializes the treap with the data in the Collection, added in the
+     * order it appears in the Collection.
+     *
+     * @param data the data to add to the tree
+     * @throws IllegalArgumentException if data or any element in data is null
+     */
+    public Treap(Collection<T> data) {
+        this();
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot create a tree from a "
+                + "null collection");
+        }
+        for (T item : data) {
+            if (item == null) {
+                throw new IllegalArgumentException("Cannot add null data "
+                    + "from the collection to the tree");
+            }
+            add(item);
+        }
+    }
+
+    /**
+     * Adds the data as a leaf with a random priority and rotates it up
+     * while its priority is higher than its parent's. If the data is already
+     * in the tree nothing is done.
+     * <p>
+     * Should run in expected O(log n).
+     *
+     * @param data the data to be added
+     * @throws java.lang.IllegalArgumentException if the data is null
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("You can't put null data in "
+                + "the tree");
+        }
+        root = add(data, root);
+    }
+
+    /**
+     * Private helper method for add.
+     *
+     * @param data the data to be added
+     * @param node the root of the subtree to add to
+     * @return the new root of the subtree
+     */
+    private TreapNode<T> add(T data, TreapNode<T> node) {
+        if (node == null) {
+            size++;
+            return new TreapNode<>(data, random.nextInt());
+        }
+        int compare = data.compareTo(node.getData());
+        if (compare < 0) {
+            node.setLeft(add(data, node.getLeft()));
+            if (node.getLeft().getPriority() > node.getPriority()) {
+                return rotateRight(node);
+            }
+        } else if (compare > 0) {
+            node.setRight(add(data, node.getRight()));
+            if (node.getRight().getPriority() > node.getPriority()) {
+                return rotateLeft(node);
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Removes the data from the tree by rotating its node down below its
+     * higher-priority child until it has at most one child, then splicing
+     * it out.
+     * <p>
+     * Should run in expected O(log n).
+     *
+     * @param data the data to remove from the tree
+     * @return the data removed from the tree, which is the data that was
+     * stored in the tree rather than the parameter
+     * @throws IllegalArgumentException         if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     */
+    public T remove(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data you are "
+                + "trying to remove is null");
+        }
+        TreapNode<T> node = find(data);
+        if (node == null) {
+            throw new NoSuchElementException("Element "
+                + "in tree not found");
+        }
+        root = remove(data, root);
+        size--;
+        return node.getData();
+    }
+
+    /**
+     * Private helper method for remove. The data must be in the subtree.
+     *
+     * @param data the data to remove
+     * @param node the root of the subtree to remove from
+     * @return the new root of the subtree
+     */
+    private TreapNode<T> remove(T data, TreapNode<T> node) {
+        int compare = data.compareTo(node.getData());
+        if (compare < 0) {
+            node.setLeft(remove(data, node.getLeft()));
+            return node;
+        } else if (compare > 0) {
+            node.setRight(remove(data, node.getRight()));
+            return node;
+        } else if (node.getLeft() == null) {
+            return node.getRight();
+        } else if (node.getRight() == null) {
+            return node.getLeft();
+        } else if (node.getLeft().getPriority()
+            > node.getRight().getPriority()) {
+            TreapNode<T> top = rotateRight(node);
+            top.setRight(remove(data, node));
+            return top;
+        } else {
+            TreapNode<T> top = rotateLeft(node);
+            top.setLeft(remove(data, node));
+            return top;
+        }
+    }
+
+    /**
+     * Returns the data in the tree equal to the given data.
+     * <p>
+     * Should run in expected O(log n).
+     *
+     * @param data the data to search for in the tree
+     * @return the data stored in the tree equal to the parameter
+     * @throws IllegalArgumentException         if the data is null
+     * @throws java.util.NoSuchElementException if the data is not found
+     */
+    public T get(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Null data cannot be "
+                + "searched for in the tree");
+        }
+        TreapNode<T> node = find(data);
+        if (node == null) {
+            throw new NoSuchElementException("Data could not be found");
+        }
+        return node.getData();
+    }
+
+    /**
+     * Returns whether data equal to the given data is in the tree.
+     * <p>
+     * Should run in expected O(log n).
+     *
+     * @param data the data to search for in the tree
+     * @return whether the data is in the tree
+     * @throws IllegalArgumentException if the data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Null data cannot be "
+                + "searched for in the tree");
+        }
+        return find(data) != null;
+    }
+
+    /**
+     * Returns a sorted list of the data that is {@code > data1} and
+     * {@code < data2}.
+     * <p>
+     * Should run in expected O(log n + k), where k is the size of the
+     * result.
+     *
+     * @param data1 the smaller data in the threshold
+     * @param data2 the larger data in the threshold
+     * @return a sorted list of data that is > data1 and < data2
+     * @throws java.lang.IllegalArgumentException if data1 or data2 are null
+     *                                            or if data1 > data2
+     */
+    public List<T> sortedInBetween(T data1, T data2) {
+        if (data1 == null || data2 == null) {
+            throw new IllegalArgumentException("Cannot query a range with a "
+                + "null bound");
+        }
+        if (data1.compareTo(data2) > 0) {
+            throw new IllegalArgumentException("data 1 is larger "
+                + "than data 2 therfore does not follow bound restrictions");
+        }
+        List<T> output = new ArrayList<>();
+        sortedInBetweenHelper(root, data1, data2, output);
+        return output;
+    }
+
+    /**
+     * Private helper method for sortedInBetween. Walks in order, skipping
+     * subtrees that lie entirely outside the bounds.
+     *
+     * @param node   the root of the subtree
+     * @param data1  the lower threshold
+     * @param data2  the higher threshold
+     * @param output the list being built
+     */
+    private void sortedInBetweenHelper(TreapNode<T> node, T data1, T data2,
+                                       List<T> output) {
+        if (node == null) {
+            return;
+        }
+        if (node.getData().compareTo(data1) <= 0) {
+            sortedInBetweenHelper(node.getRight(), data1, data2, output);
+        } else if (node.getData().compareTo(data2) >= 0) {
+            sortedInBetweenHelper(node.getLeft(), data1, data2, output);
+        } else {
+            sortedInBetweenHelper(node.getLeft(), data1, data2, output);
+            output.add(node.getData());
+            sortedInBetweenHelper(node.getRight(), data1, data2, output);
+        }
+    }
+
+    /**
+     * Returns a lazy iterator over the data in order, using O(height)
+     * memory.
+     * <p>
+     * The tree must not be changed while the iterator is in use.
+     *
+     * @return an iterator over the data from smallest to largest
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Deque<TreapNode<T>> stack = new ArrayDeque<>();
+        for (TreapNode<T> node = root; node != null; node = node.getLeft()) {
+            stack.push(node);
+        }
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (stack.isEmpty()) {
+                    throw new NoSuchElementException("The iteration has no "
+                        + "more elements");
+                }
+                TreapNode<T> node = stack.pop();
+                for (TreapNode<T> child = node.getRight(); child != null;
+                     child = child.getLeft()) {
+                    stack.push(child);
+                }
+                return node.getData();
+            }
+        };
+    }
+
+    /**
+     * Clears the tree. The rotation count is kept.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the height of the root of the tree. Heights are not stored,
+     * so this walks the tree level by level.
+     * <p>
+     * Should be calculated in O(n).
+     *
+     * @return the height of the root of the tree, -1 if the tree is empty
+     */
+    public int height() {
+        int height = -1;
+        Deque<TreapNode<T>> level = new ArrayDeque<>();
+        if (root != null) {
+            level.add(root);
+        }
+        while (!level.isEmpty()) {
+            height++;
+            for (int i = level.size(); i > 0; i--) {
+                TreapNode<T> node = level.poll();
+                if (node.getLeft() != null) {
+                    level.add(node.getLeft());
+                }
+                if (node.getRight() != null) {
+                    level.add(node.getRight());
+                }
+            }
+        }
+        return height;
+    }
+
+    /**
+     * Returns the number of data in the tree.
+     *
+     * @return number of items in the tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of single rotations done since the tree was
+     * created, for comparing rebalancing work with AVL and RedBlackTree.
+     *
+     * @return the number of rotations
+     */
+    public long getRotationCount() {
+        return rotations;
+    }
+
+    /**
+     * Returns the root of the tree.
+     *
+     * @return the root of the tree
+     */
+    public TreapNode<T> getRoot() {
+        return root;
+    }
+
+    /**
+     * Looks for the node holding data.
+     *
+     * @param data the data to look for
+     * @return the node holding data, or null if there is none
+     */
+    private TreapNode<T> find(T data) {
+        TreapNode<T> current = root;
+        while (current != null) {
+            int compare = data.compareTo(current.getData());
+            if (compare == 0) {
+                return current;
+            }
+            current = compare < 0 ? current.getLeft() : current.getRight();
+        }
+        return null;
+    }
+
+    /**
+     * Rotates node's right child up into node's place.
+     *
+     * @param node the node to rotate down to the left
+     * @return the new root of the subtree
+     */
+    private TreapNode<T> rotateLeft(TreapNode<T> node) {
+        TreapNode<T> pivot = node.getRight();
+        node.setRight(pivot.getLeft());
+        pivot.setLeft(node);
+        rotations++;
+        return pivot;
+    }
+
+    /**
+     * Rotates node's left child up into node's place.
+     *
+     * @param node the node to rotate down to the right
+     * @return the new root of the subtree
+     */
+    private TreapNode<T> rotateRight(TreapNode<T> node) {
+        TreapNode<T> pivot = node.getLeft();
+        node.setLeft(pivot.getRight());
+        pivot.setRight(node);
+        rotations++;
+        return pivot;
+    }
+}
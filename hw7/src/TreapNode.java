@@ -0,0 +1,104 @@
+/**
+ * This class represents a node in a Treap.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class TreapNode<T extends Comparable<? super T>> {
+    private T data;
+    private TreapNode<T> left;
+    private TreapNode<T> right;
+    private int priority;
+
+    /**
+     * Create a node with the specified data and priority.
+     *
+     * @param data     the data to be stored in this node
+     * @param priority the heap priority of this node
+     */
+    public TreapNode(T data, int priority) {
+        this.data = data;
+        this.priority = priority;
+    }
+
+    /**
+     * Get the data of this node.
+     *
+     * @return data of this node
+     */
+    public T getData() {
+        return data;
+    }
+
+    /**
+     * Set the data of this node.
+     *
+     * @param data data of this node
+     */
+    public void setData(T data) {
+        this.data = data;
+    }
+
+    /**
+     * Get the left child of this node.
+     *
+     * @return left child of this node
+     */
+    public TreapNode<T> getLeft() {
+        return left;
+    }
+
+    /**
+     * Set the left child of this node.
+     *
+     * @param left left child of this node
+     */
+    public void setLeft(TreapNode<T> left) {
+        this.left = left;
+    }
+
+    /**
+     * Get the right child of this node.
+     *
+     * @return right child of this node
+     */
+    public TreapNode<T> getRight() {
+        return right;
+    }
+
+    /**
+     * Set the right child of this node.
+     *
+     * @param right right child of this node
+     */
+    public void setRight(TreapNode<T> right) {
+        this.right = right;
+    }
+
+    /**
+     * Get the heap priority of this node.
+     *
+     * @return heap priority of this node
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Set the heap priority of this node.
+     *
+     * @param priority heap priority of this node
+     */
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * DO NOT USE EXCEPT FOR DEBUGGING PURPOSES
+     */
+    @Override
+    public String toString() {
+        return String.format("Node containing %s (priority %d)",
+                data.toString(), priority);
+    }
+}
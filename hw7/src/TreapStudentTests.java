@@ -0,0 +1,140 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for Treap.
+ *
+ * @author Andrew Hennessy
+ * @version 1.0
+ */
+public class TreapStudentTests {
+    private static final int TIMEOUT = 200;
+    private Treap<Integer> treap;
+
+    @Before
+    public void setup() {
+        treap = new Treap<>(1332L);
+    }
+
+    /**
+     * Checks BST order on the data and heap order on the priorities below
+     * node.
+     *
+     * @param node the root of the subtree
+     * @param low  the data the subtree must be greater than, or null
+     * @param high the data the subtree must be less than, or null
+     */
+    private static void checkTreap(TreapNode<Integer> node, Integer low,
+                                   Integer high) {
+        if (node == null) {
+            return;
+        }
+        assertTrue(low == null || node.getData() > low);
+        assertTrue(high == null || node.getData() < high);
+        if (node.getLeft() != null) {
+            assertTrue(node.getLeft().getPriority() <= node.getPriority());
+        }
+        if (node.getRight() != null) {
+            assertTrue(node.getRight().getPriority() <= node.getPriority());
+        }
+        checkTreap(node.getLeft(), low, node.getData());
+        checkTreap(node.getRight(), node.getData(), high);
+    }
+
+    /**
+     * Checks that the treap is valid and holds expected.
+     *
+     * @param expected the data the treap should hold
+     */
+    private void checkTreap(TreeSet<Integer> expected) {
+        checkTreap(treap.getRoot(), null, null);
+        List<Integer> actual = new ArrayList<>();
+        for (Integer data : treap) {
+            actual.add(data);
+        }
+        assertEquals(new ArrayList<>(expected), actual);
+        assertEquals(expected.size(), treap.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddInOrderStaysShallow() {
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 1000; i++) {
+            treap.add(i);
+            expected.add(i);
+        }
+        checkTreap(expected);
+        // expected height is about 3 log2(n); a plain BST would be 999
+        assertTrue(treap.height() < 60);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRandomOperationsMatchTreeSet() {
+        Random random = new Random(1332);
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 2000; i++) {
+            Integer data = random.nextInt(300);
+            if (random.nextBoolean()) {
+                treap.add(data);
+                expected.add(data);
+            } else if (expected.remove(data)) {
+                assertEquals(data, treap.remove(data));
+            } else {
+                assertFalse(treap.contains(data));
+            }
+            if (i % 50 == 0) {
+                checkTreap(expected);
+            }
+        }
+        checkTreap(expected);
+        assertEquals(new ArrayList<>(expected.subSet(100, false, 200, false)),
+            treap.sortedInBetween(100, 200));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSameSeedGivesSameShape() {
+        Treap<Integer> other = new Treap<>(1332L);
+        for (int i = 0; i < 100; i++) {
+            treap.add(i);
+            other.add(i);
+        }
+        assertEquals(treap.getRoot().getData(), other.getRoot().getData());
+        assertEquals(treap.height(), other.height());
+        assertEquals(treap.getRotationCount(), other.getRotationCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGetReturnsStoredData() {
+        Integer stored = new Integer(1332);
+        treap.add(stored);
+        treap.add(new Integer(1332));
+        assertEquals(1, treap.size());
+        assertSame(stored, treap.get(new Integer(1332)));
+        assertSame(stored, treap.remove(new Integer(1332)));
+        assertNull(treap.getRoot());
+        assertEquals(-1, treap.height());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveMissing() {
+        treap.add(1);
+        treap.remove(2);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        treap.add(null);
+    }
+}